@@ -12,6 +12,7 @@ import com.iota.iri.model.Transaction;
 import com.iota.iri.service.storage.StorageBundle;
 import com.iota.iri.service.storage.StorageTransactions;
 import com.iota.iri.utils.Converter;
+import com.iota.iri.utils.LongIterator;
 
 /**
  * A bundle is a group of transactions that follow each other from
@@ -123,7 +124,9 @@ public class Bundle {
 
     private Map<Long, Transaction> loadTransactionsFromTangle(final long bundlePointer) {
         final Map<Long, Transaction> bundleTransactions = new HashMap<>();
-        for (final long transactionPointer : StorageBundle.instance().bundleTransactions(bundlePointer)) {
+        final LongIterator transactionPointers = StorageBundle.instance().bundleTransactions(bundlePointer);
+        while (transactionPointers.hasNext()) {
+            final long transactionPointer = transactionPointers.next();
             bundleTransactions
                 .put(transactionPointer, StorageTransactions.instance()
                 .loadTransaction(transactionPointer));
@@ -14,7 +14,9 @@ import com.iota.iri.conf.Configuration;
 import com.iota.iri.conf.Configuration.DefaultConfSettings;
 import com.iota.iri.service.API;
 import com.iota.iri.service.Node;
+import com.iota.iri.service.LedgerState;
 import com.iota.iri.service.TipsManager;
+import com.iota.iri.service.TransactionRequester;
 import com.iota.iri.service.storage.Storage;
 import com.sanityinc.jargs.CmdLineParser;
 import com.sanityinc.jargs.CmdLineParser.Option;
@@ -47,6 +49,8 @@ public class IRI {
             Storage.instance().init();
             Node.instance().init();
             TipsManager.instance().init();
+            TransactionRequester.instance().init();
+            LedgerState.instance().init();
             API.instance().init();
 
         } catch (final Exception e) {
@@ -169,6 +173,8 @@ public class IRI {
 
                 API.instance().shutDown();
                 TipsManager.instance().shutDown();
+                TransactionRequester.instance().shutDown();
+                LedgerState.instance().shutDown();
                 Node.instance().shutdown();
                 Storage.instance().shutdown();
 
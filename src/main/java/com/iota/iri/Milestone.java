@@ -1,21 +1,18 @@
 package com.iota.iri;
 
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.iota.iri.hash.Curl;
 import com.iota.iri.hash.ISS;
 import com.iota.iri.model.Hash;
 import com.iota.iri.model.Transaction;
+import com.iota.iri.service.DagWalker;
+import com.iota.iri.service.storage.IndexStorage;
 import com.iota.iri.service.storage.Storage;
 import com.iota.iri.service.storage.StorageAddresses;
-import com.iota.iri.service.storage.StorageScratchpad;
 import com.iota.iri.service.storage.AbstractStorage;
 import com.iota.iri.service.storage.StorageTransactions;
 import com.iota.iri.utils.Converter;
@@ -32,98 +29,101 @@ public class Milestone {
     public static int latestMilestoneIndex = MILESTONE_START_INDEX;
     public static int latestSolidSubtangleMilestoneIndex = MILESTONE_START_INDEX;
 
-    private static final Set<Long> analyzedMilestoneCandidates = new HashSet<>();
+    private static long milestoneCandidatesPosition; // Where the walk along the transactions of the coordinator stopped
     private static final Map<Integer, Hash> milestones = new ConcurrentHashMap<>();
 
     public static void updateLatestMilestone() { // refactor
 
-        for (final Long pointer : StorageAddresses.instance().addressesOf(COORDINATOR)) {
+        final IndexStorage.Cursor milestoneCandidates = StorageAddresses.instance().addressTransactions(StorageAddresses.instance().addressPointer(COORDINATOR.bytes()), milestoneCandidatesPosition);
+        while (milestoneCandidates.hasNext()) {
 
-            if (analyzedMilestoneCandidates.add(pointer)) {
+            final long pointer = milestoneCandidates.next();
+            final Transaction transaction = StorageTransactions.instance().loadTransaction(pointer);
+            if (transaction.currentIndex == 0) {
 
-                final Transaction transaction = StorageTransactions.instance().loadTransaction(pointer);
-                if (transaction.currentIndex == 0) {
+                final int index = (int) Converter.longValue(transaction.trits(), Transaction.TAG_TRINARY_OFFSET, 15);
+                if (index > latestMilestoneIndex) {
 
-                    final int index = (int) Converter.longValue(transaction.trits(), Transaction.TAG_TRINARY_OFFSET, 15);
-                    if (index > latestMilestoneIndex) {
+                    final Bundle bundle = new Bundle(transaction.bundle);
+                    for (final List<Transaction> bundleTransactions : bundle.getTransactions()) {
 
-                        final Bundle bundle = new Bundle(transaction.bundle);
-                        for (final List<Transaction> bundleTransactions : bundle.getTransactions()) {
+                        if (bundleTransactions.get(0).pointer == transaction.pointer) {
 
-                            if (bundleTransactions.get(0).pointer == transaction.pointer) {
+                            final Transaction transaction2 = StorageTransactions.instance().loadTransaction(transaction.trunkTransactionPointer);
+                            if (transaction2.type == AbstractStorage.FILLED_SLOT
+                                    && transaction.branchTransactionPointer == transaction2.trunkTransactionPointer) {
 
-                                final Transaction transaction2 = StorageTransactions.instance().loadTransaction(transaction.trunkTransactionPointer);
-                                if (transaction2.type == AbstractStorage.FILLED_SLOT
-                                        && transaction.branchTransactionPointer == transaction2.trunkTransactionPointer) {
+                                final int[] trunkTransactionTrits = new int[Transaction.TRUNK_TRANSACTION_TRINARY_SIZE];
+                                Converter.getTrits(transaction.trunkTransaction(), trunkTransactionTrits);
+                                final int[] signatureFragmentTrits = Arrays.copyOfRange(transaction.trits(), Transaction.SIGNATURE_MESSAGE_FRAGMENT_TRINARY_OFFSET, Transaction.SIGNATURE_MESSAGE_FRAGMENT_TRINARY_OFFSET + Transaction.SIGNATURE_MESSAGE_FRAGMENT_TRINARY_SIZE);
 
-                                    final int[] trunkTransactionTrits = new int[Transaction.TRUNK_TRANSACTION_TRINARY_SIZE];
-                                    Converter.getTrits(transaction.trunkTransaction, trunkTransactionTrits);
-                                    final int[] signatureFragmentTrits = Arrays.copyOfRange(transaction.trits(), Transaction.SIGNATURE_MESSAGE_FRAGMENT_TRINARY_OFFSET, Transaction.SIGNATURE_MESSAGE_FRAGMENT_TRINARY_OFFSET + Transaction.SIGNATURE_MESSAGE_FRAGMENT_TRINARY_SIZE);
+                                final int[] hash = ISS.address(ISS.digest(Arrays.copyOf(ISS.normalizedBundle(trunkTransactionTrits), ISS.NUMBER_OF_FRAGMENT_CHUNKS), signatureFragmentTrits));
 
-                                    final int[] hash = ISS.address(ISS.digest(Arrays.copyOf(ISS.normalizedBundle(trunkTransactionTrits), ISS.NUMBER_OF_FRAGMENT_CHUNKS), signatureFragmentTrits));
+                                int indexCopy = index;
+                                for (int i = 0; i < 20; i++) {
 
-                                    int indexCopy = index;
-                                    for (int i = 0; i < 20; i++) {
-
-                                        final Curl curl = new Curl();
-                                        if ((indexCopy & 1) == 0) {
-                                            curl.absorb(hash, 0, hash.length);
-                                            curl.absorb(transaction2.trits(), i * Curl.HASH_LENGTH, Curl.HASH_LENGTH);
-                                        } else {
-                                            curl.absorb(transaction2.trits(), i * Curl.HASH_LENGTH, Curl.HASH_LENGTH);
-                                            curl.absorb(hash, 0, hash.length);
-                                        }
-                                        curl.squeeze(hash, 0, hash.length);
-
-                                        indexCopy >>= 1;
+                                    final Curl curl = new Curl();
+                                    if ((indexCopy & 1) == 0) {
+                                        curl.absorb(hash, 0, hash.length);
+                                        curl.absorb(transaction2.trits(), i * Curl.HASH_LENGTH, Curl.HASH_LENGTH);
+                                    } else {
+                                        curl.absorb(transaction2.trits(), i * Curl.HASH_LENGTH, Curl.HASH_LENGTH);
+                                        curl.absorb(hash, 0, hash.length);
                                     }
+                                    curl.squeeze(hash, 0, hash.length);
 
-                                    if ((new Hash(hash)).equals(COORDINATOR)) {
+                                    indexCopy >>= 1;
+                                }
 
-                                        latestMilestone = new Hash(transaction.hash, 0, Transaction.HASH_SIZE);
-                                        latestMilestoneIndex = index;
+                                if ((new Hash(hash)).equals(COORDINATOR)) {
 
-                                        milestones.put(latestMilestoneIndex, latestMilestone);
-                                    }
+                                    latestMilestone = new Hash(transaction.hash, 0, Transaction.HASH_SIZE);
+                                    latestMilestoneIndex = index;
+
+                                    milestones.put(latestMilestoneIndex, latestMilestone);
                                 }
-                                break;
                             }
+                            break;
                         }
                     }
                 }
             }
         }
+        milestoneCandidatesPosition = milestoneCandidates.position();
     }
 
-    public static void updateLatestSolidSubtangleMilestone() {
+    public static Hash lowestUnsolidMilestone() { // Returns null if all the milestones found are solid
 
-        for (int milestoneIndex = latestMilestoneIndex; milestoneIndex > latestSolidSubtangleMilestoneIndex; milestoneIndex--) {
+        for (int milestoneIndex = latestSolidSubtangleMilestoneIndex + 1; milestoneIndex <= latestMilestoneIndex; milestoneIndex++) {
 
             final Hash milestone = milestones.get(milestoneIndex);
             if (milestone != null) {
+                return milestone;
+            }
+        }
+        return null;
+    }
 
-                boolean solid = true;
+    public static void updateLatestSolidSubtangleMilestone() {
 
-                synchronized (StorageScratchpad.instance().getAnalyzedTransactionsFlags()) {
+        for (int milestoneIndex = latestMilestoneIndex; milestoneIndex > latestSolidSubtangleMilestoneIndex; milestoneIndex--) {
 
-                	StorageScratchpad.instance().clearAnalyzedTransactionsFlags();
+            final Hash milestone = milestones.get(milestoneIndex);
+            if (milestone != null) {
 
-                    final Queue<Long> nonAnalyzedTransactions = new LinkedList<>();
-                    nonAnalyzedTransactions.offer(StorageTransactions.instance().transactionPointer(milestone.bytes()));
-                    Long pointer;
-                    while ((pointer = nonAnalyzedTransactions.poll()) != null) {
+                final long milestonePointer = StorageTransactions.instance().transactionPointer(milestone.bytes());
+                boolean solid = StorageTransactions.instance().solid(milestonePointer);
 
-                        if (StorageScratchpad.instance().setAnalyzedTransactionFlag(pointer)) {
+                if (!solid && !Storage.instance().solidityTracked()) { // The flags of the transactions stored by an older version are still being set
 
-                            final Transaction transaction2 = StorageTransactions.instance().loadTransaction(pointer);
-                            if (transaction2.type == AbstractStorage.PREFILLED_SLOT) {
-                                solid = false;
-                                break;
+                    solid = true;
+                    final DagWalker walker = DagWalker.past(milestonePointer);
+                    Transaction transaction2;
+                    while ((transaction2 = walker.next()) != null) {
 
-                            } else {
-                                nonAnalyzedTransactions.offer(transaction2.trunkTransactionPointer);
-                                nonAnalyzedTransactions.offer(transaction2.branchTransactionPointer);
-                            }
+                        if (transaction2.type == AbstractStorage.PREFILLED_SLOT) {
+                            solid = false;
+                            break;
                         }
                     }
                 }
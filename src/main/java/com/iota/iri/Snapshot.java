@@ -1,673 +1,242 @@
-package com.iota.iri;
-
-import com.iota.iri.model.Hash;
-import java.util.HashMap;
-import java.util.Map;
-
-
-public class Snapshot {
-
-    public static final Map<Hash, Long> initialState = new HashMap<>();
-
-    static {
-
-        initialState.put(Hash.NULL_HASH, 1096393528376314L);
-        initialState.put(new Hash("LEDHDRKKTDI9FE9EXFFBICSDPJMIRYVHALYNPFJQEMJDMKH9I9WLAJMS9EXPXKGZSNLMERNHJLPELGSWF"), 3500000000000L);
-        initialState.put(new Hash("TGWGWCLOCAIMFAGZTHMEWJFOENOB9WOBAVYEVKXAXJYNFEVVMVZBZKSMMCAVTAAIYFXVXZRRYSQW9YCA9"), 500039211994L);
-        initialState.put(new Hash("EWUCMBYRBVMZTHDFKLNKDKFTTDTCVTQAPOIFHVOEJGILOWOODOJLZGPDFXZXOL9UBXRPBXVCGPUZOUVWG"), 9L);
-        initialState.put(new Hash("ZVBMYPJMZXEYGIP9YDBQCDNFNHTOTLUIKTMARAHVUSEQZKPBMIJAN99FDAJEDUCMQRXKCTPUAMV9KDGWI"), 4636999926461L);
-        initialState.put(new Hash("9AEJBZMIVFISTWEOMOTEFPTYAFTNNJWQKGA9CDAZLM9IFYLOWPYISJTRZFJY9Q9EMXZVC9JEHFOHSCSHS"), 310099998L);
-        initialState.put(new Hash("ZIRMVTMZIPIDEKPTYWNHLKOOJJRGHGUEUUGAZIZCXMHAFJMBSYXK9NNIBZKMLGWZELHSRDFIYWREZXKIG"), 84385900000L);
-        initialState.put(new Hash("DEFRYUCHOMHFNIBZDSMMRGRGLFZEVNPFMFPSOWYNMQCAOSD9WMBNETMEQVAWPZCQWVSQVVSJJEBWZCCML"), 10500000000000L);
-        initialState.put(new Hash("PXUC9DMGLAJNNUIYOFCJSYGZIVOXJWBPHHXRSEDBVKM9DNAXAXICJQGJYDPAVLZYBLDLLCFS9AWLPWDFF"), 220277224999L);
-        initialState.put(new Hash("MGPWLPA9TIRPZCWGA9XJNNDELCSVOMNOOFH9TULHISIMFPNXZIZMUFQRAXIQWFFMSQHARPDSUNFXOLQLS"), 2170668223198L);
-        initialState.put(new Hash("SOZGKZFFOSPFAI9AHDCJDPEQLMCFOCGEGYMFXMTFSLKVPSDG9XOQMUOU9OXOPAWCTELIJAMFGWYSYUCEI"), 1000000000L);
-        initialState.put(new Hash("GHYTRGGAGECYNWDCPWQPUJJOT9RTWRKJLKUCCPFFRXGOMZQJVQHDJFUJWYZMRJBKSTLZDQBUY9WXNYJT9"), 185116402610L);
-        initialState.put(new Hash("OQRQSYKFXOXQTBTHPPH9AQNHOBZMUDEXFUFFFO9RSOACQKPTYEREROPZZZNVRAXWCSJTVLMUTNIXAJB9S"), 50000000000L);
-        initialState.put(new Hash("ROCZMNPG9LNGXNGSRBGPQSZUHZQCME9UMFBWGYUWPRHQYJXKNUWCJXLYU9TGMKDGAWFZORMQIUUNRYXLY"), 83906197280L);
-        initialState.put(new Hash("NPIOLQHNBOZGGLCMIBOXKNDGOIWFTRDSMYFWBLDUCKSIBZZZHLBTKTDPHKUJQQN9BKGGJWXBGZMDWZZKZ"), 2839942910742L);
-        initialState.put(new Hash("AWMIYMRXFUIPEFUIIEXKJJ9YFSPB9RLTIKHDMJCLJCVDXOSOKDRADCMOT9QIYVUMZPBDQVMDZWPRXYHGR"), 1099482735027L);
-        initialState.put(new Hash("WCHOSCCGBRYWBZVTUSGZMDAIOLZA9UB9UJTNDYKROODDVISGRRJREVMFAAMXMNGQCYWUTLQUVZHTQIAGQ"), 15010299900L);
-        initialState.put(new Hash("AUMRGLHZJXXXJYHNLHAUQZIUTKMYWXPJWIJOVYNFUFYZPQSZBKYTGK9VWI9NE9ITUXDSWFIGPMFOLNYEJ"), 11L);
-        initialState.put(new Hash("OQXJFYALRJUNYETJRZE9ASDBRKCPQOCFJRZBVVJKOOMICEANL9PMWPJ9LUAVFRK9EPMKLETIIFXQCVYQA"), 1000L);
-        initialState.put(new Hash("Q9LCGFQQHZZUSWFUZCMNGVRKTMHIWVZCHJIKWINOLTZHPGMQAPQRKDEUGCFIQGNEWJPCLJGVYFECDJBBA"), 24L);
-        initialState.put(new Hash("OUZOCORLLULFE99RHXFIEJWWMWHYEYTSHI9BMZ9UDCSUXCAYIQJAFQHNJQQZUXJSGULPAXIMDWNBTCEHL"), 100L);
-        initialState.put(new Hash("WVGUOZRBQIBVCBIOCKJLWCUXWKLNIFIFVEMKYWMZBGCBIHRXUEV9WHIVBACFVGADWYGSBMFOWNESVHNSB"), 3700000000000L);
-        initialState.put(new Hash("QDZVXTTLRFOFFRUUQZYAVYEIIBVMBDLLPEAQEEDADE9NESRLKKYKDUMJKMDMBMSYYITVXREEUGRIIPWY9"), 617523850637L);
-        initialState.put(new Hash("RKRINXAXMBQL9OFUSAPHRZHUCOJLDTKCWDEQPBPCSAVJXYTKUUQOFXRGBPQEHQHNWXFRKSEKKWSHTRRTA"), 2090000000023L);
-        initialState.put(new Hash("KJBHFWVKNVBEQPHKQNDCFNEPQM9MWVKKHSETRMNHX9WMB9LYYDAIRUHAELNY9PM9ZJEPNQCZMEHYUBKNU"), 500000000000L);
-        initialState.put(new Hash("UVMNBHGOAAMLTOGJGAVEO9UWIYGUCHVBAGCRGSXJNGILJIQSIINUFLDJYJKWBWUHTHKPBQAFZRAAVESEX"), 1367731805085L);
-        initialState.put(new Hash("EFXLXRBNWEAKMSTJSYGRMLHCYLCTCOKZWISOUZJVZRBARPXQMU9WP9TEYYVSUZQZOEUDKSJQPYTSDYYN9"), 10155719682825L);
-        initialState.put(new Hash("BZDQDGXRSYEJMPL9JOYGPQKSM9I9GPDVYCGJJEPRTEOAGJWHPTYTRZBYIEU9OWLAQVYZQJSLIPMTWAUMZ"), 222L);
-        initialState.put(new Hash("BYMTVWVMLNLRGX9ZDU9IL9ZIYNDLRGQYKEZPKEG9ZBHCKETXKKOUQIGGSHYZWHSTVBMLXHPZJQ9EEQVBJ"), 650075579695L);
-        initialState.put(new Hash("RBOYRFVLVPMOEBHRWMMTWNQZWHY9KH9QDIEFKODGVIMSQGSWMYCSXIHKDGHENEVCBZTRKBPZ9LIUXACQV"), 1975L);
-        initialState.put(new Hash("IAFAREASSXVTWADFHTBGHQLWFEQRVEVP9UCDCRKDBDAGEUYCNQBGXVKJDXRNIHGQOAKLAQTZZBHLJDCZD"), 1L);
-        initialState.put(new Hash("FUALQJ9YGJWGLVZJQEXAFXQVAJQIXYGIWKTEJVHVPGAIQDERAZOJVQLEVHRETHWI9UABD9QCT9YQJBEFF"), 13L);
-        initialState.put(new Hash("MEBUKMUATUUQVFLUSELLZLBICGXSYKKUWNYZCJLMPCJL9NXYYXUZTDEJHRBAP9BGYOWUKVQPAOXMUUEDK"), 100000000000L);
-        initialState.put(new Hash("AJXLQEDOLYREJMCQHZEQRAVCSN9EDSUETENXGZUCRDRQBIFWAOMDZFQRVVOLSGVJ9SYDWKRCKKTXWORQP"), 1422416789633L);
-        initialState.put(new Hash("QTHXTPBBOBZLZXZR9CFBLTQDKJHARGTWJOMCIYQMMYWECGYZTNET9TIEBNUDUJYIABPXGLJUIYMXWR9FV"), 236600000100L);
-        initialState.put(new Hash("RSVAWXHCURAYSTRFMVVPXFCVFN9XSNESCXFXXJVCU9UYZYSQQCNCJWZFZPZZ9SQWJLWRHABG9MFFPOMTQ"), 1L);
-        initialState.put(new Hash("T9CQKZQVR9STSJKEFIIIHAVAGEOBCWWRAU9OYLTTNWJSDQYHKVOFCZJHBVVFVQVKQWAYQSWXPUIZTJDSI"), 1L);
-        initialState.put(new Hash("YAZEY9GHRAMALI9WEZZGWOHCHLFQFZWKUJRPLDPQKCZACCIFLETTBVUJPURCZTPDFYWFBDMMRPTKSYTKO"), 1000000000L);
-        initialState.put(new Hash("OZEFPPYA9DBB9OKBQAXITFWMNEZ99UMJYWOMUDYQDZPVZICGOSMURLRJBNKSRAZRIS9OKOQAYOYNUCWJF"), 8546179500100L);
-        initialState.put(new Hash("XOPXOABRFFJMOBMVDTLOYJE9NPNTENCXSPSTGOHNEXUAHGBRABRJEKHRIBEME9SIEZMKZQRRQNCDZULOK"), 222000000000L);
-        initialState.put(new Hash("BCCLOIGDGBWAWYBHAWSEFZLTNZMNC9SQT9SDE9QLRBUXBCDOAOJUWCIFRHFZKKWUWTMDEKRAYQFABS9WW"), 250157790000L);
-        initialState.put(new Hash("FFJGSYSOBG9LRUAAB9UGFTCPZHZCDQGXTBQBNHUKUNBWLDTVCPLDFJNSFLQSF9CQFMKXBYALNYYKPRBVO"), 44L);
-        initialState.put(new Hash("MBZATBLHASFTPFXFZDPXLFMVBZRHKGXBMTEXCRSVHWKGTSY9GIKZGFDLOLLVENKECZJQKBSAUIGNOTIIZ"), 100000000000L);
-        initialState.put(new Hash("WFQDZVHOPYFUNIFCYGIXORHDSBEWHDZDQUHETJTKHEZXFUXPFKDYABDGUBYZJXUPYDOHOPTAISAJOHUMQ"), 208784701807L);
-        initialState.put(new Hash("KKMJEPKLXB9XNOKPMHPUET9VUVWLDYBTKPTYHSVOKTBGCXESVPBTGFFWNWUMBFIZDZFJHKHBKIIWMBBWU"), 6L);
-        initialState.put(new Hash("GFFFOCERLBXRZOVWYRNAJIZNUXRWNGTVRFKLXNBFQU9ZRDCSQXFH9HBCVFPIOKOZKEEWBLJGDYDVOKMNO"), 20867465230L);
-        initialState.put(new Hash("FYAAVYYCQXIRMMJNKOCITNACY9G9OEJIIWYQWFXQODDSHWMGPZPLTUKPDPBLYEUGW9QZIKIDPOBOSBKJT"), 39000000000L);
-        initialState.put(new Hash("TC9YUJQKR9CARHXXRRQASNLZSULKEDYV9SIXJWVVAHCWLIJ9GWWTP9RRXSIWHZIJYVNPXXRHFZLWBRADL"), 4731100000000L);
-        initialState.put(new Hash("PZPWZMWHVGOEXJCHEGVDZWIKLQDWUBBQCXDVVGFWYGHCQGDKJFIBNPWYONIHSJNTYUGWNOVHTCHZUQ99H"), 6600000000001L);
-        initialState.put(new Hash("RUHDVKRPBZILXIRHPOWOXZABZRDJPPDM9BVMTTMXPCXZSYUORZBUDBADGQEZJQ9UUGICXZBYSC9DLKFVK"), 1500000000000L);
-        initialState.put(new Hash("CVPVMVKEWVDRAHHDVJXNASUFTTBLKSCCAYUSRJTISXAK9OUJTTMITJWE9DHQNMWLOOFMGNTQLTKZRLNTQ"), 55000000000L);
-        initialState.put(new Hash("VWGLWPGWADBRLBOLFEMTEECWHLYMZYLMMIERZTOPVXNHVFUBHBETLACUNMIZOVDZGHYS9KFDCPIVR9VKR"), 500000000000L);
-        initialState.put(new Hash("UWZIGZGORMHZYUOQGIRSOZJEZLILZ9AYYHWBBJGFMPKWPQKCZGNCADHTUFJK9PRQG9CRZJESSWR9GXUBD"), 25001001001L);
-        initialState.put(new Hash("WKWHRIITDPKAGCSONIZQW9TBNTVUJTQUA9EZLQIIXYEHDDKWPXAZAVPYDHHXJUEMNPTLQP9SLZUQJDGPS"), 531L);
-        initialState.put(new Hash("LOAZUGHPBXEHZXV9XSZRRPARQBEMLPOKCMYUQLSNKW9NMC9SKDXVHOVNQR9FR9LPUNOFASWQTTBRYPDRY"), 213527543210L);
-        initialState.put(new Hash("RGC9TAFU9NOOOKSMEJZQLVVDFMGYWDQSU9V9PJUGAANZDRPLE9HPNNJHWRBYIYU9LTLUKXWOXBURBJEVX"), 8509033840920L);
-        initialState.put(new Hash("XDGUVJDPKVZ9TU9IYRDMUKFMSEQHDT9FEYSQFARHQMECVWZNXYPWNSZZMZWFBAOGFGWQOZHOZXKLGUUUW"), 200L);
-        initialState.put(new Hash("VPHLNNVIGB9GEKXNJGVZSYKIS9ZUPNBSZWKVZBXGYSGV9QWZTG9CVUUYLOH9RJABLXFRLDHOCEWLYI9OA"), 145999999999L);
-        initialState.put(new Hash("CSMFDMQJNABFUDMURJFLIEJBIZFZWVUGXPMJBTCLV9ZCOVIREUIOOZZLUPWMQOBYYXAPEDIHMDLMQHYAK"), 1000L);
-        initialState.put(new Hash("CVPVMNIBLCVDM9OROWSKTGVGRPCIISKSKWJGEGOVGIRHFEDDETKQJVCIGOCJJQJRBGKLAAQU9PHHIP9XB"), 3500000000000L);
-        initialState.put(new Hash("NJ9XPOFPBBHX9SEMHPRUVSLLJQUQC9IDCWBGVLFOCLBRUFVKGIHKAM9HFXWRKBGPRXNDCY9WYWMEHODKX"), 30000000000L);
-        initialState.put(new Hash("9CGQLXVXOUTIIAZIQCQRMOVCNKQKOENCQTFMDVARGMQFZMXALOAHXIBCVVQJJTPMOKQJXTEMGPAUZECSR"), 1900000000000L);
-        initialState.put(new Hash("JSQWCVRTZDLWZYDCGIFPCUAQPZAVHDDSBMPQTAKPNDEVKYO9QESHYWOJNBJBVZ9NAHHZRCJAQMULBQOMQ"), 100L);
-        initialState.put(new Hash("CPQVJQZUCUPVMHIGUBM9OCABZAGCDOAHVJTWOUAFKVZYURVRFRVC9OVPYNMTXJSNENMOWZDDEIYPFRHFZ"), 35000000000L);
-        initialState.put(new Hash("WTLRDU9QKQONPYFINEWTQ9OCAJMXCLOPKILAOTUBOPNPUWOYOSTTADFPZZUFGGKNHQRHUBDQQRZPOVSZW"), 2005089927385L);
-        initialState.put(new Hash("F9ENVYLNECZ9EYYXTYDPFEKRBHBCZ9NSWWKTJOQTYWAICOQYDEYTKPRJGYFASOOPGWQFWBHUFTQKFDASK"), 2929161770277L);
-        initialState.put(new Hash("YLWSLDBFVJIYBG9TLHTORJZZNBGQHCRUBMZBATRLEEA9YOXMYNZCZPVHMNIGGWZSCTUCODFOASN9WDQCD"), 1388765151628L);
-        initialState.put(new Hash("XGYZLIMUOBHSUANRBEZJEPA9JJYOZKJZSQDPLORQBVUYFFTVEXWHFXOADUKTPABUHKOYARLKZBDXMDMCT"), 1000L);
-        initialState.put(new Hash("WUPM9FHUCDUKUJWMQRQ9VM9AITENBATTUVOFW99JNSAUKOCUYBVTJWBIUIVGXQROXXJJTBIYSZIQCYYGH"), 633441616L);
-        initialState.put(new Hash("R9RJEFZH9YJZTDGKSZTMBCJEFPKNTDZUQRVSUVUPVKHFEYTWVMDYXCOZLCPYKCQXFDFKUPJMIKYSKQXUY"), 24381L);
-        initialState.put(new Hash("XK9GFMOEKRADL9VTZGQVUKYIHSJGOFWUHZKZANQPNSHZZJCZBGQFWSWTRFOYQPUUBHQOSJKQWDIXQQVAG"), 20000000000L);
-        initialState.put(new Hash("TZNFSEHECZWTFNZLUGDLSZ9BPNGZCLT9MHFHXKTUYYYRGOBATWZYKZYMQCPXSILKCICYJTZBCAXTARUID"), 60L);
-        initialState.put(new Hash("VLAFPAILFQFILXIJGSBPKVRNIQOPSVMVPTTKAXGEHCUAFS9WZFORAGDVHLEVEPLWOIBCLWEIPZHE9UQPS"), 10L);
-        initialState.put(new Hash("WGXKZOIGSOGYSIMGH9RVUNDWQZGFLTGQTXUUVBEJRPRECTHENXYYGFLPDRKUSXPXFTUAGDCBTO9SSIEMZ"), 23000000000L);
-        initialState.put(new Hash("NRMPGBTIVHWAJMHEOTRFGOWVSSJNYCNKSPNWNYZSW9UUETJEKSAYISML9YBSCVTGHAWCGSXVJDBGXUGWP"), 5065706519999L);
-        initialState.put(new Hash("PHXDTDLGLYLSYJIFBTHEENYKYOCHXSVYYVYIZ9KFAGKDYXKNSMOC9DHAK9BYWADKQZSBKQZBNHJ9YVDGW"), 2779530283L);
-        initialState.put(new Hash("CZECJZYLSSXNPXQIQTJQAAAHMWGSTHIHGEPGUYDVBXBXLJFDTUOZGQPKQCMPNEAVJZOEL9SWAGJJENBNE"), 6505000000000L);
-        initialState.put(new Hash("VCPKJHZYGKTJAVSTSSBWQEHCHGLTIUAY9OEFNVVCCOHAJJCCEJMGIMPIIUIZJTMDA9RWMTYFSKYCPWEBU"), 3500000000000L);
-        initialState.put(new Hash("NCTRIGZCTETP9MUNZ9TGNCYDMIGVB9ZLUMTBLTIUSUIVDRBVVULWMGZXBSBZ9FMMTWZUQNEDEAZWUERPE"), 597543574380L);
-        initialState.put(new Hash("MQWKUKAVCXZJYIMYIFRWVNYJKF9EUUCTJVOLXDFPIRVUMFFDOKNICZYQWMQXCOUTEODRHDMNHBGBHMUBB"), 1000000000000L);
-        initialState.put(new Hash("RPNDAMCLREVWLKPXQG9VJEADJFWHWIBUGIBDHOKKNNMXZQG9EHKNR9KYSMCQOBMQ9RLTIPEYLQCEWVIGP"), 653573166340L);
-        initialState.put(new Hash("PYRLTLGQ9XOXUGFPLVXRJJQDWDNQQUZDFOMBKNZGEPCWZURYLMRS9TBFFEIAPDXPNVWFFNYYYZFUUQOTT"), 20484154296856L);
-        initialState.put(new Hash("YMVERKAJUIITYWCCHFQTLUKNRTXNJAIGZQJDIBHOYLQFSQCRFFXYCKIZRYVWZMQVZEGUT9MHVUGJV9DVT"), 10L);
-        initialState.put(new Hash("IFYZIQWBAWY9MKHGHWDADIJPHPHJAYWCTY9RWEBCJFJRJXHKWI9FCHGHNZPGQ9BYCYVWHWSIUGHQEPPAR"), 55000010010L);
-        initialState.put(new Hash("HHUFTUHZRPWSYRARWPCBEGP9UKPOBIGIFCBUXVWKTAARRRVFRTKUWNGUKDPBEFRIXXK9OZZARYSDAVCOR"), 2L);
-        initialState.put(new Hash("XIHTORDWUCOGKMNMKHABV9TEWIGBUPGGVEPWJDJMLYLR9UWLEHGAUBNTSLWHMFPSTJ9VLEDH9TBFFHIEW"), 9563564818862L);
-        initialState.put(new Hash("M9KBLYFCKSSICTBQBHYPBGAYUFYECIIRDXMHOFIQYIQQFEILCK9LJLEYIOUFLQMUTNNIOGJNJOCYGQHUX"), 4017435537281L);
-        initialState.put(new Hash("HCGND9RCJYPVHFYZQIENMEXPCBDYLZNMNPDZOFKSSMEPAVNKSH9MNTWUGYZPVCSWD9DOHAJNITWCUMZIQ"), 27559186605L);
-        initialState.put(new Hash("IYOV9ACBCVJGJOMLIFNCXJAY9IOJENMWWCELPIBKQ9SHFAQXIMZENHKFMUDUTZIPJGSTWGODTJHUYARC9"), 10L);
-        initialState.put(new Hash("EOYLWWCSCSJUUVQAYADEKIBWWTWJZWLPGFK9AOOAOPNCEJQCKZISKVMETFPUSQMRMFDOHWGPRVFVZJCZP"), 44051455803578L);
-        initialState.put(new Hash("WNSXZTC9OAZBAB9BCQLIKB9QVRVHKBCKEKKFWVUQVATOARQMEIZJUPSXEWZKMGWVUZMTPOCJENXWSX9TR"), 5709011466468L);
-        initialState.put(new Hash("ITFXHBWQCIF9DIYBOCJNAAPLPOGPSBYEJDJEBQAOYDJH9HLURBXGVLFCXYSWDEQYTAETUIB9NNVLXQTQO"), 10000009973L);
-        initialState.put(new Hash("XMTEMZQBXUM99XYUTKKGZOPGCLPHHCRD9SFHSAJAKQHAHISMIDYTSCNDIE9LMIZ9LNIMGVCGDOZ9YGQSJ"), 50L);
-        initialState.put(new Hash("OODEGFHHOVDRIYNCNLLGYXXJAB9UVNXRRYIS99DVYDCBTMXTMAIMAVOEUVWSVWIZ9NVVVLAX9QGWIFBCM"), 1000000000L);
-        initialState.put(new Hash("HLGNMYRCRBDNZT9FPTIHOYSHEPIOASKCAHCKIQTYHZXZLVAVJEHUZEAMU9BCJCQ9XZOQYJZOIOTLEVTCB"), 200000000000L);
-        initialState.put(new Hash("AQQY9YGYOABQZBY9GIHHBZLACMOZWC9PLIS9RSYLGOWYPBEREB9LRAHXLNJTURJCOTGZZNUYENVNOVIKR"), 7417726509653L);
-        initialState.put(new Hash("RFCQUGKOFWKJUNTNHRLSZXANOBJPICNS9XXXNICVEFAQZJOTCXLUWNELWSWMZMBJNULIOJQ9O99LDJFYN"), 3500000000000L);
-        initialState.put(new Hash("CYNPPSBUMDLFZTWIDARELNQPKJVXLSGRQILMIXGEMJPUCAXMIZVPIFWSGLZPRZDWVUCBJJT9S9GEZXCBV"), 8188498326L);
-        initialState.put(new Hash("DDFUYMEZYELOKIJSIPZRALNHYBAOIVEEYWCTBDPEQWRTY9AGSPPJLLTOMLOT9MGYAAIKDQJYUQGXHXHKB"), 18000000000L);
-        initialState.put(new Hash("MYCV9PKOWCRCJDXCFTYERIJPQQURAMVU9UWIOPOXWBRUVXPKDBMJUNCHILTOUSTWOIEWV9PCZSBEK9RLT"), 47803555438675L);
-        initialState.put(new Hash("WMBLDQPQSAAPE99GNLBCYGNLNXLSCWRRBLATCEIQKC9UYHOSZQKTSJWFHL9PXBGIUFOTFRUVVAU9YQ9PP"), 999999999993L);
-        initialState.put(new Hash("PCDQYBIIGTTRSNKLXZZYBAPZSWAWY9M9XPIAMFRWYVKEGBWZFWX99MJDVXGFDPIMTQI9OJQXINEYMUMIR"), 1000000000000L);
-        initialState.put(new Hash("CNLVXOAOKEBNHW9DSASWCVASSIC9QNIDUXEWHNOSWTTHCHWNCWQRFGIHGEET9C9TOJELSLGEAMLFIDUOK"), 3L);
-        initialState.put(new Hash("XNCTBUE9GGJRB9XYVXFKKULSNLLMHENXRO9L9EPYRPLLVDRPHSQMDHGNUKUCMUWECMMIHTBUMHESNK9PF"), 10000L);
-        initialState.put(new Hash("FKXKQ9NLJTPEVJNYUOUEKCGXHNGNMJIYAXQXZKZULPMBEV9WNPOMRBUEZZTQVZRZLGCSEDZSRZXMHIT9U"), 9L);
-        initialState.put(new Hash("FFOSVKUQBRDGRAOGIOEMUPEVXAMABNDSFZSBRYYBPXYRSKGGBKOMLBJTQAEW9QCYEPGYKBAHEVKJ9K9QA"), 2253850443514L);
-        initialState.put(new Hash("BLJKMCNNI9XHW9UFETASKCBBFGVPLQYTLLFBDZKZLYZYSGEWEPWLTKCJBPDHHQD9ZTIDMRLBIXHUHQOAU"), 3500000000000L);
-        initialState.put(new Hash("ZWPWHLSNDMJYAK9MEHCCDWLZAUUTXZJXRTWRUDPJTAU9PN9DDPTUJOGVHLZYNPPMECGVQQKPFPDTO9LTG"), 84L);
-        initialState.put(new Hash("MHRPIJNISVQYVS9EUCSHDRBHPWQHLBFKLETYQWMJZJEUVUPHASTUAUNWVLEACQAYYANNTQGUUSGOYW9TA"), 5000000000L);
-        initialState.put(new Hash("JUWLPHJBMQMYCWHFQRWFXQAP9VNSBUEJFQWLQSLLJIXQYBWGZYYDTHIHJ9KDOXKWMZCQBTNOGLNKXMWDU"), 41806914065L);
-        initialState.put(new Hash("GSHYPVZEOXVOTHJZLCK9APJMXLPMSMQQVV9MYDZMAWNLURYV9HHGKGNNXGBIWYEGPPDFJQBUUIUBKVC9R"), 7400L);
-        initialState.put(new Hash("DROLEX9RLAHYSNE9EPADYBYRKC9CJOAVBSHOGPQDCMNPUYWBUPQGCWMQCMN9JMJOGQJNE9QCIVDHRIDZB"), 2328472287594L);
-        initialState.put(new Hash("WGMWDLHRBNRWDAULUTXXVRSDSSGUFZRIGZAJQALTCZPKEPQDPYYVLQDYNXTWQWJHWLVMDENXGNBCMZPBF"), 1000000000L);
-        initialState.put(new Hash("ETKEW9C9CTDUSCFMGZGRNZCZMLUPSUPOWVEUKKQGUWPSY9PFGXFJUZNJYTOZGBFJPRKVXIBC9VLZPCUTM"), 10000000000L);
-        initialState.put(new Hash("GPKEHTYPODDSIYEKLIIYLYYDTQZIYBBDAHQJFCYXYDALSSPYKBOIKDDBMIXMTWJRXEKGHKHPPANGNCB9T"), 2362725567241L);
-        initialState.put(new Hash("FRLAGDRJFDUYPLMDSFKQ9KRRHJZWIOZBLSELRQNHDLZLNSDFSSKWBHQKNZJNGKBQSNRQPOBHQ9NKCGTGW"), 1L);
-        initialState.put(new Hash("HQMLLPYEUVVWHGIEQSQVNVKTWPX9DZFSSJZWKZZMQYSZLPJILTJYABWDTLMGWTFSKOCAJJVHGZSMSXXIX"), 3812798742493L);
-        initialState.put(new Hash("IHRKOFXZTPUFDNPJFSHDFITLYQBGNVRJHGD9LW9DTFLTYLYCMRGFDZNJFCOXBY99SADHEJEBZTMLSKWMO"), 10000000000L);
-        initialState.put(new Hash("TBIVEILCTSWUWOFSSCUZESKOPD9EWTUWMRCUCLPWXHYBGBGOYYMN99UAE99QGUZOBY9BLFMKLMXBTM9PL"), 7571219L);
-        initialState.put(new Hash("PKZOKDNFGCRIRCPLSQEHCXFYIYE9SMXIWHACREHSQCGDOCDDYFNETOBZIEHSNZECNQHUB99WXSKQCAOPM"), 185800000000L);
-        initialState.put(new Hash("TRAXIRMDQL9TPYOJGWYBOYUAMOQOBFSXYQZVEHFCHSIURHFD9GQNJFLVRKJBIUNBSZYJL9CVWAPHPNXSL"), 1000000000000L);
-        initialState.put(new Hash("EYGRXDDUVJGSOUWWKCMGNUJ9SYKEYZZUDQECOVLNXIQTWO9FOHAJQRNIEMYUCBKYHA9KIUDPAJPLCHTSN"), 1100000000000L);
-        initialState.put(new Hash("GXGBKWNATDKVPXZCKBVTGRVEXDCS9WXFLJFASHPEFCNVWKWIRCVOZQZZDZYZADW9SJT9IUIZPBHQWMHSD"), 999999L);
-        initialState.put(new Hash("NUQQJALYEUPUREFFIXAQRR9RMKAJGTPQEXF9VVQECLJZAZCJ9PJNDIDCZVIYB9BGQQFQJHHF9ABKCZGFS"), 15030L);
-        initialState.put(new Hash("VJUNSNWSNVSPXHJJXQYTPOBGDL9QKZQKARMJOA9NW9DWWFIZA9ENYBOYRZATEUTVHIFUEVYESBPUFBFSV"), 694823233L);
-        initialState.put(new Hash("9BUCAVAQXRIGE9AVSEILBLYR9Y9FPQCCHAZUTBHZTE9BOVZRBYDJLSLWGOJLMXDVNKSQFABHDJZCLLCGC"), 59000000000000L);
-        initialState.put(new Hash("VVKQGC9WPSTTKZIITMDGFGEMLAVKMHFGBWVQLBNOQLUJQOLKXMATZKODEKTGGTEPZBKAKFXJRIMEVGOGD"), 32559060617L);
-        initialState.put(new Hash("AQRVHQLOIZKXCCYVVAMLNKNW99LSTMMDOWQXTLMISMNCAQTYCIKXWZFWWUUFPYUUURYOOODJMREOYJZJI"), 3555000000000L);
-        initialState.put(new Hash("OMNZETEFRSLUQZTPORVKDNSTJTXLBYNSXLDZWCSXDPURCKLGDZPIFRQVUMVCDSDJGLDAOWXAUECUY9JUV"), 3500000000000L);
-        initialState.put(new Hash("IPTJQWZONNHB99KZDDBLWHRWMJYNTIMMAHCGPKNVJTUMYJKXGGKTCFI9HPE9O9RMDDVEGQINULLXHITNC"), 144556000010L);
-        initialState.put(new Hash("LYLTPUUYYYVVYGMESHSOUETSB9NODWKWINQUBRHP9HM9AANGUKCLSRWIOHNGMMCXW9MQTKKHRQZ9VA9H9"), 235000000001L);
-        initialState.put(new Hash("MOLWJTAWWODNHDXXQCGNWHAMCWFVWRZ9KZMUEYITYMAKBQRMJVLSFGNKEPHQOKUSBXGWOBHHEDUQ9GXPE"), 1000000000000L);
-        initialState.put(new Hash("HKEAEYJGVVYVDA9VCIRNSDFYBAILIOYS9DSIFJVRJONHRMIYGSWTPJEMNDSUNVTOREBQOKQSAVCHCNWOM"), 57000000000L);
-        initialState.put(new Hash("CJERHCNRDFI9YTVIR9LUBMAREJGLPJBCYATMURHEJOELRVGHAQVYIZDKAUNOY9CDPGPKVMVBVLEQ9SJKV"), 140366265000L);
-        initialState.put(new Hash("WEE9BAN9CGWYOJIPWROXJRCHDDJLBCMXANVUMLZCJYGCEUL9CTZHGSAJYNIXWZWGUGKFBDMSKRWIKECEK"), 1L);
-        initialState.put(new Hash("VUFWATWQYYBUOZQOVQKNJDHJNFJSV9NWOGRDM9FGIAJKLZIFLMEIVHMEYCIVLWZ9U99IOJQDHR9AZGPQG"), 2429616398317L);
-        initialState.put(new Hash("KODLQLMBSSZFYOUKHG9ADGFZRYZCVTOUVYQARCKDBXITDZMYZYJTUYHBPBDJ9AQD9GCYYKEFOHMYQCHBB"), 10000000000000L);
-        initialState.put(new Hash("CZIJTKFY9AFTGO9TRUGX9YTZTGYHRPSESWBGMXYJOSMBFNKSTLJOCWVBRQU9DSQCQXXYVBNPAJBCNRBCT"), 6549L);
-        initialState.put(new Hash("FHSUBHVVEHHOSBVSDLMDDTRGJEUZMSKDSKRVBYIKLTGTYEBQXRYBICUQ9UMMDMQ9COWOPJGEIQNWQWFAC"), 3500000000000L);
-        initialState.put(new Hash("9A9DCTVGIYVTKVPYYWECZYHNQOXPYXYP9GQGPIWAUAIKUMBZHRWVBKPJADNRAYDBWGHTIODBPWVSRZJNA"), 556496572384L);
-        initialState.put(new Hash("RPVQTAKZMOGGLIYSNMDHDBQNANNWES9YTVLAMOWQIDR9LKDIOJFIQO9LCKZXMTLNLMPJSTKFY9TAMCZAT"), 194768782241L);
-        initialState.put(new Hash("LWAZPVSXUGOZ9IWHW9FBYSPWOBSMBJAXLWJPZETXJFDQNZTQCC9TDYLMIFBSHQIDMDVRTBSRVEZXWBV9V"), 3500000000000L);
-        initialState.put(new Hash("XAKVJDGSENJEWZNU9PAOSVZGRMBLNYTNZMGCGWNHSZRGVIYITNLQTNW9RQAEYHGVIUFSVNBHZVMADUQTX"), 153474800100L);
-        initialState.put(new Hash("RGCHYHQMTTILQGIVIS9YUNYAJY9KXXJEREK9PVDLSSUCJBECIBGTZKOANWSLWYDGOXWOCJUTXQSZMVJNT"), 6999998016L);
-        initialState.put(new Hash("KVJQHO9DSJ9FVGZSDGJORANXREFLG9JJABPV9ADAOOJZ9FZTZDABZGTNDYAPWVGOTRGMBSZN9TX9O9OXV"), 71508994037L);
-        initialState.put(new Hash("9UIICVPYKGPXWEYGVIIKGYMUZNER9UXNLAXDYWPGCDZMRLQSYBNVQTIMTY9YDCLILOV9CGDGEAZUHQDRA"), 699800L);
-        initialState.put(new Hash("EUTYKLDAKIXXNBFXLMNOTDKXBCA9EAUTW9DTNQDZERMQSRRSULADGRNENFGEPOBKM9WOOCETBWNDLXCBK"), 2000000000000L);
-        initialState.put(new Hash("LYRSGRXMKMCEFNGUBFE9ZXQGRUWDECRQLCYAHILQ9NWQZKTIMAORXQKLJUERCPBPQWBVEIGOJYTBKWGEI"), 122013614L);
-        initialState.put(new Hash("TGNZQBIQLEFPWA9RROZZBRBMJWXWGLPNKT9SLLHZE9L9KUKIZYBBSFRAGJDKFS9CEYKCXKJWCRYCMOPSE"), 500000000000L);
-        initialState.put(new Hash("PMKFUXBHGWGWAULLIJQLWQPVNSGYOBQBOVTTIOFT9SPGGMRUEENHZOLQAYOTQ9QZZHLKEOCHKXGAOWLCV"), 152717397004L);
-        initialState.put(new Hash("TWGIKHFCDEWIXQTDBJTFD9XOSHLOAYGYYY9ERTV9XBERLQNEOBWGPHFVQC9DUIBSZAUN9IAVR9ZSNNEPJ"), 9L);
-        initialState.put(new Hash("PSA9WNEI9VMQOGESYHGEH9OZBUMKJAPNJLWTRONVSYXEUDBRVXDZVBACAVJTVBUWTRWAVQCPIUXLULYXX"), 11438396227479L);
-        initialState.put(new Hash("WMHRUBUDJSRPQMETVMCSEQBKPSCYWCTWDELAJBOMVFGRRMN9UUKAVQNRKV9FOOTJSXVORBUHQDZAXQVAW"), 420781372949L);
-        initialState.put(new Hash("D9EXNKYJRZVJDGLFFLDKHKD9KRNTJFEM9GCVJGHIVBQDJDLCPDBOQZJVADKEZJIAQOOHAGPICBALNFFWY"), 9L);
-        initialState.put(new Hash("FCMGPXLGKCAZAEPTEIC99NOLXCHQOBFSUXERDPKCFEQZIAVYOCFRABTFEHARYQBEIQFXVZQYYCYQYWTSV"), 1282903209L);
-        initialState.put(new Hash("TGGGC9JSZIJW9KOIDD9IIIBYZJDWNIBLFNEAKDJBQQISDFCPOXODQZEWMEKNGYRXIUMOPUCJWTVBG9EFG"), 227066558265L);
-        initialState.put(new Hash("OGZAWRYLLFLPZYBGZTW9ULLEVSFBULHCZNP9Y9QTJMYWJLLR9XEIFMNJPQIYNRBFQKLYACQEDVTFKLAHY"), 2373597476256L);
-        initialState.put(new Hash("ZI9HFJCEMCKVZJCYSSKD9JMJQRVNAFEII9HLXAMMGTPRTSTIOHTETLXJJOXUFDPCGZLHTEALYDQGSWSPJ"), 4313593620528L);
-        initialState.put(new Hash("ZKMZUJQQWMRJ9PRGVJEJXXFRRUIKHEAMTPVROYYDPJDYCWLBM9YXLYIMLDRI9GILCHFLLRHQEJZEKYDZV"), 3812798742493L);
-        initialState.put(new Hash("CUQJLNQ9RQXUNZWIHUJTSHJDOLTAVFRJNQRVEXYMYOAG9ZTEFRANNCZSVDZMQSDQQJKWNEYNHMIAMZDHU"), 1L);
-        initialState.put(new Hash("NPMYSKJKDOOHVG9FKQIHVWHQYKLIJCUNXGPBUNUIZYNJFZWMSXXXZHKYTYKWOZIDZYDLLLNTDLX9DIVR9"), 170821870148L);
-        initialState.put(new Hash("9CDLVJLWUMTMLUCCVGHZHCXFUMZMAYNLVBUWBEBMSKGFWKHMILEAROPVUD9MSWVJOOJOMESALVJBAVYYA"), 265000000000L);
-        initialState.put(new Hash("FPKIEEPGGPZIJHOWEKDQGQWL9LZCK9OLJKTMGCKVEPJGJGXADQZDBJGYTMOSRLOWEZSJAKSVKINWSDQUT"), 2106111623917L);
-        initialState.put(new Hash("UPXXGDRFTIDKLBYTQZFC9PTHK9RKWIT9ZAYXKUCK9EWEMNLCGLPDBAYZPNKPXDQL9QWNHEOETJBLWRWQI"), 1L);
-        initialState.put(new Hash("D9IWMGCECECVUNRQIIYZXMEFTOZBZBWSHHNFLNSPQTXDEIRVRQHTNOQOVPUATFCSHJBOUEJIBYDPQTMP9"), 570000000000L);
-        initialState.put(new Hash("VPRJTEQ9Q9UUYHJGHQTSZWWHE9YTWMJGDJAGPBCQLMVNIPMAPFKAO9UD9MQB9OGWIVVQWGYTGXVEZUJIS"), 84000000000L);
-        initialState.put(new Hash("NVWLSNWVNZDDATCFHPYSKPKREVUOUHFELKUHWIJQGXUMHVPWEBRVTKLVPAUAUJGJXRDKPXRSHLYXFILAW"), 17800L);
-        initialState.put(new Hash("GKSMQUVKREUVCWYNUBDGLEKAVBMLRDWKFDEKXGALGKVKAPTSZBWUKTTXLJZI9HIPNFMKONJMUTSFFIZUU"), 847712267204L);
-        initialState.put(new Hash("OXZGRBCEVPLBUQ9SFSYSLOVD9QQECAPUJLDA9UNVCCTLDXUHVTEGNQQVISWJGOBFRIODNNPSA9SGUXOVK"), 500000000000L);
-        initialState.put(new Hash("DLLTHA9DDCUQDJJLXPFYQVTWUDSPOOXSEFLFWLEXJZLNNCHMCLR9INORBGVRIESTNO9HQZDMXCZYXWQGV"), 50000000010L);
-        initialState.put(new Hash("HTH9ZDZJDRJJGLLSVQCIJZN9CTFEAZCJCELRYIXHAC9GSCEZOAYXFKBGMHOOJJBFXJYWKPVTUJEWSFVWJ"), 371757L);
-        initialState.put(new Hash("9ONBIGGSASNKKXYXLRMVPUPWEYUDERTNRGZOB99AWX9ZQFJWRQZFSRQZNOGDRHDOWZCFJPYTSLFEKVCUX"), 813572410617L);
-        initialState.put(new Hash("9IMKRULVXPEYSQK9ADGSOFKZVO9QTIISWSSVFWUMAKEOFCTFMYWQVEKKGFSONB9OURGOUVBQTFRDOYGLM"), 724752115434L);
-        initialState.put(new Hash("XQSQADX9WKCM9YYUKZNQLGY9ARG9IUFUEXLRKFNNQNYCWXBVCZQYFLFZDGNUWGHALNWWGHRQAWMJ9ULST"), 4498L);
-        initialState.put(new Hash("WCNDIANQYERYEVZFNXOXUHORTNLYMVUYCRTAQZRUUCBRALEY9MZQMSLIY9JVVQYS9WI9LPEJNMUAFSCFE"), 1500000000000L);
-        initialState.put(new Hash("SVQLAKZHXC9YNBZIXHQAQWXMVLYQBOAN9BYABJFGDOJJVIBPTAXIJAOMRYXPQKZWK9I9ZLENUIKR9YIX9"), 3162000101L);
-        initialState.put(new Hash("TICFBMQZXNYOQYBMSGQW9CRRBKLSOOOUPPBAOIYJIWHWSAKMMFZFRBLZLHQSTMYKDPMXPLXXUFTPRTPZC"), 2396851136316L);
-        initialState.put(new Hash("TXFKKMDGAPZQIIHLGLSNXTBLHFWSOCDYQQHPECOTUSENIJMYVDWDARYHHSWNMPAVGTMMJOTWTRDUQAXSP"), 716776329572L);
-        initialState.put(new Hash("SGAFGSOSPDMZKJHTKRQWHNFFZKPYLENNIESDOXKLDV9NHUSJJMNMMWDYFQKVUNKVI9UMXOUHRATWEWUUP"), 110734L);
-        initialState.put(new Hash("OZRCDFOBFMJOZXPDTRVTSIHWBBBBDP9HMHHWVDVSWCXXSKPNWJTNXDBLDUEZZNDLJYYUXSUDCYPJGALND"), 444000000L);
-        initialState.put(new Hash("DDDCUMHMVEAHNMZ9SAXNMYTKEDOOTLZYDVFNKIPTBUSVYCJCDVTKILOKGYGCXXTMHNDGQQYFDVNXKDSGT"), 103L);
-        initialState.put(new Hash("GGLVEYSJOUEMRDXMITEAJKAEVDZUOYORF9SYJWDYOSYP9A9NZJWEHAQBIIEXRQJWKXJVUQQELLDUWUUHK"), 1500000000000L);
-        initialState.put(new Hash("SGWYRDVIBTR9UTGKSKUKXUDQKGKOKEKAQBCYOKR9P9MWETUVGXTZUJKOFOOYDDJABMSSAFJVXIBASFGIM"), 3500000000000L);
-        initialState.put(new Hash("MRLOSHMSGHTZ9LWIIVKLFUCOEPJCKJSRDFUDT9UEODJYVP9HLJKOPHVIQCTONI9HLSLOHUTQQUAKBYKVD"), 1L);
-        initialState.put(new Hash("AQDUEUDHKSIMU9KLVWFJIZSQCWYRIEBPNFBZXXYVOT9HHCAGCHLREEGJOEEYTBGEDTFVVAFGCDBHWKJVW"), 1720719872404L);
-        initialState.put(new Hash("KBIRHTWBXCAOOQKNEMSBQYBQ9HWVCISNNLJTBYXLZAJRTHDIDDCUFWYWVZNZYNCKJCWTX9BRNGGYSPQDF"), 1150000002047L);
-        initialState.put(new Hash("SDWIJIQRSFWILOBLMERRHCAAWJAJFMGFHXPDUBAIUJ9GLBJFMTOQLGWTIZLTYVKKBIXTGVGBTUHJDZBGK"), 1000L);
-        initialState.put(new Hash("WVI9MOHLMALWF9EI9PFPLAUXRVSXGGDIMWBIMQUOZBTOGIQHFDRHJUTTAKHUVMGPNXPHEKLHTGJ9VANSR"), 71L);
-        initialState.put(new Hash("YLDZINYULHQGCTKRVPUWEWRVRPPK99QBUAHKQNE9ZFEUQVYGHOYHMURTSMUWNHBSTRWN9KXONVXCSDPXP"), 40000000000L);
-        initialState.put(new Hash("PVLETHFDTQXPAHWVGSUYMFEYMJJPJAPWUWBOZWXDLBKEWSCINGYYUKZKEIELJJLMMY9FXCQDNQPCKMTKO"), 280000000000L);
-        initialState.put(new Hash("BAWQPCBLWRF9CEJMJPEIPSZOFA9WKUTKHSTARXHUTODHFTDZNNBSMNLDZ9ZOHLJZXJYTNMYMAZRZANWKG"), 1L);
-        initialState.put(new Hash("AQWFQGWHDUODAFXWFMYBFMSAAKFCUQJXPLGZTBJD9WUSGUKS9SRZQXSVIVUGQGBCRELCMXFWZZYLYIWDL"), 1800000000000L);
-        initialState.put(new Hash("TGKXWVKJQZGBZTUOHNKNUMLWNIYWGZNIGAD9NEOOWXV9VIXPAXNFHSZEM9TVFOZQFQXFHSNYLBCQSBUUQ"), 7282695221797L);
-        initialState.put(new Hash("VENMWLL9EKUOIYOLVE9ZMEQX9CBSJUVRACUHQOY9BMT9WJLUD9ENJDHIADTELJTRVGEBNAPANANWIICEV"), 900L);
-        initialState.put(new Hash("WPFNNNYAUZAOVUVILWUGLQWQGRRSCKZKFDPZEYRINJPAMFNSOFNBOWNVSLCYTIQOSIERRCSFWIMCKLBPS"), 1010L);
-        initialState.put(new Hash("HZSUEKDY9WXPSMNDQEDJHJADZVPMXDFYMNRWAQMC9GORSYWKMOIRPVAGVEEMA9SDEIDXEUZLEBSWPQFZE"), 1084388599997L);
-        initialState.put(new Hash("EPTQONOEEPYBGAJKPGUMNMYWBVKJGSWAJZHCXXEOFLCTCJCIUMSPKDMYO9XGCYPLCAN9QLULCYFGA9UCJ"), 3500000000000L);
-        initialState.put(new Hash("MUFPBGSZYUKIQTSHNPSQDIW9QDNZNKDSRMZKTANHUVVFLDKNYMDLWFEFYDZICIXSLBWTLCVQNHY9PKQUT"), 11012025050L);
-        initialState.put(new Hash("JXCYRNTJ9KWSAQUBXPKN9MNMPHNEQFYDESBRECT9DIAOWUJTELQHSRXWQCKROTLJ9EFKQVQCLAAWZIKDF"), 107557843388L);
-        initialState.put(new Hash("WOVDLHISTSWPQLUTIGXUFEUZVFDTYODFMUDX9LYJPW9QPGJGZMLJYCUMWI9QUNGQION9LXD9FDSNZGCEA"), 2342373535510L);
-        initialState.put(new Hash("BAQIZMUAWCR9DQZZLXVCCPPUZDJYAJUMSJUDENYQTOBNCBECTGYZS9IU9DAIBQKMXQUUKCDCEGOAAJKWJ"), 100L);
-        initialState.put(new Hash("ZLPAAQWRSKYJFVNGIUZDIPXI9E9SEDJOIROFKCRJFAFJVRBO9ZHCMRZQNKASUTAKKC9IHFBFQWEPPZHIT"), 57372564788L);
-        initialState.put(new Hash("JQEFCIHSDQFSCFQCYTETETWSTBHDXQYHB9ZCCWORVXBRCHRHMPWCJQCOPJNAALXILIOXFCKHDFJVKNDCS"), 1L);
-        initialState.put(new Hash("ESBWTPJJ9SK9JOZ9HTBSBNBSHYENDABEKKXDDYMAXASUDZAUOSNNXPUIGOZDMRTDLGBZTYJVQNWTZUTIP"), 1815590000001L);
-        initialState.put(new Hash("UISSZHFWVR9UOIVNDLZVXHPKTQLNQLBTTD9WSAZASXHIVXAIVDCKGKFVZA9ELDB9WYMCXRDFTXSNCILBX"), 6L);
-        initialState.put(new Hash("HZKDJAXNBSUSTSNZJEAILUZHLUYUPLRJOBGVBNXSGTRKCLGXLTDFITIHSBFVVYKUQ9IC9OFCSPUAEHFCW"), 1000L);
-        initialState.put(new Hash("URZWXCYUABJP9W9DBHCGBWMTQQRVYHVFTTOWZCNK9VDT9ILNWDKEOUOSBFQZYTTC9ORTIFDMKXOJMWGYM"), 300000000000L);
-        initialState.put(new Hash("AFSUNAOCRCAYENGESKLYAGRKWHRILWMRXXHUUEVVPSICCKIRESOMNSDGUGRRLEXAL9B9IBFNRBKK9AZWX"), 25648069L);
-        initialState.put(new Hash("XPFVAQOVCQHEYZZDLTRKIVSPXJKCXYZRNICUGJYVOKHHFCYHLYNPXGWSSXRJ9ESNFDYRXMAX9TBCXJFVE"), 499028657147L);
-        initialState.put(new Hash("MHKLILIL9UWQZHNRWLQNJMHRFRBUF9SCXM9VHRBUSBPHOOTDFHAVKBMJDKYKRPQBQDMEXRLSGWN9LRD9T"), 1000000000L);
-        initialState.put(new Hash("RD9JDQSBFDHLDYYLXYSYNALOSRWNYDUBMAZWFSDQI9JXM9VSIMTWFCPCUQAHPQGCEDJFWGKGYDRXYBGET"), 1129916037686L);
-        initialState.put(new Hash("TKMUOAFGRGASJUKT99EL9BIEYJJ9L9NTBRGWYIZU9YTH9DBWOJOVJFWWCYIDSGERJKUGUN9NADNDCZNQN"), 555L);
-        initialState.put(new Hash("YDUU9CNZHIZWBXNYTHHKUNHHEZMCORNUVDTTEXTAAEKSPWCESOMNQRVAAALTHLVCTZNABYUNYKDNQAKSO"), 10000000000L);
-        initialState.put(new Hash("DNPUXUV9DHTIXESEKAEPEIYTGVIOHXICUDYRPGINEDDYYKHVCC9TEQFCIJNQWFVJPBDAPGKWVKNNPEOEV"), 795089928291L);
-        initialState.put(new Hash("JWCPZHHRIBDMOPTLBSGMLOMGC9FDHMHAAAVYAUVXZRFRAFPPHIMITITWRNGQHTXVYAGCGBKG9MRVAHGOD"), 3700000001L);
-        initialState.put(new Hash("UEJN9YJYROIJHNCGOKLPAGZUXFAKCZCZEQ9OAM9SPUJJAFCEDEDMTKCCKIYZDQJYCWFLBRGXAM9MNAUIR"), 3500000000000L);
-        initialState.put(new Hash("DWCRDI9Q9KLYYMWNG9CMOZTNGBGTDYG9CNACLDSHGOOG9TIBYPWHWEUUZGFCWRYTIBQZNREMOJKISUPRJ"), 2000000000001L);
-        initialState.put(new Hash("WJUQNHSSNNIRQVZLXVKDCIPAUORPCLJNHZAQYFLAAWAJKU9UGVFCZIMFZAHALNNOUHNTFLLLQIXUTS9MZ"), 1000000000L);
-        initialState.put(new Hash("FRUHU9EULBTWQORDLGYNOIDHHBFSCJQQECKVHXBJYPJN9PJLKVHFUDFOEXQRRTGKM9KKCOGVHHKAQWGBJ"), 267668765016L);
-        initialState.put(new Hash("OWNJ9LEXZNZ9NLRYIANVADVCAJUAIEXASJPOQLGWNGCUUGHVATEVRNEZHWFSFPXWKHSKXVSDOMATCQVEW"), 304000500900L);
-        initialState.put(new Hash("LVHSQWGHBWYYFVPDLYYJWRTT9VZGAEKWAUSXXIIPWCHEELIGYWVZHBKIMBEBOOQPGBALBAX9JDSETDSWS"), 3900000000000L);
-        initialState.put(new Hash("ETYUDVXRNPGDEMUKEBXXMUAKZZOSBKUVCMPBBHGXVTZYICRMMMZTUOXXP9EHTMBQGWUIIVUAIAWOFSQZS"), 169999601L);
-        initialState.put(new Hash("RWWX9DFHJTBWXNUVZTNGYMFQKFCH9JQOAXZCNNETCAKETTQRVCWUKGYMZFNHFAPMJTIQOEUUYBAEUMQWX"), 3700000000001L);
-        initialState.put(new Hash("ELBYDAGS9IUFOHKBRJXNFFRVMC9LKLRYDHNBOJGFHLUMHSPCFMRYETA9RKJNASRT9NHIDXEQWUFYAYHOQ"), 2861043387130L);
-        initialState.put(new Hash("JSHMFDJRQ9HJUFB9QKZSWYNBWTWIQTNZOPOSPPTLSG9BJLTEDZXPLVII9DLVWQX9DKUJGKBAXQKOWX9KU"), 3500000000000L);
-        initialState.put(new Hash("OJAZXZVPZZGODZCBQZATJFJYTVCAOGXXSJIQWJQVWPYJPXJKLDZZDKQIQNHFAOGFYCOVDJBDFLVTXHHAW"), 35000000000L);
-        initialState.put(new Hash("QCKACUSSUXJRWNNQVSSNG9FIFHXOHGLUYWAKRUGVHQFZHFKMJUCZIAGREV9GPIEEMPABNEMDRRMFPPIOU"), 1194992644706L);
-        initialState.put(new Hash("PUMWNFHXIOZAFD9O9YFQMEZVZLPYCJFNXBYOIGSRMYSHHKRLZFYDUCZQOB9OJGQ9AIHNHCEEHXLROPFCT"), 130662343751L);
-        initialState.put(new Hash("VXEZNHUVORHAK9LPIAQYGKSZOUIPJXKYGBSGILFTTZNURNJMTBTCWSPNTV9YZQBKANVNVZXUXRIDDICXK"), 27307455029448L);
-        initialState.put(new Hash("PTWZQFXJYIPR9DGEZALIQPODYZAZWTKHJJRTBWJIZIE9YAINODPGSTINCTNCTC9UIJRIOFKYCBEFCIJRF"), 7625597484986L);
-        initialState.put(new Hash("XSZDDNLT9AUPTLOMIZWZARWDULWYVNAFDYWWEHYPJWYLNVHQSCEFIFYM9MZNJRHZOESHXDQIFXUUI9EFB"), 500000000000L);
-        initialState.put(new Hash("HS9NIETGFXBCZDBHNXHTMS9QEIASVWOBNOACFXDHBNCFVPDJHPGQLNFHLWDXWWVSFZJAIJNNAOEM9OUWS"), 3500000000000L);
-        initialState.put(new Hash("KW9MNAMSOCGSFYTIOEBHANIRXNVHDEYKTBIPFRIENHQAHKHHYRDBDDNAWWXOZ9WWZKAHEAKMMKHUAGNYH"), 100000L);
-        initialState.put(new Hash("VWOXFZLPXENHTUBZODXI99PKLHHDZEZSGDTH9ENVZDEABEM9HDDDWRIXTMBUEEWHNDNUHIMMNIXMVSALL"), 737718410292L);
-        initialState.put(new Hash("WSKDM9VRX9ZYLDWVTPDYDUTJMFFDUELTETSCXRQCJGUCDFAJEUFNFTBULIOJIREFHSLJQRNNFUPN9PGTS"), 181818181810L);
-        initialState.put(new Hash("BBVS9CNCROV9CHYLNTJSOTTC9JDGVQFBIMPGTYNQELRWNTNFTBXEXBMNGIQMPJOREFHZCHCPCURQLV9IX"), 12001L);
-        initialState.put(new Hash("BWKXMYSLEQZLRXOMBYICCRQVJSZOFNJAGCMPBTGPSZRVMOOSBGHQSCJNCMZH9AHB9UAKOZBMKSJCGOTRE"), 333543720001L);
-        initialState.put(new Hash("USRPVDCF9IK9DNANACRTRRQREQSTGYTCSDJBMPCHDTAOWSYWK9AJDKNHGNCAUGEEHXXSXUCXNURUNRAPP"), 975000000475L);
-        initialState.put(new Hash("JHGHUZVIXRETKGFEF9F9EJLYZDID9FEIBWPCYZBCMCHVYMWGHGRTFEHAGZYHLVJOMDUEJRTUDUWIQUWTV"), 888101847465L);
-        initialState.put(new Hash("NLHCQGLPFQ9CJRZXOEJPFBHWZOD9NCY9YJJQRPKYLAGCDZSTDSMJDDMIWD9KFAMOBQLBDSFJSVOZIYPZG"), 27027027027L);
-        initialState.put(new Hash("TMVJZNW9GSC9GGLBVKCN9RCHRFQZQEWSPACIZMIRKGZBOZZLTQM9PCERKHARBXKNHEKNFPKLMATUGZCPI"), 88694802319L);
-        initialState.put(new Hash("KIXIJKTNIYYUXATBNQHN9CZRVUPRLZ9O9OAXSJMUMUACXTVEOTXHQJTDQRJYYOYABSF9FSUIXAYKCARXN"), 424646564041L);
-        initialState.put(new Hash("ZQ9HSIWZKMYAQRRNZC99CWCEJZNZDHNHRRWMUFRDUROQBEBNFGEWBTLLVMOPYGQZHYD9FVYCFCMEJFFXE"), 1000000000L);
-        initialState.put(new Hash("YYVPHFE9CBIIBIROQBWKTNLDQJFPOSOCUPLSIETXZWXVAUZLJTGBGULIPDIMXMCHFZEXGSVYVW9IOFCSI"), 125000000000L);
-        initialState.put(new Hash("HPTJIPXGNYTKFCMFGELRYANQWHEAAGYHHGHHNKBS9EVJCZFMFAUTRPQQEJB9BOJYYCDHYKZVZWWBNOC9N"), 500001001234L);
-        initialState.put(new Hash("GVEXTNYCEVCIXQJVDBGLBKGUHJ9BRQ9EJWUXZC9RUQY9QQEKZHCLCSWMO9ZECSWEGDMSBIDMPQOQSVEBZ"), 3633827669388L);
-        initialState.put(new Hash("AMSYHAXDTOUTSQUNAT9FZLBJHHEANUWTABCAXLKWHVJVYUBNVNPIOBEPHFEHKWZOJRRAGTEJNKEMDHGYI"), 22236248186L);
-        initialState.put(new Hash("YOIVBFWJBYNTZTBMIZOHSGQEIMYSTXGQQXXHCXN9FEYXJDXHAHXJLVRLVNDMNLAUKXLLERSKLMEOKADSL"), 2000000L);
-        initialState.put(new Hash("BQAWUWEJOHGVNZMILOOTQDXPKJQEKEFQMTDXWBH9NLROGYQXQQ9AOAPSTOFJOWMXRDJUXOBQXMKYMPQTZ"), 500000000000L);
-        initialState.put(new Hash("KQFGUDB9SMNMGEQXLUVJRWBPLVJQSSOV9BWMJTQYZXPPUWQCWEMYTRVCESYWNFPDYZWAYXWTIIZOINU9B"), 3500000000000L);
-        initialState.put(new Hash("VQOQQY9UNNKFCCTMAMXULY9LENJHJNPYIYXNHSZSSOHKFZSM9AZPCKURHPYFEGBBRNFMWYWQFFTJJZJAJ"), 2000000000000L);
-        initialState.put(new Hash("GUVXXXKCEI9WKYCVIJCXEZDMGDM9QWMRRIRQIZM9RRURAJUOOJPWEF9SZPADOGAFLDEDSCSNWLCOWVBLY"), 917101L);
-        initialState.put(new Hash("WEYDEFJCLJRYN9DBXHQRJSTDLCXIHCMUVWVIKGYHRCBWYYY9CSKN9ECIHVUKBKCYLAINLHZTZEROLRHCJ"), 86046397288037L);
-        initialState.put(new Hash("ALNKAKFWJOSFDVSKKJXWYOTGABDFKVVIBDUMIWMNGRBZVCDLAITZQ9XLYDIXTHRQPNYZOTWZCZGLSHN9P"), 40000000000L);
-        initialState.put(new Hash("RNZICNSFQRHMNLJGJALWFTUIEUCIETCTJ9KCX9DMHLZVODTVWWPM9URCHPMOBDSPEJCHUGBGIEAE9QPUH"), 1000000000000L);
-        initialState.put(new Hash("MZSYLMCHFVTJXXJOT9WNYNPLDXIWIYHSFKFXW9MZAZNPK99BKIRQOSNFNUOKAQQQMDDVHAOTJJYLLBXYE"), 2000000001L);
-        initialState.put(new Hash("VVTVCLAWKGXXKTKWPVNYM9IJWNONMRYIDPULEGWUTGJEUFBTAN9CMFQYHFJTSJIGOGAICPXLFH9FGOVIT"), 1L);
-        initialState.put(new Hash("CHHSPKOWPKTPTCITEZMHJZLRHFFFRRQCJIQCJZHJDSO9EEDOWKHZFUWLMYLKBAUNLRGEZXZB9QZKJVOEU"), 5000000000000L);
-        initialState.put(new Hash("BVZCJEBUNUJXMKERDRMJZUXMMKMMPGWSLCRTLMNKOHWEIAONNAFG9WRELEVKMRROAWKNFVKDJAELQBFBH"), 1000000000L);
-        initialState.put(new Hash("JKPEPAZIJSTLPUJGFZPZCBRGHVDBZYRMSCMWLAONOGXEOTGDHPOLRLZICBGASBJZULVK9WZWPCBHFVDKB"), 5000000000001L);
-        initialState.put(new Hash("TQWNXMRFZLTV9Z9LCVBNXFTIUIDKJTAJNXIE9RCUCYPMXZAYCANZTSQHZUBMVA9HMKUOBCQPETFUJKQW9"), 20000L);
-        initialState.put(new Hash("N9U9MZAQFHOODPPWWGMQOLQEZGBFDDXYQQAOPNJFTJSPBAWRXR9YBUFCUJHTPFZENJEHLLUECISWKBUGM"), 2000000000000L);
-        initialState.put(new Hash("VXNLHRMROYMWGZBPQUAUFWSCMLKSSARVMSXVTGDIGIRVAXD9DOYKDHFHJIFHTBGK9YAKGGQDTWCZ9DWCP"), 303505328483L);
-        initialState.put(new Hash("PGAGKCSNWIMWP9JZTVHIU9DCQAFNHULSCFVIEIUMUSIKETPQCSMIHHERCMGLIQHPFM9MTHVSEGYXT9QSI"), 633543720001L);
-        initialState.put(new Hash("YV9FLIAZUVCMXSIOPBDTCSBWEJKIMQZOXRPLELROCHEDQOVCHJONRBFFTBHOXNMJMORZIEVWOJIPJXCXF"), 1150214511478L);
-        initialState.put(new Hash("VWNUYXMXWS9LSECZJXMJOTTUDYTEUSFSFHJOIWBFMABVKIMMJJEEJCMGNIOUJLWJZGRMXZBYVDRC9URQY"), 3500000000000L);
-        initialState.put(new Hash("ZKOMBDNKHBBATJONCGAQMOTYQRRAGFWXNWRQAPGMMQKIRUTD9J9QSTDRPLBV9GXCBKGFURHJFNOPXBPIH"), 1666666600000L);
-        initialState.put(new Hash("BXYMCCVCPZMBHVVJIMXFGZBDRMOKQHBSJ9GVMMWOLPEMFVCT9KFZVXXNXCCQ9YCEDFZQVNGVHNWUZVLFM"), 19000000000L);
-        initialState.put(new Hash("SKAQPGRBRHIWWKWFIEZJAVGINRGWJKUUYMDCW9XBPWQXTNUQROFIFCUPINAFXZAGRQNAQMSUOPTPRXLFC"), 999999999L);
-        initialState.put(new Hash("XMOANTBWX9QEFPWNPMZDTGHEBAMYTAK9UPFWBXZNHMLHI9RMLKHEIQMTXEVZAXGNLYUVXIGDHIJWJVGBY"), 939175646205L);
-        initialState.put(new Hash("AEVMHEIMQRQ99ZBPGJBYKSRSELHEWYEJQ9CIOAGWG9H9DJYKVMLQTU9VEKZYTUMBNONRVXCWF9NLSDCYD"), 138655753L);
-        initialState.put(new Hash("O9YBCDWWZXDMBLP9LPDX9XPYRADQRKFMRTTFUIFYTGBVOTQRJWFHVSZQZXKVWVOBBACCIXFXXKYYJYQRV"), 852765034044L);
-        initialState.put(new Hash("PCAGEQCIBSGHODSZYLXWWUAIOIZRLVXDHNTUZBBNLHEUTFCHWSGDUYNSOTEAIZHVIMLAZHNNMNWSEVVHD"), 5559060572115L);
-        initialState.put(new Hash("SEVWIHHQVWQRUFOUPNUGZAMWFYCLVOTARYWSNCIXNYQXGQRFRPGTNLZKTQKXHQUTKIPPGRWRGFIAOIZMI"), 396000000005L);
-        initialState.put(new Hash("LLPYLGKCKEMZXAQGXPPHGZMZZFIRHVZMRNXCYMIHTWOKQVKFKK9BYSNQHPRUIXNIV9YGE9DGCNSAGDVZC"), 42400779879886L);
-        initialState.put(new Hash("FVDYQHTGYPO9GO9CRDFHUMCSMXRYGMNDRUW9WQCWGDRETAEPU9VWMZYZLRJWTPFBHSYCVZXXYFSBCXRYI"), 570500746615L);
-        initialState.put(new Hash("TQVKOSXKALKKXBMKTMPHNO99UFLNTQTYYJITTGMQWHPS9OTNK9GTZPHWNYE9MZMFSJKWSRVAOZEBAKPPB"), 8800396227479L);
-        initialState.put(new Hash("WWQRODVAURPTXVNBHYIJCIRXBSYBABHZVWVFKAUXWYINCRHNDIEAZZQDZZULBYKXTZKTGRXI9HWPJXBOB"), 6000000000L);
-        initialState.put(new Hash("ETNGDXOSNKYCWUJVTRSRQUQOSRFLSESIESSQFLOKGIW9N9RCITJUDLAZC9NHEKPUSSCSNNOSQWHHDDNSL"), 4330449251L);
-        initialState.put(new Hash("YYTGSDGLHPUHARYWWQEVCZXJYFZKIFIVUDWUTFELRKIFISNYHZOZSCKYDBHBLBJIRHPMZYECZAH9SKKAC"), 3039311335757L);
-        initialState.put(new Hash("BLRSOOPC9HKUBYZPNBLNVBPELTKFTIPYLCEUCGZPHZRDLZRGQSWTTUQUNHPFJ9H9HKHTBRMDRLWTJCTVT"), 717052289256L);
-        initialState.put(new Hash("TDPNJDNHTAC9M9KKZNEZAQQJDEPEEASHGYPXJBJCWDWWEQP9BTKYZMRONKKJOGVKMNJRISTEZAJU9SGEN"), 52L);
-        initialState.put(new Hash("KQWLNEMJDBMZVWHOUGTYBCKBUECCBXARPPKF9XSWQWKVMASFFKGSDTKDIPVKDXOZNWTOGRGLTQMQKPTYL"), 241263254004L);
-        initialState.put(new Hash("YGCZLLZDHRHWTHNUPRNAHTGUCGO9QQHBXTTEAIATXAKGJPYARALJUIQHVOZKUEYLXIP9FBJOILAZWCBSY"), 192175000000L);
-        initialState.put(new Hash("VGLASTJTPQBBICFHRHQIWOTOOFGNVFRYTXBGQEHSTSNEEYLOCYROQWKOMYNECXVFSIULJIWLXVC9NWEAN"), 121000000000L);
-        initialState.put(new Hash("RQP9RKVCPXTSJSUPYNZEAVLJBSTWKIDPNCFWRBDYRAUQC9QFWK9RWDXUGRAOHDMBNJLO9AINTSEKPJJ9G"), 2933330000000L);
-        initialState.put(new Hash("GHLKFG9MKVMNCYTMZUOHANYPVNTYHEOLU9IGULGUTVSAVIECOHDVXGJVJMMGUCJMFJMCRDIBPSDHJ9SKK"), 11438396227479L);
-        initialState.put(new Hash("DVMTRUHEE9WODMUGNDTELSKSBZBUJ9VJB9PGL9VVWPSULJHHNGEWL9BIJAPANOZKINNZDIJAAKCRESBFE"), 2800000000000L);
-        initialState.put(new Hash("UMQXHDIOPKIU99NREHMUUXTUYHHN9IPLEZDPCRSWITGCMJ9WMGMDJGUKPUNHG9BAEQXQRRJXSQQTNLOP9"), 20091500000000L);
-        initialState.put(new Hash("TDSKQTAXTFQXFMXYTDF9ZFSRXTBBVLMEDHZELTUWASAECSDMCVHNWBNHEXOGGOROLYEDHLCHZDHFWLSKW"), 1L);
-        initialState.put(new Hash("GTLGIHZIPVRMBNWQECFGHPPHN99NGGQHJNXMEBJUWOKIRAQOZX9PNRMXBHGRRZIDIYYYRKIGPWXAPVVNN"), 143476550000L);
-        initialState.put(new Hash("MURPSVADOURHRZHVFOILWIMIA9EQWMX9UILUBLOWTCLTVHNNAFQYJNLXOZNMEBZMWDRVIDFCOAPTBHQIT"), 157999944280L);
-        initialState.put(new Hash("FUDHHLFP999OAOHJLL9VJDJGEDHRVUHNRGIIEQ9CR9OONFFVOWZNURIHYSYDCL9KTTXCKFDLFFDSWYLIQ"), 22977919548407L);
-        initialState.put(new Hash("BOGWLKCNLYX9HVEWJEHZLFB9MPDOAZGEDDWMXQUCREEQ9WPRUEBNAACFSJPYSXHNGAYFHHSOB9CFQZQND"), 30428555638L);
-        initialState.put(new Hash("BRDHZOMXLQHZOYYFILYFNJTTYJQDVFHTDRGCHTVOYXMMNRZZBETEYBPAZSUDNGZWDNDUAHXASXUCVOWVL"), 25443045889956L);
-        initialState.put(new Hash("YIRCISRLXFTYGBRFTY9ZTXPBCHHWMSKUIVZTDQNSSJJKSWJZGTRNKLXTMUBH9TIQBWHSPSFABIKHFFGZC"), 16000000000L);
-        initialState.put(new Hash("LTTPQAZEBOXTGAGXWTXHKHIWBUYSPZFHBSIPOFGOSA9JPUTKJJMIGAPZKJVZWBGPGBV9HQTKPIIDRVZNN"), 60000000000L);
-        initialState.put(new Hash("CYXOZZTCKZU9BYCZVXARXWCNGHPAWBNEWKPD9VNBCCHGUKNKXQDCTEZGSOTGKHMWRTFZAAFJFQTXRUMCP"), 889144838677L);
-        initialState.put(new Hash("WSSQK9HCNBHPSBTDWVHASJHSVE9ZJWMOZTIYDBZWYCTPJGPLTKZBWWDDQE9AQQKZSPSFPBAIKPKQURXJE"), 467271830112L);
-        initialState.put(new Hash("FOSMOBEONVHOEJOLVDDTMRREU9JFMLNJSZRIVMPLKPQSNJKSBZLMAUKGQQHQPKDESKDHRCOXNMCTUDPLY"), 10000000000L);
-        initialState.put(new Hash("BKLYYTWQPSRVGCVAZVCXUTOFIESCCQFKLP9KBRZJEWSGUENGXYFUVPQQVHQO9KDNEQUCEKOXOEPIJNQOZ"), 140000001000L);
-        initialState.put(new Hash("EZDYTVNEQVDLCRYWIVFJWAIJZMK99YNTUHAGWDZCKMZPGHNMMJSQDFPLDXB9HXPKHJUAXFYYLSCFULYOM"), 1000996L);
-        initialState.put(new Hash("9KXTKBWPWESQGYTHBONJEJHXAANTM9WIQQPVBUACKYAVJJTBYJF9CKZKNGNYDFJWCOOILTYTMJNARQOEY"), 500000000000L);
-        initialState.put(new Hash("USQUPMFV9QXBBCSKOUHXVXBSNYK9WSDNYK9BHPQPXNCAFHODXQSHU9MUHSUFBWE9EEJQTL9ZZSGFZHEAY"), 19109260412L);
-        initialState.put(new Hash("VTALTCUUWOKIDQZYTBRFHY9MBWSRBTKTFTEDDAMDXD9KOVT9DDIYESEKMQTWJYGRGCELJCTTYHDHFRXLM"), 40358900559488L);
-        initialState.put(new Hash("NJJSUYOSHBUSSZUKS9SJPTPLIJQCROPPZJMS9TSLSXCOEY9QHIDSYFNA9PZKAQQ9CJFOCGLDDDWXWNFFE"), 828820032639L);
-        initialState.put(new Hash("FRJWTQDCZUHITRCXZYTWHERKQOTGIZOSBCDBVBJDLNJUOAEHULVKJXDVPKW9EASTANNMFPPGYJQUUNNEM"), 2006310587387L);
-        initialState.put(new Hash("QWEDZPVOSMBSUGBJGSWQ9OTDADFSDJADJWLA9T9CVCCCMLREKKJGXEEECPVRPPKERWRYQBQYNUWHBGUXL"), 485989210138L);
-        initialState.put(new Hash("RZNVPIAGZHGYBRBGOVHAUELIKEVMHHPHMPVYCZYAECBZOCVGCMMHOXLANXPCHNUQUQDRCXAR9VNRCXKDA"), 23246399970L);
-        initialState.put(new Hash("FCMMYLHUPZDLLGLXH9JNGANLMFPTSSMYDCUGXWOAGSO9TYMS9YAWVYTRWCVDFDYDEZFQDNBRIDNDHUDJU"), 8L);
-        initialState.put(new Hash("9YQPERKUIMPJXIZYMIAOUYVNWYUWQHCLVOXFJPVVXFIRIGXDABFMLMERTIVORCCBTPW9BXKDDWIPRHGIH"), 100L);
-        initialState.put(new Hash("GAGLONWFNLVZHYGICSLRIASRIBTVLGKXFEYRVEWTJWFNJUJGFIFZEXCESC9FYJ9LSIRNWAKAWLHOMZDBO"), 500000000300L);
-        initialState.put(new Hash("KSXSFEXMQLLXDCIMJRTBUNYEJZYTEEBLIPFIECPEVYHADVNKPMLJTEYKXLNUKTKVZUZZM9OTWYNFWSZAA"), 34744125018L);
-        initialState.put(new Hash("STWUKUC9CMAZSBVZAUPRFISIOEGQ9KWYOM9PD9GBNEXPS9DRHULCBXEHPPMNBJXIEY9RNZTBNGTKFXHBF"), 13000000000000L);
-        initialState.put(new Hash("H9N9KLOZCXRMIWQXYGXAAYQPWWIOLDNMWYHTZHDHFIXYCTCGENDTIYBLDFQGLCAQNJFIQRWWESHCCVWLO"), 289000000000L);
-        initialState.put(new Hash("EFK9GQPLYRLQCOW9BGRNWIKRYYZSXRGFIGJXPGSJKTISTUKGWCXUDEEGYQZBSBEOVZHIEEDOGVENDDYAA"), 300000000000L);
-        initialState.put(new Hash("ELHOVATMGHXNBRMEUBGYLLSJCGQHPQZYJONAFSIXJLRRZDAUNHIFOCJTNPSNN9MKGOMYBJGXQQPJOC9NV"), 46591653610L);
-        initialState.put(new Hash("XMXTJEXIB9PDSANBK9CCZGFOIAPTODWEAUXNQYVDKJ9DYKU9VFXF9QXFTONHHEWCLEMKQIYRGIBCG9UGK"), 172240000000L);
-        initialState.put(new Hash("ZGVACRBMJAIYPPCQXRMHTWIBVQW9ZUSUZBRWSNQANYL9QAHPPQQFLHVU9LRQVUGCDWISSJXKABRLQQEYJ"), 3500000000000L);
-        initialState.put(new Hash("HMSCTIKBLKIVSGMPJLIBHMSXHWROK9LLUCXCSDDTLQGVYXFYJVNRKCXVNEYGANYIIPTCJAJBBANRZDHUM"), 600L);
-        initialState.put(new Hash("JEFEMQBTJLUIIBHOCJTECFWDZEQMPOSPZPBVKJSRW9AHHUCC9CUQUDRXEZOVDZDRBP9YGBMT9HHLFQJT9"), 3500000000000L);
-        initialState.put(new Hash("JSMMXSBJYDGCMMHDOWCVKD9DWZMQCRRVYAUJIVLZIFWMXD9MAHVSX9GAMOLKAVBAGZUHPSYMGACEIJKAE"), 407210000050L);
-        initialState.put(new Hash("QWVMBTQCXDHEKCOCHAUQQRSZVCNBLGZDFHL9VWOMUMHXWCYINCZNOBA9VIIHFVAWUYZNCNBJWKFVFOPAB"), 3500000000000L);
-        initialState.put(new Hash("UFRVJRCLMIXGFOQNORTKROUNXDFRFIDDOUEMXFZGSVCPXRZIHWGXHGMFKUSQMUVEQVIWTRKYHFGRICQMA"), 10000L);
-        initialState.put(new Hash("MPHLXKMVUTKFXXMFIA9QYRPBNRTMQVYLXZUFMONLCRF9DAAIJZGTQDLCVTUOFDKJEVHNP9LCREHEUKPNI"), 20000000000L);
-        initialState.put(new Hash("KEVNBFLXY9BROAHHFSLPHPNFENTHTTKNUSIEZFQPSCFSUMYYL9JTPRMIUNR9RMG9TRORGOFLLKPFHPUMA"), 78006872L);
-        initialState.put(new Hash("CERG9MJHPLCA9J9WWEYQWMEZ99WNHOYWESWWCOWHIHYYIZFTM9UBFEVIVNRUEIZKRURMVFQWGXSDEKGEA"), 282721051918L);
-        initialState.put(new Hash("COFZICPFLEKPXRJM9PNLNXUPFRNCKNIVTTZMFTUYMNLADYTQD9GSUNKLPBBHO9MM9LZRVEERHWFZFQOOI"), 10000000L);
-        initialState.put(new Hash("UJIGNEHOYWJTSZYNFYQJIMCDRHYYRURARQIHFXNQFSDHPLK9KSVTITVFAOBHT9EZPVCLNVYXR9CZCZSEK"), 97L);
-        initialState.put(new Hash("QJIZNOMGLYAFHLBGFUVONXEKKWEDDXRTRIXYRTHKQYFPTCHCAINOBOW9QLYDGQIWOUSWVJRXISNDMPMRE"), 1013L);
-        initialState.put(new Hash("ROCGHKXIUGOADMWKYVDVRMEYDKXSZRQHRUDQMOSNXGMX9ATBY9LZXBSMLNERSWSRUSIVDVBHLZNKAXPD9"), 999999997L);
-        initialState.put(new Hash("MFFAJXIDYOHUVDZLISIHSRMRMMLTUPLLJHZQHRJXOGAK9EPQGLWHIJQRYSRRMKBSMTBRJH9IYNEYUYFMH"), 500000000000L);
-        initialState.put(new Hash("ZVIWHYJEAWFBJMBNSRWNGB9WJLYKZXD9OBBHENZEP9PZRJMSLAI9UCATVKHTBDLFNBHBB9IG9LZEBDEWB"), 50000000000L);
-        initialState.put(new Hash("VLVUYGWYCQVLDWIBVCFGXBNV9LOCROQ9VLREZERVJINNNVPZTMCCGTXFCGWWHQRRCQKTCDJYO9ZJAVHGO"), 77799800L);
-        initialState.put(new Hash("MYIJGKYVQXTIJUSSYLPPKVDKIYATNDDCDFWTIYITYMZGSBALRLMSUNQGQANXMOWAHPGAMWOQGFPTRPVTJ"), 22876792454958L);
-        initialState.put(new Hash("QLCLBLIGMWFITNUNODVTGOCOPGDNZHNJTNJGRBZOYWWNTTZWXUMIOLMBEINKLR9KWEBZQQHUQXYLEF9CA"), 13333300000L);
-        initialState.put(new Hash("S9GFMMXSMQXXUKIRQJHTYMOIAZKADBRXMQZSNLJSNNMKGJSBEGUXQSKLGVFJFCWGBNBBIMNPGRD9BSAII"), 474999999998L);
-        initialState.put(new Hash("SJKWASMCNSGMDMQEUPRQSXFALVIMJGROFLTFPKVOUTLKBDRNEJDVDLBR9EOAYNRQU9WZY9TJZYRHKOIMB"), 1L);
-        initialState.put(new Hash("PPADZYHSXNAJUCPNJCIMFZUNPENIWPOFHPTCUJOOFDPXCEBBVYMIQRUFDYZRSUITDUQXPMVVTGSPPIBXV"), 221000010010L);
-        initialState.put(new Hash("GOTUTEJWOTOXMFRHKCFDSXYJMLFMFOXTMIUJZG9VTOBKLPZDBXDCZENLIIVCMOHPJNTZKGTDAWFLBIKLG"), 3000000000000L);
-        initialState.put(new Hash("RJQKTKMAFCYYWGAERDYWG9XIZYBIZUIMQFMFGGSV9DYTNVBUNZHUSOA9LKGPAERCZRDY9XNTGTYQEFOFL"), 156900000020L);
-        initialState.put(new Hash("YWUVWCYNFZZJDDCSKYRFEXB9WLAFEIJPREUWAUAVXBJERXSGLRUBPVPLKQYUFBKUIATFRERCZRAWSWKMB"), 360354662120L);
-        initialState.put(new Hash("SVIXS9XZUBQMISJUSIPUUPKLGSIQFDXQKAQBHKHBDJCBLQIRYQOCQEAHKMVBBSRLOEGOZHYRNNYFKQICU"), 4L);
-        initialState.put(new Hash("RTH9JRVZQOKTXOVIGPIV9XYJOWPHIUYQZXEV9BORMJQQEGDYCEMWQZGIFWXXAEVGFKTUGJ9CIOAXQJRGM"), 22706687513094L);
-        initialState.put(new Hash("NYASXKXQ9CGIRXHWMCLWBLFZPXUZUGZQIQBAYLTHPJDSNOHPJYETF9JAWMMSOYHBJKVQKCIELHDFYPBU9"), 2104297419500L);
-        initialState.put(new Hash("UFMFHG9DFKREXEQVJFHVYXUQTTAWSVL9OQHZVDQLK9RVYXUZHCPMZWBDHTLGVECOYFPDBBSKVJVPEENXU"), 8000000009L);
-        initialState.put(new Hash("UYVZCOYIDLVIXEECKEEAEEVGBXTNAXWEKHYXMHFUBORMRUFKXPEHNYMIZCWATKABYSZEBQJKIDFQUQOVN"), 3500000000000L);
-        initialState.put(new Hash("HFUNWYUSKWIRBINTGYPNMMPKMBH9UTUFZFOVCBRGOCZDPXEJSUSAQHHKKLSBNNGAAMORNLD9NZWEAOZK9"), 813859300000L);
-        initialState.put(new Hash("ZOPWIWIUKIXXIUFHSHVVJMKTJAKTTWPUCHISECMWHHDUYTNYYUXER9UTZQBLBZHFBC9ZBQSTRNEDMJXQW"), 12187515197878L);
-        initialState.put(new Hash("TGYLEQOUVDHSZQAYNTDH99LSXFDPVXBQYBPIVZHFXECHPYWNWAHETUEWZSVPZECOLLRLDJXKBQWCMSFHP"), 2473782590000L);
-        initialState.put(new Hash("SOKDCDBCG9XMUL9VSOCE9KJISDXX9PYYHXEILSTPQZDRQUGSBXASQGM9N9H9VMXCCOISXSSABEDFRFUEY"), 440106165028L);
-        initialState.put(new Hash("LIMXDPUIEBQYJEMBBXQZIPHTVDD9WPFQHKIHYXWYXSDDRHBLMFPRJKADWNMDGRKKKF9ERBXUHGXHITVBY"), 89802L);
-        initialState.put(new Hash("JDSTOIPKTLNT9WKABDKIIOOPTTVIE9YPDXFRWOBLKGDVTQPJPIJZUBZRQZYRMFBYMPHLMITAEPNNKBYFY"), 1500000000000L);
-        initialState.put(new Hash("YYICTMNCGSTAVPDLECWWFBZGUOYQWFQ9KMFQIKTZLRZQLIJDBSWRVEBEUOILFFTQUVQUVKZWLEICQUA9G"), 517953101000L);
-        initialState.put(new Hash("GMSZMBOHYG9EMZWCWVPNSHCFZWCCCGSYECFZBRAKZOQSJHWEXSVLLVIQOIMLRKOJDKGJZ9HEKDIZWZPLF"), 100000023729L);
-        initialState.put(new Hash("SVPPIXKTTMUMJFKARCJUCWWOPFSVATXNSTDDXXNISTSPWTLYD9HZQPPRSVVBWZZOEGHFJLWZIEQ9PMVIQ"), 2300000000001L);
-        initialState.put(new Hash("GQNMPJCUZM9XMWPMWOAHURSWVAJBCUYOBRSGKHHVAMZSOYLMZG9LT9GCFCGTNVXQIO9YWSUOGGVKSRZH9"), 1234L);
-        initialState.put(new Hash("YQGBXRYIHMTSKHP9XNMJXUQT9CAKQDVILMVUDSONAKZTRAFGPDCRDXYLMLNSJLKKYZGVKUVW9VGK9PSJU"), 80000000000L);
-        initialState.put(new Hash("TGTDBDZTOQAJMMXHSXCFLVRNY9JKXQMTXQGMCSRWWRFJXDLAXIOGLTKVFAGDRNKWILBXLVO9W9R9ALGD9"), 2070668223199L);
-        initialState.put(new Hash("DVQODIBVHOFNMEFXCXLLT9YCDVEWKFGAASXW9XESTOFZZ9CRQYJUILRPSF9SK9FLUQFMPZPWFXDTOSGZC"), 319645982576L);
-        initialState.put(new Hash("M9GPVQPZFD9VYZCEIWMVOBRZWGNFMJ9TXDPSFVZEZNZEI9SMNEMHMYPSRGMTOZYLDPWDVYAOPXXKVN9QC"), 51000000000L);
-        initialState.put(new Hash("SXOFKVFGTDXTCZGAANZYIEGJLMXGVBHBZH9YOC9KDTOZNB9LWXYEIOTFTVDBXNOUUCBMBPCHABDDKBVMG"), 1000000000000L);
-        initialState.put(new Hash("HEVRWRKEZ9KFGHATSQCPSUAQMURGEGFTXBTKEAMWQPFZQCZDBHJNJHJNWNNRVFQSTXBEEAETTLOQDOHDM"), 400000010000L);
-        initialState.put(new Hash("YBYVHWIZDYHUGAFMBZFSWKUVXDXFHOOQMHKMV9VNUBFPFQSXXWVUIV9WXHFAQGHUIK9EDRZBKEUB9XQXM"), 367000000000L);
-        initialState.put(new Hash("TIJUXQEBEPXJDJWUPAKJJXGQOBSXHKTIFZETLCXDXRQWHVSNKMZGVZVCUPOULMMDOUWSJOTBZYBTDMLJJ"), 10L);
-        initialState.put(new Hash("VEIA9PCFLPDJBWBZZKXZASMXCVDHEXBYALXSJNTRXAOGZVQVGBHLEQXNAGLFUKYTSOWHRMBGUHAZHJTZO"), 100000000000L);
-        initialState.put(new Hash("HVSVNGEPFBQHCWXXV9BRWGAUFLRH9M9CCOUJ9OYUNSAGHXLORHALRWECRTRLAICAXXQSHRYWCZNYUXXQO"), 999999000L);
-        initialState.put(new Hash("GB9KUMIMENWNHDONAVYIXDGKJJWGO9UFPBWFFMAHLFO9ZYMH9JZANXZUSWGSQBLTWJWINACCIBKXKBRFP"), 2399999999999L);
-        initialState.put(new Hash("PTNTNXXCKUSFREBWYPVNRAHW9JVT9E9CQXRQNOJJNTNUMKYVBOIFYOQHLGPKBFSXHDAYDQUSQVECORUST"), 1L);
-        initialState.put(new Hash("FTJPHXIGZNHVCOZZUEDZKOZCZRVVZVHSWFVCZCLMVVLGHZVDPFXJL9BLKRCTNESF9WQJMGQNNUEYFL9TO"), 22000000000L);
-        initialState.put(new Hash("IHHOCMLHDJYZHYPCNFDZVMPSKOLYUYYDZPFDOTPAGNRKQZVDKZFZPNWNCAOVIYVWLLRGBQNFQJWSAMPFU"), 3893L);
-        initialState.put(new Hash("HMJPLDZIASFMFHNMFEDQJNYMWVPJQYIDDLYLOMLEQQMLYWDTUNLODXYNBPHQWKXUMCOOJKRLOCOQCN9E9"), 2152238736487L);
-        initialState.put(new Hash("DEGIELCYBOAIJMVGGIJABWOFLURFHFHAZUUCKVNOJEMJCROFFCHCQSCKDACHCCEBXPALQ9YTVVCVAFVSW"), 473254510909L);
-        initialState.put(new Hash("RYJSXDFPJFQWXHUOHJQZBNXHYEKU9IAVDSAVGVJRTDFYFFDTWKFXZVLOGTRIH9SRZHHUTWAALVDDUQQY9"), 331124850250L);
-        initialState.put(new Hash("9NBQQQKEIGDZAEWYXHGEN9EGKZLQOPNSMCBDGKUIJJGBIVLVCMFGKVETCQNXH9FXEAOFHYEC9EVJRYASL"), 2738756977715L);
-        initialState.put(new Hash("FGVRVAQFCJCJGKKLZ9VGPPFSPWL9LKDRHLSJT9WKE9AQTCMYPFGKHZQNNVIDZJLIWDPRNANSZXYYPTQKX"), 200000000000L);
-        initialState.put(new Hash("ROTKZRI9DLYECIPCBYKUPZPGORPKRHAVBJIFVNOUXCH9PTFQWHWHTO9DBLZRFVZFLTKSIDBGPQNYRYWWW"), 2224L);
-        initialState.put(new Hash("CYVZDALRXPBFSWOVPAYMVEGZRAUJXTVHADNZFSIEMIXGLQDHPIOPFAS9KNHSEGLYOCGKUXGYAJZXF9HOP"), 4321L);
-        initialState.put(new Hash("DOHDFNOAVLWQGDTYSBSEQPFAKFUPMZNARBNF9YTFAQKMQLAJVJRGZPECPE9MCIVQYQPNHXE9VIFZYBSAF"), 503259513628L);
-        initialState.put(new Hash("VJZYANGIISFSSJTVJYGSEMIIUC9HWTNOKBNIHMHKLUZFSFEAKSBPBDFZHGEMZEQXOBFMQCQGPPJP9MBNE"), 538L);
-        initialState.put(new Hash("XYZMDXSATSJKUUHSNTHNQTPLLZGSWTMVPCNMEKTVAFQQSAIRVEUXBFFBVP9ILNYSJUUWQMSGNYLLUNTIE"), 3L);
-        initialState.put(new Hash("MFXYRKLBQVOXTXTBRQ9RSJJOVBISKVL9MBQPOUINFLOTXZPFPJQMKLHUONYHXUZWGGORVCKUVXJKLXRNN"), 3501000000000L);
-        initialState.put(new Hash("ZGGOTXNUEZRVRD9SRTDSF9IAVXCYUGDRNVGGTGGBQVJJEQYLKQPBKJLTQXRQBKPTCGWUEAGRPQWMEYWD9"), 237372975827L);
-        initialState.put(new Hash("CCIHPETWNZVKWVRTJOCPIZYWXNMAJSEYLCSULIMQGF9DAPIIVUTWENOQSNQBWJYUKU9JQDIKILBMKDHVC"), 1000L);
-        initialState.put(new Hash("9ZZJAAUXEZDOGLEMLEUBOPMTBBPEFDXLDCVMJGBCSKGUFYARZKGPBURYZANCEXOCTGSADPWJHVNAVPSQV"), 300000000000L);
-        initialState.put(new Hash("P9TXNPHWBXDTTBSZANOONHKJSBXFHXAMCKCBEMHANSQNWDYXMYTEBNQZCNOBZRPYONLJJWUVXARZHEINQ"), 1000000000L);
-        initialState.put(new Hash("W9ELCESIEOU9BJKHBEG9ZXI9BNBBMZKRZZOHMLQXWSGLX9NEDEMMHMLQOYWCGQ9XWOWPI9TLYPVGQINIW"), 25L);
-        initialState.put(new Hash("ECLGXHBAZRSAGZGPOZISTETJUKRYJBEWPWBFAWVBAHWDVYPUDOLSKQCSTAAVGLEDUVAGTRQ9KSMS9HHSK"), 2574939312472L);
-        initialState.put(new Hash("DOJWOBQYHHWKBVTJAJCBKSKTKWXLWOEN9ARJUIORHKDENUNCBTLFYDMDTHXXMRQNRTOF9T9JDUEYFCHQM"), 45L);
-        initialState.put(new Hash("FEUXVOQVNCCBAXDNCQFXYMOLJPGKVDHGIXG9GBBJHIBBORFFWKEMFYCCZN9RZYCXQXUGHOHVDBMBXQERT"), 17500000000000L);
-        initialState.put(new Hash("RSEZKPFCHSQKJZTKYMAJXMJQMNNQKQ9BTBRUUXENVMQZLN9IK9WTEBBVNCNPZI9LBZEWIDWXNEZLCJWYB"), 1000L);
-        initialState.put(new Hash("EXYKLT9NAYZZEV9VSUFAVOPVHPWYTCLXISLIROVKXOBYKULANSORJVUEJPTQPPXNORSAPXPCHDMTUYWNJ"), 1L);
-        initialState.put(new Hash("MAISTKVRT9JDDQBFDUERWAECOXDXLXPHTPLRRCSZRXQZVQMPBYITIKALJFHFM9XEPTLUABEAORYZSDRXX"), 2009782602191L);
-        initialState.put(new Hash("RXCNGHWTHM9VWUXMWLL9WQ9WNSKOKJEXKVIHPXMNJDLTOLUOJSNBTJCFTEGZOYSDS9WBYVRSJVDFJPIRG"), 200L);
-        initialState.put(new Hash("W9AZFNWZZZNTAQIOOGYZHKYJHSVMALVTWJSSZDDRVEIXXWPNWEALONZLPQPTCDZRZLHNIHSUKZRSZAZ9W"), 8500L);
-        initialState.put(new Hash("UQULNK9BPRTBLTKCCLZNHXKKVPIUABEMCNDENGLQDCSDLGPGUAVSK9VQGWCNOJFMGRZDFRVCUDMMWWPLH"), 6399999999999L);
-        initialState.put(new Hash("NNATYBYLADEVDDGDXAKWLDFPSHECWAJAFGFLDMFPEB9KTEPCROLHFWQMJQBHGGF9GIXQAXRSNYHKNDZVZ"), 112422935825L);
-        initialState.put(new Hash("XGBZKZUECDOASFEGULGXPNQSAWJFRXKQSY9KGBUGM9SIPNEMSKMCKFGDBLLQUJUWIWQFVKCKOTMAGCDFJ"), 13L);
-        initialState.put(new Hash("UVMUKIBGFKWOAOWHOC9ZISUEEDYFFCJGHYPJHQYI9PHIICJYATWLEXRVURHDEOFSKFUIGCLOSRZQFFDAQ"), 1400000000000L);
-        initialState.put(new Hash("VLKZWZYHOPSYFHZBHKZTWKFJTFENVWQOWONSGMKIPHJK9XYXPBKEFCMA9EJKGFCRLVZIOCRWNUQIHXR9Q"), 2000000000000L);
-        initialState.put(new Hash("UTQVLL9OPDJVOAXNIRAJTOGRUBLYYNBZQXYJSZJITFUUQVJZQZMHGUWEERTXPAXHAZTKRYJBWQBHQ9DWW"), 1000L);
-        initialState.put(new Hash("KARHYYEKEEC9NJDOOHEQXEFIQKSNKBYNIDFTQEECST9SMRJ9WXURFSLWOLXOFHMMXSCNNNZFIADRSJOGG"), 3023198505042L);
-        initialState.put(new Hash("HVUECFNLEXMCBQJQQGDBRPYGQLDECDHPMPHEVBTOYITF9AHXOYLXS9SOONARWJXAOAHPBXOZWIKW9RUVY"), 100000000000L);
-        initialState.put(new Hash("WGOKBTUENTBOAIP9ORMZQAZQTU9TSIEZVJSPWOHLFHLOEHCWDOUWSNCDTXAQZCNSANMAZXONALFCMFDCF"), 234880071453L);
-        initialState.put(new Hash("9KCKOEITXJTUZYAXE9NLBJXWWBSZFWZGNWTAKWKEGTGNLSSZMLOIOZIKOGMYQGHCYHSLRMYZDBBIK9POQ"), 1984L);
-        initialState.put(new Hash("VECNGUAWCVBIONVNZUAKRXCZRRPUMFVPW9GRHGIZGXJVOYRZBGDYPLCHUYZQCNCFHNEOICCCWTHFFALUB"), 995783L);
-        initialState.put(new Hash("KVQDLPFSSXKFTPPLHZGHCQUDVVVTUMPQHADABPBOPUPJBFIDYDWXCHKSHBYASRZMMDTMUXBTNAIAJLPGV"), 11338256715399L);
-        initialState.put(new Hash("HNTLPZJCNFSWSOZXRSYRSXLLTNETVTYZRYHIUM9LCGEGH9YYYIMZLNLRPHULAAOXIRWRCYJ9PLWKZZLDG"), 1L);
-        initialState.put(new Hash("CYCYVVYDBNGYYUVMMOEJEQPCVOBWPULVYCELANDCHEZBJMTXCDMUN99CRXLKDXBJMNIWQWGBMXBJQVSNI"), 2595000000000L);
-        initialState.put(new Hash("ET9JXLTBXIPUDGUYBBFXHYZJAWJRGAXTFFCCLBEJIO9NPIBXNFEGRHOVFVE9SGOMVLXIDMWKURUDRTKCZ"), 40345431883L);
-        initialState.put(new Hash("TCNFMBFDSOSQLYIRLVEYOGNRQJT9VQTFQFJIADUNTKJAKYHD9RXDYXZQALLGQHKPDQCHJGQWUJUYHEFST"), 9084431889882L);
-        initialState.put(new Hash("YBCQLAFNYZYZQGL9XTTTCBGMJMWJHWHUERPTIGPXVK9RJAOMCBNAFDMOPLQSEKUKRLOCESNLQIBPVOXSK"), 213527337685L);
-        initialState.put(new Hash("MWZZQYBYYKRVQJIGIFHJYUWZTHYRFVTLQFXXIHNMJWGQUPOUNJCCLYCDNLAOMIX9JVYBQXSDVAYRBBZFS"), 3498000001000L);
-        initialState.put(new Hash("UGPUMIHHDXXCMNLPFCVAOGQCFBUYBKHTLWIBTBXWDXKYVJLBVOFNDLPOJEDCITNZDAYMJHYCQMO9GPGAF"), 968997999948L);
-        initialState.put(new Hash("QOHIXGMXGDOODKHKHMTJOAODKEWKHYXMHHQIKHINYXVQXJRUUFV9GTSIGVLWOLWEWYYXJUPEAQEYPVBWS"), 111L);
-        initialState.put(new Hash("HUVODXRQQJDWZPMCRS9MBUR9SHISTRWEMJQHESGCPJDZMSTUJFGJHYEJQRTVKOXQWXELCJSFINBCJZENY"), 13664706452635L);
-        initialState.put(new Hash("LXFFUASEAWAERLJLELYIFOBSHHVJNDYKOGEVIPWSVRDPTQWJTVZV9PTAUZE9FYGOPWPQVJYLEHRDNHVHH"), 15000L);
-        initialState.put(new Hash("BSUBJZ9JXIMKDKMUOGLMXLBHITBGKCWQBMYEZBGTEEZLXI9JCZEZRZUFJJZXZYPDHVARMCFNRYEMTEMQW"), 212258328908L);
-        initialState.put(new Hash("IBZADHQZ9GYY9NMANJJJJ9MEW9GDMVATEH9MHAKPWUOHUOVDGQHVVAONUCNLQIGDUXRPZOMRXJ9RAJGTL"), 9L);
-        initialState.put(new Hash("MOXQUZ9GDZHCACMRDHEXTINLVJXCOHIKVSIJBYI9ATYDSMXRCMVPTLVGXBMJOULWFMOFAWJLBCTQSEUII"), 11438385227479L);
-        initialState.put(new Hash("IFUD9LMNWVJOIDBSQTGNCDGDFHCTVTSTGJXDNPGPL9CQHJXARHYNJLOYUBDTOAECRGQLYSDN9IOVGGUNU"), 1L);
-        initialState.put(new Hash("YIDOLOHIKNPRZXELLJLSDRMGZI99VGBKYFRQXXNUMLZVALHERALXXCRMGXXKNVLWVCVTKPGIAAHYRAUUA"), 5L);
-        initialState.put(new Hash("NJQZQAOGKQFLQDASVBGDNW9PVBTYZWNQSQSHFG9REMM9DLFVCTY9FECJWGWNOBXYIYDOOOCHLITRDD9YL"), 99000000000L);
-        initialState.put(new Hash("CECPAM9WOTBBIOLPCXP9UMKAYFCJGLXSHYLFWTDZFOKRDJLCVNEOPICBKIFQJJEBAKFOULGQBPLMYYOVI"), 2390177077051L);
-        initialState.put(new Hash("XILQ9QJAPLKFRG9SRMTZIW9JIYEQFDHEORIREEVUSXOOHNJCXKGUZCFATHIUMDJTXYUHBNXQYTZRIMWQS"), 10000000000000L);
-        initialState.put(new Hash("HBRFHTAH9BKNO9LORDBNMYDZFOBXPD9YTMUYMHIEAYMPJBQMUCKURF9LVHAYGCINAB9ZIPYVPHFJCJRAS"), 21706687513092L);
-        initialState.put(new Hash("CH9UMUDRANLXRRTKUOLJNKPVAU9NXF9CWKPUOMYIEWJPXFHGJMRPPLMHDUIAJSIVGFZVCDTQXGYRZLSSG"), 172636000099L);
-        initialState.put(new Hash("9YSVQYEVXQZTPLNBNUOC9VEQ9DAEWFDSNPWJADCTFTTNTSDUDI9H9OUEWIYMXYXIOOXFAQSXFOX9SEZPU"), 1250000000000L);
-        initialState.put(new Hash("QRVLANTPPSAYKKJKLCZYEOPPZYGCHWHDSURLPRTAPEBXGWWEKVQAKMQWC9WKZOKIPKGLZCFMTWHLKIIW9"), 300000000000L);
-        initialState.put(new Hash("LWDPVUBTYEWCCDZREDXMAOAGWLCYURN9BS9RTKX9MLHDRYGHUFOOVNZYWBWYIYWKMIPLFLQ9QFVTMCEMX"), 923383587553L);
-        initialState.put(new Hash("IHOQQPRUASDSTHDMHUZKSYPZHTDS9AJZGKDWYHSGNLZCUSCCRMWLRGDJYHEERJQLCXRFIQWEZDZCLUAIY"), 2955000000000L);
-        initialState.put(new Hash("FTCF9EDCYHNICPILTVMQQJFJGIQEVYYLKJF9LEEBBPFTUMQVGRDLNXPGRHDUQXRQ9AIGRKOPTAJVZKJSX"), 1670927000010L);
-        initialState.put(new Hash("Z9TBIFWMGRCKQHDTYTWLJETGACKLXPPNUKQGOOHZBKSGXKLNYULQCTZIHLRKU9HQXNNPTUZXFWWSZQHKH"), 15000L);
-        initialState.put(new Hash("UZE9BQFPZELIAIWWVYHAGZ9QLIUTUD9BIHVQJJXMQPLIBEMLGYYHMRWEHTP9WUDET9ULODKGSTVYVDPKH"), 3047166999L);
-        initialState.put(new Hash("GDVDPIUTBMGHQQHIWD9QGOAYROHACOIYECMXNMRJJQGRITLZDGQOLDOGTOUHMJZLPSTYPIWWMAGKLUULA"), 2779531000001L);
-        initialState.put(new Hash("D9PMUTXIOPB9TRQHFEAC9WIG9DMGWPUJXAJOWQN9CFRQGZGCMONFIJMQNNZVSW9JLPA9HJILBDKTOEOPX"), 10075574156220L);
-        initialState.put(new Hash("GYUSFLKOQHTJMMWYNIWUWXQYKZPXTFSQMELNJGKKJOJEAZCNKOAOMCLVQVCDHXZYTTBENNOQLOCDQY9VC"), 3L);
-        initialState.put(new Hash("WXPNGLYQLMPAU9TZIGBYNGWGDQZZUJMVCIVZ9NZWDWHPPKTTD9FALSQ9FXFBC9Y9YKPEZAEGPYTGGZFLP"), 100000000000L);
-        initialState.put(new Hash("VBUUBZAAOEQBDNHOGUUJZJBELLLGVLYKZSLIPXYHLRMJNZKGVFECWJPIKPMEBXYQJOWHIHGBZSNGFYKCU"), 1000000000000L);
-        initialState.put(new Hash("MXQFLDMCXXPGNQSP9WXXOT9JVGVIILOYHDJJMDJHMLDFGVACHHMJKAGJTBCILDOKTSFIDAVOPAQHULKHF"), 1234L);
-        initialState.put(new Hash("GIPIOGEAKYQYDGKEVW9NPCVI9VWHJQI9OGHLVJATPFKWJQQVPRSCE9PCFSZMRCHSVATGXZBDOSEMRRWMZ"), 2000000000000L);
-        initialState.put(new Hash("XUUBUHMXATIIQYJHDWU9ECTVTJSATDLXGHPLTCWYIFJWBAYW9TCZABIJOKTXRQZLKMXYQBDPFGZAMLAHK"), 69999999991L);
-        initialState.put(new Hash("QRKITYQHEAV9TSKRZQZITURTXPJRLJXKYCTI9GHDQ9PYPJVH9ZLBENWFVRP9TTMTPWXMGKXOQZZJFXZOJ"), 11004999999999L);
-        initialState.put(new Hash("OHYLEHXUHXQHRHWWTRNWJXXMQFGYYRTCCBXSXHGQGSY9SA9K9MBZIDZKEOAS9L99YEMHVILDUAZSWVMXX"), 100L);
-        initialState.put(new Hash("FKLBCUVYYIVAWJNHTSODVHNSYFVRSPWMFB9ZIMMEWSVUOBWSWHLVKNJXZDBBRUDHMYBNTW9YDFGJEDEBA"), 55590620000L);
-        initialState.put(new Hash("ABHSR9ZXYDQTXAO9Q9HTLWSRADJLSNME9RVPBRZMXPYOBGWOQJBXERRUVZWIXLFZTTKDFTOBWXBIGLUDD"), 3500000000000L);
-        initialState.put(new Hash("G9ZHMUFZANHGKY9RJZWKEQXIHQGLTLTXXLIKRYFY9HRLRHFJZHBBFMBXCMFJPAJSWY9COXH9QOPGCOIFT"), 12L);
-        initialState.put(new Hash("WJWSNEPPVIXZ9LT9RNTBMHBQHSCS9QNTY9OVIHAHONKUV9EYCXACLJCSONMEOPJIXXJZORTJRIOHMGKM9"), 3176000000003L);
-        initialState.put(new Hash("YREZCBVVDKPNWJZDKLZUBJEINC9BHGHGTPPMMZMFOPSDYUQIJEPTIXHIOPJ9XLQMTGHXMPSYVVPIMXCOS"), 108589929679L);
-        initialState.put(new Hash("BRZFTLQRYIRULCS9CKGBAVPGKYOAKQXHJLCWNTJNEZHGDUGZ9OFPGKRMHNPCJWOUNXNIKMA9T9IBJZCNN"), 1194850888625L);
-        initialState.put(new Hash("VXSJQUEVNNFDQJXBIYQXVYEQOSMLPPPOQQEHEMODDGC9TNUMMKYUCFDBRBYLTMPNEPX9AWUJNORKNQGQP"), 3000000L);
-        initialState.put(new Hash("UKTBDDDQBDMJBMBQ9RMTVBWNYSXPSBZV9VTISO9K9LVGJFNROXQGZ9ARBJRKXWDXSBVKIPTQV9CWNRKML"), 200000000000L);
-        initialState.put(new Hash("WYCDCKSXKHJ9HHTXBQABWQLPKNYTQLPVCXWUHQWLXIFKULMD99LN9WFRDNEGQFWGMSFLISAXELCZ9QWBA"), 54500L);
-        initialState.put(new Hash("UWFZOLRROBLGIWUZQUVKENEAYMZIXUQUHGNRIGDRVZCPCYAKVNHIBVBAVXFTWWUHSKTOVXEM9KLRU9VNV"), 2319659533772L);
-        initialState.put(new Hash("9OBUVHEDDO9ZBIHBLNUP9ESECGXYTYFFZVEBDUGDIWHYRFUEKACK9TKDDYZWKRFYUBYXWZKX9KGKAVZAV"), 110000000000L);
-        initialState.put(new Hash("TRHRPUWXNCS9KSCNTRXVGY9VZV9OXKUJVFRRRJBXGOROHLUXEJUFHRLYWUQVGOAXJIXW9KCZEKCIYTPVW"), 35495637520002L);
-        initialState.put(new Hash("9LNEEGUUUWFVBTMXHR9SKS9KSIDELYUZFIQVJRRAKVVUYNAVCVDPZCAEAFYFMKFPHTNKJUXQAJIZZHANA"), 10000L);
-        initialState.put(new Hash("WJWX9UATMBTAGWDRJSEOBFZSKSAYINHB9MCUQVEVNUL9NOPKG9TWMUIVEWUBKCWJAOQIRSBEIUTFDGSIR"), 10000000000L);
-        initialState.put(new Hash("MMSIJUFBWRUFWEUJQXISPHKMRQBHNUMVESWXKAWRMLDRMJPIZCKCWGISORBLPXQGVZFHGS9ZLTSFYRRAP"), 452200000010L);
-        initialState.put(new Hash("VSKQSCIAYSMXIVPNKLBSQPYXVZXOTPJSJQCX9KYDHKMTFYQUXP9RCXVHQRVCIRCUXUJKDCCXDAOONRAXU"), 22599524339000L);
-        initialState.put(new Hash("EQY9TRLGGHVSDZYGWQFATFQFOJQIYJOLJW9VEICRIPVHXCYTPQZPRFOAOOQAGD9CE9TMU9PSVKJZOCFDA"), 4538000000000L);
-        initialState.put(new Hash("ODGPLBANOTETCA9XXI9HHCVCQHRYYNP9KUZUPMXCBTBIJJNANDKSGHPAODPUQYGLZFYRGBBROISARQEQD"), 11015000000001L);
-        initialState.put(new Hash("OLEWDLFJ9YFBVNWTJORMNPFIQM9XJWSE9YMADTHYFYXTROFYFPC9NBDGE9WOMFHTECBJUVCFEEPYBWCDZ"), 3139000000000L);
-        initialState.put(new Hash("QR9NLEZWZGGOKOFWGZHFWYKU9FBCCYLBPPTJZQLUWPJXWLPCHFFUIOMINUECQVOGBRPXHHR9HATFXPVMU"), 1379283139L);
-        initialState.put(new Hash("9MNLZPAUALQYPM9PJLKQVAWRMTYQBUICM9PZZSGNMPSAJE9IIQRNGLVGHLCRBUUHFIHOSLTVUIRVQJKDL"), 8L);
-        initialState.put(new Hash("OOVEGYCWNOXNJWBZKYGPNJBUIGPCUVNFUOXVQMPYZBNANMJZ9OAN9KVYPJTELTVVOOCRTCCCHNRGHUTCR"), 100000L);
-        initialState.put(new Hash("YEJGZF9UBCKPSXQFEYDIGIUAMYFSOZHACQYB9WRHIXVYHGAVNTRRDBEMLJTEAMSMVVZLGDHXV9BPUJE9V"), 2L);
-        initialState.put(new Hash("OMJAXSFRSYLVESSLHFFVJWCBLPKKJBJ9PSAXWVJ9VYVYUCYLPINDT9KJOXRHUVQZBVJDBXBMLYHBHJOZB"), 3L);
-        initialState.put(new Hash("BCDTQYMEJGYKKGAUMFXCHUCFPZZHIUOIWOXHDMUNJIKYXTYVZVPBCUKZUUBAS9DDGWAKMCMUSLX99YPGH"), 506000000000L);
-        initialState.put(new Hash("KTGMQG9VTSCCUOVPQHOAPFY9TBFQ9MNUQWWPKSNQPF9JSVEWTTXGTHIXZX9YHKTYMZZEGKNJYZEJZHUL9"), 3642136769694L);
-        initialState.put(new Hash("9KAHVHGSUDRJ9QTVXFOVCLOEPHPURNGDSOYQCOMSZISLLKTMLCEHDHGBJ9INAXGQNKXQBKANZBLZTMQGO"), 700000000000L);
-        initialState.put(new Hash("LUWPSKJ9SRNOOGLJPKHBWTIFBLBDCAZU9CFTEZYJFQEDRHFDWTNNOOT99NOQRSOQKJYLQDDUVBATZHWNR"), 277953028327L);
-        initialState.put(new Hash("FQCRRMWZIGFCLVVYQDCTXVL9EVI9SRVWFHLZAVPCBIAQDPAJSEUVRVSNQOFMOTHICQJRZKWZYDWARWOYL"), 125000000001L);
-        initialState.put(new Hash("YVDIDIWSXOWWNTBFLJFEKYJZYOGSUUYNWPIJQTDWTAFZSXCQDOZAVEBHGORQJEXSVQZSNAIBM9EYVKUTF"), 252999999198L);
-        initialState.put(new Hash("JKKFANPEVXPNEQKIYFOFAYQRQZWD9FGIZUPZJYQNDFTMOQMLMYOFJCVHSWAZMPUCAMWOETHXXCJBL9XIB"), 34179185522639L);
-        initialState.put(new Hash("JOPJAEURFPFIJVQCXY9KQLCH9HPPVONIUIHZZWKAVMAWEXDYFGRCZDBFAENGRJKONLCUAS9FAQEFXRDAZ"), 3000000000000L);
-        initialState.put(new Hash("EDYNEFFAUUNSNTJTAJCFSIRZXUAERSEISFSCQUXBJJTKAFUTCFEROEMNHYERVPZCLZYSAFZNLCHEPYRFL"), 13681234563932L);
-        initialState.put(new Hash("I9OMHKZKVYCRFJVPLQDQLIGTGEYWNRFRQZZOVZJTHYGOCYCHINMYBCSUNBOKWVKZLZKBRKGCZQIRGHIVP"), 1219349001777L);
-        initialState.put(new Hash("WJ9BOZYOL9WPWKYT9PRUB9CXWFGPQELRNKGKL9EYEMTHHHEYHELSSCIHBJIJHIGXWZIQXMJAOPLPEQZIV"), 1000000000000L);
-        initialState.put(new Hash("ZHGLBNWBSNMHD9XVO9NFYPQFV9BLLWALSBFVVFSMNQOGFAVJYKPZH9KNAXMORKFJGVXEDMXF9YFARRWBG"), 8559733243897L);
-        initialState.put(new Hash("AHXEOGOSBOLTPABMSHOYWZGZXAGNWRYYCWGEVZQJPK9DPAUIUKZZYIKUDOKDHXYDZZAPQGD9VAUCHJWZG"), 50L);
-        initialState.put(new Hash("QMYNWPULEQGLFNDXNFZESHRYJBLVGGHJFZJLMUGZTWOTEEKDVIZ9SFV9DKVQQVZUDDRTJWVOGKNGOI9PG"), 3500000000000L);
-        initialState.put(new Hash("KMXYNCHEEFCCSSORNNJFWTEPLXEIZIJYZUZCYQR9JGGKSBASAGTAPEP9LLXEVCYNTYSLTS9XTWBFUSO9C"), 309765141639L);
-        initialState.put(new Hash("QCEYUNUWBATRSWZBMC9QDXJJFXIKWFMGSPAGXPWSRHJWWVFYDHRFHQQBZGBSSHLQSSKILQNRGQ9ITKLLZ"), 3500000000000L);
-        initialState.put(new Hash("HBZWQJEHAQ9KWVIKGDO9UQQ9NXCHSRRPBJUTMRAWNVNAPXGMBOQBCFUENNRCSDSNKUUQFOKCRHVRSZFHD"), 390177076041L);
-        initialState.put(new Hash("SVIYRVSWBPV9KGAIEFSCKMNXKDQLYITBRGJZBYVVDQUZDIUVNNEYSZRPUERZVPCIZBZR9NMXRVVPEPJFX"), 86000000000L);
-        initialState.put(new Hash("ERRHMXEWLIMLVAHYOP9TKYZJLNFWF9MHNIOUEGBMJCETPRQGZKHGEYHLGTVBKVONEAINSGQPEEPYCRWYX"), 2749862147130L);
-        initialState.put(new Hash("GTZHCVMSGSJUHLT9MNEILUCVYUBNZHQTRTL9MTZWHKLMGYAIIVWUJSOQYFHVOKKZCTVSGTPDGCFENZSIQ"), 3500000000000L);
-        initialState.put(new Hash("MJSUOBVFQNSWZGZQDFMNGOMAKDQMTOPPFNWQ9IOBBVIOJOQMKBU9YPVSRU9JJ9Y9GWAKXQXUFJOJXLTJI"), 10500000000000L);
-        initialState.put(new Hash("PBPYBMOTXDQTAVOPXVRSPUG9GKHMJUDDCLPFXKYTPODXUQ9QZK9CKZD9KBPDCTLWKRNTCSRNSPTOPLSIP"), 1L);
-        initialState.put(new Hash("WICCBTMTEULPCXCGYSTAH9BKUHBPQQOH9QS9ZLNQRCGTU9KHYFMZQX9HMDSLXKXFBJXOJGRV9XVPZXOLA"), 99389234069L);
-        initialState.put(new Hash("9KGXREZCPDIYBJXVWASZZKNZANRVIYIFPWRJFGLUUJRKRVAIZIGMZSVKTYQS9FMLNJRKZCOSCSIYZEULK"), 410953100000L);
-        initialState.put(new Hash("YOTMYW9YLZQCSLHB9WRSTZDYYYGUUWLVDRHFQFEXUVOQARTQWZGLBU9DVSRDPCWYWQZHLFHY9NGLPZRAQ"), 98L);
-        initialState.put(new Hash("NZDKLLPNXGMOGRNCHODOYUHKSSFOQFEEDFPXJQEAEKPBOBZORYXXUALWE9TLSMVGLJBUTFEKDSASZHLQR"), 3500000000000L);
-        initialState.put(new Hash("SK9YMWC9OHEDWXZOLRNEVMOWZNVEZUMCGLHXVWH9HBK9YTXUT9GKHNBKWBTNCDPTKODDUNHTVSBZDYOTO"), 6800000L);
-        initialState.put(new Hash("KVKFPVMJTNPTJWNCRBYXNDRHRMJGNKYIIVP9MYXUYZEPGBUEJSKBMWLHXPCQJ9DSPXPNOQADCLGPZEO9H"), 274837415525L);
-        initialState.put(new Hash("JFXXXSDHWYRQFEICJQAQGHPXXLKBUYFCXKFFZFDXITGLKYGPXJAZOZWSOXJIQOZAIKCBBTLIWMQEFXJYC"), 2000000000L);
-        initialState.put(new Hash("XOYDRWZSMNWHIDRDKXZXWJFUBTVYYRNCQJBLHWVRLVZVCIEHPMZJEDG9ZBWBL9OPKAQDQVEM9KAKVPOHN"), 202L);
-        initialState.put(new Hash("TSFBMFDVDMMGOHJC9LJXBCHGXJNEWJLCLVCWEESVCHTIM9MUUBOBNM9QJVI9VEGJYONQNJJHPZXMIQFBH"), 11438396227479L);
-        initialState.put(new Hash("PWEOYUUFMIQDKAXLMGKMTSESXYRKYUBGEPRAROVXPUYHMFXHLUXQMLXLYF9YPHQVTBBPEUEPWG9BTVARN"), 871089896483L);
-        initialState.put(new Hash("JQDCHFW9ZZVJHBVQXXAKAHPOGYKDCDDZGYUEPPSDDAHGMKNACWOSDDNOMLYUPBWPBXMSVCYBBVXW9MZLH"), 6265732359927L);
-        initialState.put(new Hash("YQIHMSQKV9HKMARUISIRVAWEKOSIIATMPDRUWWOUMNRXEJFNXIBIZNWDKBLWOTGBKNV9SRHUUQJB9SMTY"), 1000000000000L);
-        initialState.put(new Hash("NTUAOGWMORQCSKVEBOCRXDXAB9EDEFDBUNXANXJPASKKTHTDJXPQNQDG9UVDJITUNSQJCAMBWEDPGLRYN"), 200000000000L);
-        initialState.put(new Hash("9IPMMVTC9ZYEWFHKJPAYOGNMRADERUHNEMFHWRBHIPKKDK9IBBDBDAHYELDLQEKNCEWU9MUZXRVIXXKCE"), 642796310003L);
-        initialState.put(new Hash("ZETESLWVSZRKFFKSNXQEFOFJALRC9JQMBREIGTVSQFMMKPWMKRT9NZOUYXMHDHSAJGAZF9ZZFLBFHUOGU"), 3004122944787L);
-        initialState.put(new Hash("CYWOCDSZYDWPNLTJA9QZGRKXIFJGBWBDUKGXLNGORZBKPGTNWLUNMGQYXJXX9MFSQNKXFLGJMFY9BQNMJ"), 1777769997L);
-        initialState.put(new Hash("RZUCIZTDLLSSBGKIJNWGGBVADWNWALACGUYXXJGRJUCHBQWTMVJUXTU9FTSL9GMRMMUCMTHQLJALN9AVO"), 15563931229874L);
-        initialState.put(new Hash("OKFALILXFMXDPWZNIFCNMFLRUSTNQSAAOCCZNDLXRSQGRNOCKKOAGNEQXUPIQGXEOYURTAQFMIVLNHPMB"), 75195643428610L);
-        initialState.put(new Hash("WJUNCACMCPVV9FGNEAEAIFSNGIRVQBDXBFYCTWECJXQHKMIJBQWI9LRMSYVOJHOWJPVNOXJBBVEYXARHZ"), 20090620000L);
-        initialState.put(new Hash("ZS9RFXEWQEMJHDSZIGNROILNIRLVTLFTHXMXPXBDFFXBMZACESWNBXBUC9ZOSNGOLRNUNQVKCDAEOONPG"), 11438396227479L);
-        initialState.put(new Hash("HGSJHIPK9RIBLPOCBJWVFGAIPG9FQSNCBNSTRXZLNYODRGLXXPXKCET9BLGVYOSPYNYENEE9ADEKICHPI"), 999999000L);
-        initialState.put(new Hash("DYBFEFQGXOFUMI9ZCXKCKLLFM9HMDIPZ9Y9YYBVFSPMRWVGCAPFGMRASVTMVSVDQNFPYMFVWWYIDUTELA"), 2305000000000L);
-        initialState.put(new Hash("WBC9KWJGMBKJUWOMLWLDDHZMRNYHAUMJI9LFFVEMZYKVWCYVJINLNALXNDARVERKWVYFHBRUNYLZYSKFB"), 1000000000010L);
-        initialState.put(new Hash("EPNKNHOCFGPMYLL9PHKQOAEHTGUMMW9OUOEJMVXIJDCRLRNVYTZEFUFPRRHZJLPSHJECKETGBCVOCNGZW"), 2489765000000L);
-        initialState.put(new Hash("IWLKXWGRPKUKXZVNFBNDTEDG9YUCMFGQOIVBXJYXLGUQQFIJJNICOD9LWTZFDSQUPKRJOSZAUQJZEMZJA"), 308836389308L);
-        initialState.put(new Hash("OOSWZAECQLYDCBYSQCNEFOBJAOHAQCAQIAIKGASHROUNXLKKFWNJYQBEPLRZCXEVLGHXTHPSQYQHGWTHN"), 1L);
-        initialState.put(new Hash("OZKCYECYIFHZCONVUECBIIZUAOTIXWBEHCWEODYMODTSLNJOKNOESWEYYPUNFBYANHCSNG9JITQVHFS9Y"), 4100672353918L);
-        initialState.put(new Hash("GASYGOZFCJSRZKAADLX9VRVE9LWWBSVRMLFEPLMYNJOCOOLZFE9IUQ9XUONDARAIY9PDDVQQXIGLGJCGI"), 14000000000L);
-        initialState.put(new Hash("PERZJBOALNZXVBDPKAW9GCLHENZMYSVKKZJDRPAZCX9HWMT9VEEPLVBB9QGFM9WICMCUARO9NUOZIHTYY"), 9140536014628L);
-        initialState.put(new Hash("NMFDTLBYIFWAGBIQDKTCLNLJUDVDLP9GTNPOKGVUQBMOOLIENTXZKOLSPRPPZGBHBHCBHOMRAMEPQMODP"), 1802475690424L);
-        initialState.put(new Hash("AUBBIVWNHQRPFFIFEAZFEAOJAPLKAELI9ZXXQEMPRCFAVWDHTSBITOOQZNTDHHWMCLSMNWXTWIMSRSUYH"), 11438396227479L);
-        initialState.put(new Hash("LRWR9CCZSCUFMTSOXQHDI9CPJVIRLRICFKFA9MGZC9OXDQAKE9XRNYQQFXYTUXBZXBBE9FSMYEOXVECNO"), 3000000000L);
-        initialState.put(new Hash("GLWPLCYWPZOQMW9ISEOXKBBQOAAPHBLAMQFNRQACDILI9PKLANO9NDGFBUUPJCWHTCJSGRNAHYZOZOCXY"), 2000000000000L);
-        initialState.put(new Hash("ZUUWUEXCLQCSHYITZHJCGXSDJIOEALRUZIKWMFZQAPGELSIUFPJMQLNECNADQWQJBPDDH9LZWCNALUHIH"), 1135335431877L);
-        initialState.put(new Hash("OQIZOXIWWLGGHWEEFWMUZWLQRVTSYSCWUWTZ9ZAOHTEOMFREHTVHJJPMWKGCDVLEPZLCGWTKQGDOMNHWK"), 2096946484819L);
-        initialState.put(new Hash("O9MFYDJBNFSBNKWSKIENMZVWIKXLPFCVCJTNNWLWH9AFOU9MAIIUSFXVDPQIALFLOLOZWQBWLFLAKEXSJ"), 33000000000L);
-        initialState.put(new Hash("LUDKNSEGUVJMSCHHQLTMJUKNIQT9W9CSITTIDXHCCSOSWKOBA9IBTAHRSFNJLSCHYABHRVOCUNSD9OPAL"), 1L);
-        initialState.put(new Hash("HNCJYIVQPFCXWZEXUMPLTEZYQLASXXJSFNRGMKWWOPUZF9WMJVBXOJQMZ9XIIEJPEQZPDFLLIPTCUAFJL"), 100L);
-        initialState.put(new Hash("TSYKRKQWCMZWVRKDGCKARYVPLZAS9DTQOXCZBPRLAKUJQPBDB9GMFYYBDGBMYMLE9UUEJYX9HYCYEEMYO"), 3366000000001L);
-        initialState.put(new Hash("GZMIP9LGWQMZ9JVSKCBAVFHSGWNWFFQHWCTOQDQGYTMMHBGBHLHYDPDTNZQKJHOPDTNZSQXGKXDXLW9WA"), 25000000000L);
-        initialState.put(new Hash("WB9DAMGHFEVKIWTGMFFEOSEWXNFTRVSIYXQMZUKELHCLVTVQEJRKMZTNVNS9ZZJNSZJAFOSPLMCQTAISI"), 14093606870L);
-        initialState.put(new Hash("SOBILYGNBSWXIIAKQIBHSSRSDVLIYWTMGWPIBVZY9APYS9NFQRXKTKIOS9NYJJVLKN9IFBZOSKOVUWBME"), 398999999890L);
-        initialState.put(new Hash("QKFPACORMGZOV9NYPUNCBS9IRKJNWWMWXOL9YKDAWUWJVUWZXSMTZELINQEJCZVPGYBU9DLKTTVXMYWWK"), 3500000000000L);
-        initialState.put(new Hash("RORNVOFDOHKJIHFZALUJYOKUMFMAJPWDWNDZHKUECHXPAEUVIFJFGDKKPWLCEIULVYHLJGUQIXZDFZEUI"), 199L);
-        initialState.put(new Hash("LNBMDWIRVQUHRNIUUPRXRQYCXVVVIIXZJYJVJLNBGKBAFLJ9SCVPBAMQ9LNAHUWDIVKELBXBJICJP9RAW"), 11438396227479L);
-        initialState.put(new Hash("KUZFO9SJHFEOTYYOAAHFNNAFAVZEYRAJDMZSLCIJGRYZFYYTSBBEUHHPEHETLKZSOYNOEGAQMXCETIOCC"), 3L);
-        initialState.put(new Hash("SKSPFSYBLAR9NDXEZTKUS9DRNHLOZPQAK9Q9MQTWANIEGNBBAITZZJYPWTQJFYIDIHVPQNXJETIAIWDVV"), 17000000000L);
-        initialState.put(new Hash("IFF9CNLNZJXCBZPOYJFPDLKBHQ9VLXNNMBUSYWXYTMERFOXLREZIYCVZANCPXDLPCPFN9RSITMZDNRIZJ"), 138976500010L);
-        initialState.put(new Hash("WIUVXFCCBRMUTCMNCOZUSOBBJUMXVZUNBZIWRMTUBWQQZQSITHEFHTAJBGYVS9AFYDMQKDUUBRMYWQZWI"), 450000000000L);
-        initialState.put(new Hash("XQIPBNGQGIIGTXVVGNRVEDKEYKDREPAGLYGWPYUZSHJBPLQFQWQYEFQGBYWITI9HNJLE9AALBAORWOIVD"), 566946494382L);
-        initialState.put(new Hash("YWB9WXSYBVIXBRR9ZSZDOXUILHEEOYQXLIULNRAGIADVETNRNZNRWDGIQJKACMRJQCEUMCJG9HNCQCISP"), 1999918454837L);
-        initialState.put(new Hash("JDFH9MAYOPPXUBXCPGNYOMFIYMVSAPQSQBRLCSQKWUNPHBXHJ9BGL9DNWNZFUG9LKEKVYRWEPWHZFYMLL"), 111000000000L);
-        initialState.put(new Hash("ANAQLQSUZOFWQAYDGBFVAHHBXKVJGEMGUYDMVW9SGQBBTP9BIUBTOKOMQWSNNTXNHAWCCEIPKYDZIGEOS"), 1285194000000L);
-        initialState.put(new Hash("YR9FNCKAW9MECPOAXAOHPDNHDIJBXFNNYXPKLFPXOQXELAMGRSLEAPMFUNIVOQTQNSYQUJMJECJECDHDR"), 1L);
-        initialState.put(new Hash("SYKTWGKQWENLQGBTDSGBNJA99AKKWZBTNUFKSGHIKCPCKHQGZERCLIAFP9BCOBXE9NYHXXMAPDOBAZO9K"), 6000000000007L);
-        initialState.put(new Hash("KIJOHNJCWBNSUAXZOTAORYCATPZB9ANMMCJIRFJLOJPLKAYAHS9OGQKDFEYGOZMOLOJVBUTDTSWGUMQNV"), 3186003655075L);
-        initialState.put(new Hash("UFO9AEQGPLSRW9DSIRHFSJLDGBRCNKKNPKDSGVXSCTVQERAROPPUVGTPARXUKPAVH9XWCKVCLDUKHZGYO"), 2955000000000L);
-        initialState.put(new Hash("PDEXBW9ECYXEFNOQ9I9YLPNAMMQDDC9CTPSKHYQMJOKORUCFMJMWJPXBYTCMZVIMQJMLPKHHXRBDJ9HQR"), 1000009999L);
-        initialState.put(new Hash("WSCOLXFBEGYK99N9GLVQJAKJPPVEMDSSDHWCXPLIKHTAZYWPFVKYWHUWOMCLHJMSZRPHDOFTRELVECR9X"), 418000000000L);
-        initialState.put(new Hash("RIHRDLVV9EBQWWAWIGCQCFIORBCMBTXXSOUAMABTQSFZSQQHIIMASIOARWBIDJQYKQHQPZONXNIA9WMCM"), 24340000000L);
-        initialState.put(new Hash("OXLGEUNGXSIBIQQP9XBUSZGSAKTVZFASQZZIGDLTZUQUKMWTHWANSLSPWBLOBXAWIDMRKE9SJP9KJBLMS"), 277953099900L);
-        initialState.put(new Hash("SZWFAFYBPOYRTGBKPW9M9RKGYWSZWQHGXXHMQQUQNJVMNX9ZMBIMCXZEYBUWGSJICLCWQVQDYYHJZIEBQ"), 940833460L);
-        initialState.put(new Hash("IM9QBHPLRKMTXVTGIGGEOPCFLUJVIYLDDRNAWJBBKTNKUNMGHSXJBY9ZU9HUEWGKVEQRGTF99FBOCIXLM"), 3500000000000L);
-        initialState.put(new Hash("SVRTGPCKDPTGDQSLNXTDPKQESTCQVAMWPPRCUQMJYJJGZTKDKSOJTBPUVJFTMUOUFRGPSMJIPXLKBNVSM"), 111001L);
-        initialState.put(new Hash("GTWLNCPVKFREVYDZXLW9RKFKBPDPHCL9KRICPWDLCBKXYLOVJFBBLYHBPTXRMESCCQUWEH9WTAUZIFJIN"), 149469200000L);
-        initialState.put(new Hash("WVVOFRBQILEMZUPXDTWXOULVHOCATWCN9JIWLPXRQYQXGNTQLYCN9XAMHO9GPBEVKIYICRIVJEDOBCZYN"), 6L);
-        initialState.put(new Hash("DIECPXVGIIWORWKKJPOHPZTQNOXNBCDGOE9YOUNXKUVXVMHBLNES9NYNCZKLSKRCAZHXBCUKHWPNTAANE"), 1000000000000L);
-        initialState.put(new Hash("IKAXHX9WMTCAITN9AUECDXM9VNCVWJUBAUVBVJQUSDMRQYNMTZUGCVXPVYBSZSUDLOCJLU9BFAZETOMSM"), 427792171420L);
-        initialState.put(new Hash("QGPCVYUYLTCJCKSQIBH9BRPWROIXNHYSMJBWQQNHT9CJBOJDFGIPW9ZNCD9XJLLWWUJG9VQRPXLIE9ABU"), 109L);
-        initialState.put(new Hash("PBFMUCEAZFOJDQUYJWDPLAXWOGOIXXSJKLECTXNBLRVLWDRYVYZNQUZPREWZQXYEVAFWI9IYVRZMOHOUW"), 3000L);
-        initialState.put(new Hash("CZFQSJOZ9CPQTPQUNJBRPBLTRSVGNIGKZVVOU9ERYIJCYE9QS99U99UGMBXLMDYIWBM9LJICKTLQKGCLQ"), 1L);
-        initialState.put(new Hash("FRFRDRZQFL9XMIAWECYTLVDICBYIDECIIOWULCGG9T9ZACFYYIVIFU9RYJOSZOXEAOZDKLKZBJCZDVGCO"), 263976514066L);
-        initialState.put(new Hash("ZDBKPWJLRAHVDKICAGVISNMHFPTFIYJKGOLKMEFD9AWJEQSZQXGTZTNJEMTZAXGKT99YMVKYFKG9KHRBL"), 1000000L);
-        initialState.put(new Hash("JDUAHMIUQHHSTPSMIWIZIDGHPVQWFZVSPORNZLXMCOIQDLDI9PJIZIIQULIHQPE9KNLI9TAULUCYYGMUE"), 999999998L);
-        initialState.put(new Hash("AZF9DVHIAFQVGYODHXSEWLUDORDYKIWPFCIGXTXGVSIGUUUGLCLGBLBFENVLFQRLCRRNPMSBPFOAHPILQ"), 13490L);
-        initialState.put(new Hash("FU9IWH9HDS9HRDQQQLFPXTJKXOSOWVWPBQIU9GOXHWFHXACKASATN9YYBHJJFGWRPF9HTLDRIGPHYREUG"), 5L);
-        initialState.put(new Hash("QMEQIZCOOM9HXX9KNOJGKKPHYLUOYT9BQYKALXX9UQDQPOJWTIOEAKMECKRVYWQRJRNHQNNZWQZXTOWHL"), 7312798742493L);
-        initialState.put(new Hash("USIRLQKQNAYBTOOGGAWPGCUTPZQQF9AZG9QMKQKJMEGBTLRSIHDQKDJKTSWJBEWBHDILPRL9MD9TDQLSU"), 1000000L);
-        initialState.put(new Hash("LAKXUEANCZDQBOMHYMBGVWSDFXZ9AWSAMPXDQKNZ9YOGSYNETLKQ9RLCYAXOAOXVDIFUXSFYTPJMIEMJR"), 191L);
-        initialState.put(new Hash("LUVXGQZYDJCNWB9ABRIEQJDXSHDKBNWHCC9HIYQQLEPXEP9COMPB9OPHFEMPFBILQDOJCUDZSCOILLOBJ"), 612798742493L);
-        initialState.put(new Hash("MXBNKADVJSLXXANXVHAYOYIJKO9CMH9LXRCVFUKOGS9WZTVXHAGHNCTYQNUUUTKAHMVYHAZJL9ZPYIQQ9"), 90000000000L);
-        initialState.put(new Hash("HSIHBMGNNWYXTPSBTLERQIXDXERCIDCFKKMUTQZXVDL9OKHRDGRSFMNBDJZUMDSWTNEU9FKUWKHCUAQUF"), 1000000000000L);
-        initialState.put(new Hash("BOKYGYBFQYOCGSNILYOZVWGJCWVKLOWLCWVPXQCV9DSIJMSLPLTIEKD9WAJTS9AYIEGTDYXRZDAUJEJOR"), 10L);
-        initialState.put(new Hash("FQPWYARFFOYX9ECURCZWXNAALIGJYPSVNX9FBQIDRTOLE9ZTCHPYCRYZWHTBBWTCOWFZINJCBBPODWGUR"), 1500000000000L);
-        initialState.put(new Hash("DERCYHML99EHFL9L9CGHRPQXDLP9RPVZGFSBXFFAZAVUVQWQJDWTYKCZQNNMXVFOEEENXNED9IHBDMFYY"), 289362629512L);
-        initialState.put(new Hash("HWRBMVCVNLMBQQSV9DLU9WGHMTFMQ9EOV9CYLTMIFJM99DX9CRYRQOXNYJYJZLBDEYOADHLPMYKBRNQMJ"), 10056447123370L);
-        initialState.put(new Hash("GMCLQSFIZLGOLYZTDOAASKFMLDVXGAORTGN9TIH9YYMMJCMJNGBBWDEZNUHYKDBHDZICWWAOOONMUJUFT"), 1L);
-        initialState.put(new Hash("VI9OZRYDLSUSLS9WVJNEQHSQOEQP9NSYTTBUAIGIIPRFX9AEBOCOGLIHAIYGPKGDWMMVKMEUSUELQBHQT"), 410000001004L);
-        initialState.put(new Hash("QSSSFGKKCMHXPUDWGQQYHUPAEJBYTMJDAQ9DYZTLECACLVSTPUKHXKEREYWEQQQOIGGRHCFYTBSUQVHFJ"), 1000000L);
-        initialState.put(new Hash("BDGAZNZIQAZHAGNMKSJXNF9FWKOWYQGDTSBJPSOGZUFGTDPQBZATUFHEEJNSIRVVNWI9NOQRGE9CEXPYK"), 77L);
-        initialState.put(new Hash("NA99SFCXE9WVNZQPOOWJQEFICTKFORNMMEFHIDTYRJYTARDVLSLBXKTGFAIXZLXKNIQLQFPHIVQKFNCUM"), 31333L);
-        initialState.put(new Hash("ABJMODHLBQZFLEYRAKLZFCLSUSXNRSWRHMASAZIO9CYTZTZFIJRPYDUTJQISENNMJLOY9AGFZUZTOAM9A"), 4792817086685L);
-        initialState.put(new Hash("ZMIMYLAYSTOLMCGPP9SEFHBKANXUJWNZJCYMNPAG9FYEXR9HMHOJKDCZW9ZFGUYHBUX9HPSCJFALWIBSM"), 3550000000010L);
-        initialState.put(new Hash("FMQGAUTATIENNSV9TZACPRROSHXFDFZKXQPDTVQHLJU9NBVJEYWXVRNOKTZPBLGALPSA9RDEYFB9EULYZ"), 55000000100L);
-        initialState.put(new Hash("LABKFZGDKBNUNNPGZKJDRFVADBSEGDSXAKPLUMYNPUFAFFDUASAWDWWRNAJTTCLZR9UBMHTNR9JILORLF"), 9999999977L);
-        initialState.put(new Hash("OWBMPTKUTCGGCGOEQSBRYARYDLADGIFLZXMVAICLNSBVHIGHX9BXHEPLCLZGGAALCOUSPRZPHNIEMTNQF"), 176888115000L);
-        initialState.put(new Hash("DHRVZYJWHBVZYLAKDYSLCH9PTEHMFKRKDOBXSBUEGECHWOCXBTJRQGGVNYMIOIDQVPFCK99HQ9TJPSGOO"), 1000000000L);
-        initialState.put(new Hash("DCPSQZKJFPYJGZZUUYKTMCJCYFJFLXEWBDAW9WFWWQQZOQKIIA9RGCRPTBHLOGF9EEL99MDCXCEVVHBP9"), 62785L);
-        initialState.put(new Hash("ZQD9XSWZCBBBIIGLBPRMQTVKRAHFWCRG9NUBYCGCYRBOMKFDEAWKLQZZRUXWXKDIHJLSOTAKYOKHBSPHF"), 3500000000000L);
-        initialState.put(new Hash("LABBMXPVFGHWPGJ9KHADUYSAIXCGGDPIHJMAAMFLUGRJJGRFFWGFJBTPGCTGURIRKTJTAPRIRJKOUJIQL"), 334755656L);
-        initialState.put(new Hash("SZ9HHI9SXGVF9LUQLGMWDCZDCRYVO9MJZSPYBVDEEAL9KQDDDSPOZCCZBEZUXAVKREUBBYPUCI9RVUIDN"), 9911589589533L);
-        initialState.put(new Hash("YJZLZEZSNZ9TDJROYG9CH9UTGQECFYYLUHKJLTJXWBLIJPAPRQBIRYWCNZGBCYYSUW9TIKYQXVMAWCWWQ"), 1350000000000L);
-        initialState.put(new Hash("VNNRDKBDUAEHTPREHBTGAJDPGKOPMCYXQLEWXONQJNYJRWMPZARKJUHPUSKU9GFSNVUXWXMBUEPQYQNRT"), 123766002075L);
-        initialState.put(new Hash("DRAYGJNYVDHNEWGWFL9VQGWNATCMKCCHEFOWDOZAZJQFIJVDOONFFHWYUOHCOTHOPTYKXYFBPS9BVOJGZ"), 11961000000000L);
-        initialState.put(new Hash("IVKGICSSYCQVEHGSUWTKQZHNYCKMMJAUUCTLUFYOTVRREFZBDYFRVWVPVEVAHWWECFOPBDDUTFBLYROJB"), 8L);
-        initialState.put(new Hash("YJSZRFFEYJOYWA9QHRGSV9VWZATUWOLAXDNW9FA9HDDCVWOVWGSVDLEJGUVRHYDGPRQJOCPEDOWLYQCDW"), 98L);
-        initialState.put(new Hash("TNRCAUVCSMA9WBPJOUYTFYUFC9RGCYJBQGXNZCRXMMMJVCPWVOFAULPLTRTVQQWBHQHCODQEGRMWBNWDU"), 10000000000000L);
-        initialState.put(new Hash("CM9WGHZLDCUWEXSGDRZHNBFBCHFVRD9TPMKVHDQYDZSFQAGBGYNOJTKJEBKDUKPZTCGBJYMCKNSXBERTP"), 389134239658L);
-        initialState.put(new Hash("VMKSUDYYJBVEJSDQSUTIKJKVDRTJLSNAQPYDVHNHLKYMIQRPEHPAOBLFKTDEVLHDOKGIMVOZHNUUPZR9J"), 4856003656075L);
-        initialState.put(new Hash("ZQVFIBKZF9GGWYTQO9L9ITNZXYMKHNIOURHWELOD9UGRBINKPD9XNODORXBXFFJSVKTCRSIIA9AFZDILB"), 557666395661L);
-        initialState.put(new Hash("KCEFSSY9ZZENUWYEMXZPUQMTPZCOEDVMHVTYSRJO9SZEOGAQWDIDGLIMKS9ICOFO9LG9UQDYLF9PDMMXT"), 999000000L);
-        initialState.put(new Hash("JUFTUOSBCUVFHPVUCFUAWFHTSNFMHICIMXUDUAU9SVFRRHJKTAUINCVHYJSFOWVGSRNPJFRVQAFBDOQSQ"), 277283593544L);
-        initialState.put(new Hash("CVXPDVQSYRDOIEQAZSUWZWNDQ9SLQOMHHZSGEHXFTBCSVQCFDPZSUSQCDFWLWOUKYOAZWBPQXAOFXXSZ9"), 372564789L);
-        initialState.put(new Hash("P9ZCHSWSNPDDIBU9DSQMUUEYIZRJMGFJDDKGOOFLILIBUB9VCGUIDRPT9HKZOGZDEPZPMNOMZRSHQYD9I"), 2327532903999L);
-        initialState.put(new Hash("ZBK9OFFFYOUYLLQVREPZGUPUBOZDZZYPYHPJMSFDHIDVCTAINTBJZFYTPDUWYRUFRZHTFIDIVTUWZOQCN"), 658795302815L);
-        initialState.put(new Hash("EDDBCSQENGTVKRLXZZFJNHWSZHCSLS9UAMJMUHRBGQKTXLMNVMQMUXCHB9FUKENFNAVNPQJ9XYZAWKIVM"), 2955000000000L);
-        initialState.put(new Hash("IEZZVPKIHO9PBTNWW9VMTBLYHAHCBZIIBODCZIBUJUAWDRTIMYFHSOXOBVIYHQIKJEKYGUVXKLDILBEQN"), 113L);
-        initialState.put(new Hash("JJPXZDDSKGZTEGCOH9JPDIHZKJNPTSOXS9FHPQYZHHZVQTUJXT9K9WBWPKPTP9FENEJJVOBIZQWEKHOSG"), 10000499000L);
-        initialState.put(new Hash("IRQRCZUGGMWFYVSOMQRZPICXEIJYZSVOZPF9AEIRJRARPGUY9XKJZLIHIMC9ZHPNGGRDFJXJOHERHWYBG"), 3500000000000L);
-        initialState.put(new Hash("CIOLMJRZTJQDSTSV9VKDCUXZWEZNXDRAPX9S9KTXLCD9VALEFHRP99TD9DFXTLWLHSZCWBTYS9TQBQWPX"), 76L);
-        initialState.put(new Hash("VFDVALQMEEXX9DRVMOXNXXVJAFW9NKJLXJCSWIKFCYUNXGNUYTXZOHZWRMQEKXEQVSYUPTPDYPINHZWBW"), 20124000100L);
-        initialState.put(new Hash("XUCUFMTWAUBURDPQAIPAQHEUABZZEYYTPTKPISJZUPEWHVGRKZTVGRMQKHJZNABJNMQGYYPFDOTHUPRFG"), 1000000000000L);
-        initialState.put(new Hash("JLQATURPQQUUMZXYNKQCLCYKEHUBBCWXINDMW9DGIRGAWEENIBZUGNQOWNBJQTIZDCLVBYEGVXJEXAOGL"), 410000000000L);
-        initialState.put(new Hash("POXIOZZNNULSPIN9KVKUAPNUAMWAKCDFQCSDGVBBUI9TPGRPMRJQZT9ALOE9SGGFMCETBLDYQRC9SSPKN"), 10000000000000L);
-        initialState.put(new Hash("RZMTHMWLNJIHLZIVHXKIZHJMCFGGEWOFQDAOIGPTWCDWFAMWCLPROMNELIFEBCZKSZMYFBVUOTWAAMMFX"), 2779530999900L);
-        initialState.put(new Hash("RSBCXHJ9VMCEUYJZMIDCFTVLCFWZHONAINOKZXUER9ZSTCTSQTOIANFRDTDOYCTOHAHSMKXM99FUEPCZM"), 1000000000L);
-        initialState.put(new Hash("XRFXEDCALFHWVPPHNKVZLEDSIDVWHZLMXCICQHZ9OXNLIVGUEXWUHFSOERLQQAYKXXCVZPPQNBYHDXVMS"), 2152177051351L);
-        initialState.put(new Hash("AXCOISOTJDPURJBGYZ9URTALGYK9KCIUZYXAETQDODXCAQTMGOLTRMIOOAEVWVLGEEKKTWNTMZYNLDU9I"), 30094000008L);
-        initialState.put(new Hash("SZCXGBUBNTHNPGYPGBUJDMBXE9KYGPHXZB9KBMKORDJYBDDAFBIXQSMTHVNYPCQGMALFDTOTNONHQDQTW"), 200000L);
-        initialState.put(new Hash("HLOIKJRCATZLJWRTGHLRYECQPKSYHUDTYWUULYYPCSQUHJ9TZJWEPL9DYQVMXNZLPIPBCNLEF9HQENBBI"), 3812798742493L);
-        initialState.put(new Hash("XSOM9RZKBBVEADQTLSENBFQOJTMJDATZXZPSIAHFHBOIVUXZUGJYSOIFYBOYRWGSIDBXREKYLLPFJ9BKW"), 696437550158L);
-        initialState.put(new Hash("ZNHOFGYZERKIKSMPPYTLSVNOYJHEZSKCQGQIUTINKPTBMIAFBHQWT9XWWWTKNYYNTMQAFTKJZCTKZTX9M"), 2641336446397L);
-        initialState.put(new Hash("KZKETCCIARZSVZPURKBGDJWZFJUAOFHFPQOPPWSCBDPDWIOIFAB9XWCDEBREXOLUOKOPQWUEADJTGNXM9"), 3500000000000L);
-        initialState.put(new Hash("JXNRLGGYWFECBFTBFCPGVLQHEOGFBAJXEZYIOB9GOWRJWTICQLTSIIYSIXLCXPWGNIHUSCNEXDDXPRHNF"), 50000000000L);
-        initialState.put(new Hash("LVPBTMFDWDLXDKYBQSIACLGGIQCVZOGRYJLUIEYWZTSHXYHHKRYXCHOTNCHHLVMEVKYLLIHIZNZTMXVEY"), 106763668842L);
-        initialState.put(new Hash("YDQEALHW9BJSZQYSVVFFTOXRDVHJIJIJVBGNCWJKOZBOSMKMNVVVYAXFR9HAGNMWGCYXJGAFWCSBLQKIC"), 1000000000000L);
-        initialState.put(new Hash("FOPVRXEKWKTFJCRCWVCEBOSNPISFFKMGROOG9MJRIF9IDZCMERBAGEZZTDURPYZTAXONGPKTNYDWPCCXS"), 7625597484986L);
-        initialState.put(new Hash("JOCJKLZLPWVLPQEIWVIZWWALAXWAO9HK9VZQTOODQGUFWRHMYOJBLX9QHCTOWBAETEDBXVGPLXTPDWJMG"), 313766666668L);
-        initialState.put(new Hash("BDQISQRPBDBIHRZWQICQEWZDLSYBBKDAJIGVLGOLQNJIT9BTDVI9OPSCAHDLVOYTLQVLJEWUIQHXCAFBJ"), 1000000L);
-        initialState.put(new Hash("PAWHVKRA9H9ZTFWQDJVIPLNMDLPBFTRNJDVMJWHNSLSYZ9QACXY9CCILCABCHLVETDZOODMOMGHRUDYDZ"), 999983501L);
-        initialState.put(new Hash("XQGBNVSVGLICK9WXZIRAIMKCFQJOFLIDTTDTYVXQKNXZQOTNE9DKCSZNAWCLBSJVAYNKKCP99WLDJSTHN"), 10L);
-        initialState.put(new Hash("HDBXAJLTVCHNGAHEAJB9GGCHWMXCJRMLGNEFKSXWPPMXYBILZYIXCPHLNGNUFUUJENRQBAHLXYRAMJWSM"), 4500010000000L);
-        initialState.put(new Hash("IKLNCDDZM9XO9DAYXJ9NIYVJ9KHJXCHSKIXDJBF9FQLCWRZOSVPCVOCNENWZSXICMFGFYZIUWQELKSDCO"), 8288330740927L);
-        initialState.put(new Hash("EPIHZLDWGKJRIIQGXFQQ99KLKNMRBKHHGDBEYCAIUFKHMJYMRBUKGMOMPVVLMZGQITFCLEOEMNDRFUJFU"), 3133251536445L);
-        initialState.put(new Hash("IWJDDIACDECAVXQBDDEIGGHGLNEVNOMWAMOYKUOEXJWCD9QVJDWHSZKTGGOBQHL9ECRYPVQORCJGYXOZ9"), 1900000000000L);
-        initialState.put(new Hash("EGIWOSXTKZVSLZ9UMVJJNWZWTJTCMVPZTBMLCPBIALBJVK9QEWLPBOFTBOQZXTTYO9KRBO9UJPPDVODIV"), 2000000000000L);
-        initialState.put(new Hash("A9VVVJUYEHYIJIAUTT99ZRIYMFQEZUMPJCNORJPGYEFA9YWXOYXQGJDVLNHYE99BKOSLBLVCKKP99BPVZ"), 10000000000000L);
-        initialState.put(new Hash("HYQCTBLTSZ9DVCICWPIYHHZDKRNZYOCQAYHULQZDEWFLIRDTWIJZRUAWYKYA9MPOBVQLICPGNGFQUMSWW"), 2830000000000L);
-        initialState.put(new Hash("GYHPJNUMQGWMHVZNFIXZQKLMWEFTYFUSICXTUC9IHWZUCXCXSGKILTGSPMUGCEVNIYMWTCJFTNUMJMMIC"), 10500000000000L);
-        initialState.put(new Hash("XB9IBINADVMP9K9FEIIR9AYEOFUU9DP9EBCKOTPSDVSNRRNVSJOPTFUHSKSLPDJLEHUBOVEIOJFPDCZS9"), 1500L);
-        initialState.put(new Hash("VRWRVTDCJDLZEPGKVEVQVGKPKZDDEWRBGBEBRTAKB9MRLCUBGIWESLSBQWUEBWTFDZDGLRNGLLDWXWPRF"), 121L);
-        initialState.put(new Hash("GXWAJDGGIFZDDEXMNWSDFIJLUB9RBZYVSIOJFPHQ9NON9TYYHRXSPOKBOCQONNTUSFEWAZYNYIYNUDRXV"), 314000000000L);
-        initialState.put(new Hash("TEJUASTMUTRIOWFOAOITZBTDRJGUYIDOPZQDISIFRDVDPXDIHMA9LYKHCHH9AWIZ9QJOHULCOTXIITJLT"), 248418615601L);
-        initialState.put(new Hash("PNGMCSNRCTRHCHPXYTPKEJYPCOWKOMRXZFHH9N9VDIKMNVAZCMIYRHVJIAZARZTUETJVFDMBEBIQE9QTH"), 1L);
-        initialState.put(new Hash("AVBAKQJIDGLPHZIRMOCMLMQSTNCFJVQHH9JMAWPBDQNJJJOQZUTYCKJKMJLPVIRBGJPCBCKICYCEGHJHX"), 1015900000000L);
-        initialState.put(new Hash("URXXGZUTDROZUFUASLPUUOBXPNJWWUCBBNUODXFPULQWYOXRKKSSLXFFFRMRZW9UDVAYOBAOOIDTTIZVF"), 500409561396L);
-        initialState.put(new Hash("9IRNRSFMITDOSMOGZLMBOT9HFFA9MSRKWGCUOUVKDAWUAJKBQXKDRGJBNOXSVVJKNBEPPJER9YWHEAIWX"), 999L);
-        initialState.put(new Hash("FCESFUYJMPSDNQZDTB9HAXNZNFJ9LMAGXZCSPDWQURJLMMGLWUFLRNEBFQNBRGRMCHIFOGGPNLRMLCHAT"), 21000000000000L);
-        initialState.put(new Hash("KKA9TBZZDIHAR9UVHJMQKREFHNTVRUZNPYNGFIWCQQKTEILVMSTGBDHQNPOJPJNZSR9QSQJRQW9QOURII"), 2L);
-        initialState.put(new Hash("YTCNEWKDCSBUWLTQPDQNFDZVIFAOKQHSDRGMXMPFAXRGACGCJDFMHPGPZPSUXJZSZWCRSWLWOFXZVMUEO"), 5000000000L);
-        initialState.put(new Hash("OBYFBZARMZPVBRZUNVINNC9MAJHWLTT9NODIMWVOB9WK9HUJYMPBDVOGPSBIEWBCKVRCULVOMCYDHUJHA"), 11111L);
-        initialState.put(new Hash("RLAVEAJJZPTIOSKSSUCEOVLDXWQQLLHVHZFPUOCWRXARRDZKYYEGDTQUZN9JFBOSUVNLPEDGQMQKMLYMI"), 704441382388L);
-        initialState.put(new Hash("YIGUSALBBIUQYSMKAUGWTOXHZFXCGTFXMQIXNAUDFKHIVVCZ9IGYJDIS9PDPXDUBQAEC9KIYYDCEOKXPW"), 3111999999989L);
-        initialState.put(new Hash("AKCMMIUNC9VSXOYKJABHYBBIHNYHZSWMLGTWUENQQGOVSUZSEGTWSSGFOKHPKWLS9LGNWELATDRRANEUU"), 23215420828021L);
-        initialState.put(new Hash("KLTJJJXNZMQ9AQGPUJOOHE9SZXEDTXLCFWFPIVP9FPFQUDJYBZWODCWLAHRIOCAVAEJXWSNYBPZIYMCFZ"), 1001000000000L);
-        initialState.put(new Hash("DAFKAWNGHUZVX9RXPC9OFRDFTUEUTPQRBEHTQOEDJSYTJAABWGQBWFSGUTGMGAVLTBMOBSFEDOT9NRRHO"), 26548998010L);
-        initialState.put(new Hash("OXXPYWZVNJECHHNCRIKFPBFK9NXCKNEVBCT9S9XLRTTKZIUXQTFY9XHDJIIFUORZXLAMLYI9DHNQFDZZA"), 3405694710205L);
-        initialState.put(new Hash("9AIJKARGEUYAJZZWCCHMM9MHRLRSDEBVTPPDJSJLVIJUMVCYXEFVILMWGNYBUNQYFKRLXVLDECIPDQAS9"), 3812798742493L);
-    }
-}
+package com.iota.iri;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+import com.iota.iri.service.DagWalker;
+import com.iota.iri.service.storage.StorageTransactions;
+import com.iota.iri.utils.BalanceTable;
+
+/**
+ * The balances confirmed by a milestone, the ledger is computed from the latest snapshot rather than from the genesis.
+ *
+ * The snapshot at the genesis ships as a resource. The newer ones are written at solid milestones by the ledger state,
+ * once the transactions they account for have their snapshot index stored, and the walks starting from a snapshot
+ * skip those transactions by their index. A snapshot of the first version, like the genesis one, lists them instead,
+ * their indexes are rebuilt by a walk from its milestone when it's loaded.
+ *
+ * The pointer of the milestone in the storage the snapshot was taken from is recorded as well, a snapshot whose
+ * milestone is elsewhere in the storage found at the start (another or a rebuilt one, without the indexes) is ignored.
+ *
+ * File layout: version, milestone index, milestone, milestone pointer, number of balances, (address, balance)*
+ * (version 1 has no milestone pointer and is followed by the number of pointers and the pointers)
+ */
+public class Snapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(Snapshot.class);
+
+    private static final String GENESIS_SNAPSHOT_RESOURCE = "/snapshot.dat";
+    private static final String SNAPSHOT_FILE_NAME = "snapshot.iri";
+
+    private static final int VERSION = 2, LISTING_VERSION = 1;
+
+    private static Snapshot latest;
+
+    public final Hash milestone;
+    public final int milestoneIndex;
+    private final long milestonePointer; // 0 in the first version
+    private final BalanceTable balances; // Not modified once the snapshot is taken
+
+    public Snapshot(final Hash milestone, final int milestoneIndex, final BalanceTable balances) {
+        this(milestone, milestoneIndex, StorageTransactions.instance().transactionPointer(milestone.bytes()), balances);
+    }
+
+    private Snapshot(final Hash milestone, final int milestoneIndex, final long milestonePointer, final BalanceTable balances) {
+
+        this.milestone = milestone;
+        this.milestoneIndex = milestoneIndex;
+        this.milestonePointer = milestonePointer;
+        this.balances = balances;
+    }
+
+    /**
+     * Returns a copy the caller can modify.
+     */
+    public BalanceTable balances() {
+        return new BalanceTable(balances);
+    }
+
+    /**
+     * Returns balances the caller can modify, kept as changes over the ones of the snapshot.
+     */
+    public BalanceTable overlay() {
+        return BalanceTable.overlay(balances);
+    }
+
+    /**
+     * Walks the past of the transactions skipping the ones accounted for by the snapshot.
+     */
+    public DagWalker past(final long... pointers) {
+        return DagWalker.past().restartAfter(milestoneIndex, pointers);
+    }
+
+    public static synchronized Snapshot latest() {
+
+        if (latest == null) {
+            latest = load();
+        }
+        return latest;
+    }
+
+    /**
+     * Forgets the latest snapshot, the next call to latest() loads it again from the storage opened meanwhile.
+     */
+    public static synchronized void unload() {
+        latest = null;
+    }
+
+    /**
+     * Writes the snapshot over the previous one and makes it the latest,
+     * the snapshot indexes of the transactions it accounts for must be on the disk already.
+     */
+    public void save() throws IOException {
+
+        final int[] numberOfBalances = new int[1];
+        balances.forEach((addresses, offset, balance) -> numberOfBalances[0]++);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 2 + Hash.SIZE_IN_BYTES + Long.BYTES
+                + Integer.BYTES + numberOfBalances[0] * (BalanceTable.ADDRESS_SIZE + Long.BYTES));
+        buffer.putInt(VERSION);
+        buffer.putInt(milestoneIndex);
+        buffer.put(milestone.bytes());
+        buffer.putLong(milestonePointer);
+        buffer.putInt(numberOfBalances[0]);
+        balances.forEach((addresses, offset, balance) -> buffer.put(addresses, offset, BalanceTable.ADDRESS_SIZE).putLong(balance));
+        buffer.flip();
+
+        final Path temporaryFile = Paths.get(SNAPSHOT_FILE_NAME + ".tmp");
+        try (final FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temporaryFile, Paths.get(SNAPSHOT_FILE_NAME), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        synchronized (Snapshot.class) {
+            latest = this;
+        }
+    }
+
+    private static Snapshot load() {
+
+        final Path file = Paths.get(SNAPSHOT_FILE_NAME);
+        if (Files.exists(file)) {
+
+            try {
+                final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+                final Snapshot snapshot = read(buffer);
+                final long milestonePointer = StorageTransactions.instance().transactionPointer(snapshot.milestone.bytes());
+                if (milestonePointer <= 0) {
+                    log.warn("Snapshot at milestone #{} ignored, the milestone is not stored", snapshot.milestoneIndex);
+
+                } else if (buffer.getInt(0) == LISTING_VERSION) {
+
+                    snapshot.indexTransactions();
+                    log.info("Snapshot at milestone #{} loaded ({} balances)", snapshot.milestoneIndex, snapshot.balances.size());
+                    return snapshot;
+
+                } else if (milestonePointer != snapshot.milestonePointer) {
+                    log.warn("Snapshot at milestone #{} ignored, it was taken from another storage", snapshot.milestoneIndex);
+
+                } else {
+
+                    log.info("Snapshot at milestone #{} loaded ({} balances)", snapshot.milestoneIndex, snapshot.balances.size());
+                    return snapshot;
+                }
+
+            } catch (final IOException e) {
+                log.error("Snapshot couldn't be loaded, starting from the genesis", e);
+            }
+        }
+
+        try (final InputStream stream = Snapshot.class.getResourceAsStream(GENESIS_SNAPSHOT_RESOURCE)) {
+
+            if (stream == null) {
+                throw new IOException(GENESIS_SNAPSHOT_RESOURCE + " not found");
+            }
+            final Snapshot snapshot = read(ByteBuffer.wrap(IOUtils.toByteArray(stream)));
+            snapshot.indexTransactions();
+            return snapshot;
+
+        } catch (final IOException e) {
+            throw new IllegalStateException("Genesis snapshot couldn't be loaded", e);
+        }
+    }
+
+    private void indexTransactions() { // Gives the past of the milestone the index of the snapshot, unless confirmed earlier
+
+        final long beginningTime = System.currentTimeMillis();
+        final DagWalker walker = DagWalker.past(StorageTransactions.instance().transactionPointer(milestone.bytes()));
+        int numberOfTransactions = 0;
+        Transaction transaction;
+        while ((transaction = walker.next()) != null) {
+
+            if (transaction.snapshotIndex() == 0 || transaction.snapshotIndex() > milestoneIndex) {
+                StorageTransactions.instance().setSnapshotIndex(transaction.pointer, milestoneIndex);
+            }
+            numberOfTransactions++;
+        }
+        log.info("Snapshot indexes of the {} transactions confirmed by milestone #{} set in {} ms", numberOfTransactions, milestoneIndex, System.currentTimeMillis() - beginningTime);
+    }
+
+    private static Snapshot read(final ByteBuffer buffer) throws IOException {
+
+        try {
+            final int version = buffer.getInt();
+            if (version != VERSION && version != LISTING_VERSION) {
+                throw new IOException("Unknown snapshot version");
+            }
+            final int milestoneIndex = buffer.getInt();
+            final byte[] milestone = new byte[Hash.SIZE_IN_BYTES];
+            buffer.get(milestone);
+            final long milestonePointer = version == LISTING_VERSION ? 0 : buffer.getLong();
+
+            final int numberOfBalances = buffer.getInt();
+            final BalanceTable balances = new BalanceTable(numberOfBalances);
+            final byte[] address = new byte[BalanceTable.ADDRESS_SIZE];
+            long supply = 0;
+            for (int i = 0; i < numberOfBalances; i++) {
+
+                buffer.get(address);
+                final long balance = buffer.getLong();
+                balances.add(address, 0, balance);
+                supply += balance;
+            }
+            if (supply != Transaction.SUPPLY || balances.numberOfNegativeBalances() > 0) {
+                throw new IOException("Inconsistent snapshot");
+            }
+
+            if (version == LISTING_VERSION) { // The listed pointers aren't needed, the indexes are rebuilt by a walk
+                final int numberOfTransactions = buffer.getInt();
+                if (numberOfTransactions < 0 || numberOfTransactions > buffer.remaining() / Long.BYTES) {
+                    throw new BufferUnderflowException();
+                }
+                buffer.position(buffer.position() + numberOfTransactions * Long.BYTES);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Trailing bytes in the snapshot");
+            }
+
+            return new Snapshot(new Hash(milestone), milestoneIndex, milestonePointer, balances);
+
+        } catch (final BufferUnderflowException e) {
+            throw new IOException("Truncated snapshot", e);
+        }
+    }
+}
@@ -26,7 +26,16 @@ public class Configuration {
         REMOTEAPILIMIT,
         NEIGHBORS,
         DEBUG,
-        EXPERIMENTAL // experimental features.
+        EXPERIMENTAL, // experimental features.
+        TRANSACTION_POINTER_CACHE_SIZE, // number of hash to pointer entries kept in memory
+        BLOOM_FILTER_SIZE, // megabytes of the Bloom filter over stored hashes, 0 disables it
+        STORAGE_FLUSH_INTERVAL, // milliseconds between background flushes of the storage, 0 disables them
+        STORAGE_FLUSH_THRESHOLD, // megabytes written to the storage that trigger a flush before the interval elapses
+        TRANSACTION_SHARDS, // number of files the transactions are split into, only read when the storage is created
+        SNAPSHOT_INTERVAL, // solid milestones between the ledger snapshots written to disk, 0 disables them
+        TIP_SELECTION, // "walk" for the weighted random walk, "rating" for rating every tail above the milestone
+        TIP_SELECTION_ALPHA, // how strongly the walk prefers the heavier approvers, 0 makes it uniform
+        TIP_SELECTION_MAX_WALK_LENGTH // steps after which the walk stops where it is
     }
 
     static {
@@ -40,6 +49,15 @@ public class Configuration {
         conf.put(DefaultConfSettings.DEBUG.name(), "false");
         conf.put(DefaultConfSettings.REMOTEAPILIMIT.name(), "");
         conf.put(DefaultConfSettings.EXPERIMENTAL.name(), "false");
+        conf.put(DefaultConfSettings.TRANSACTION_POINTER_CACHE_SIZE.name(), "262144");
+        conf.put(DefaultConfSettings.BLOOM_FILTER_SIZE.name(), "32");
+        conf.put(DefaultConfSettings.STORAGE_FLUSH_INTERVAL.name(), "5000");
+        conf.put(DefaultConfSettings.STORAGE_FLUSH_THRESHOLD.name(), "64");
+        conf.put(DefaultConfSettings.TRANSACTION_SHARDS.name(), "1");
+        conf.put(DefaultConfSettings.SNAPSHOT_INTERVAL.name(), "100");
+        conf.put(DefaultConfSettings.TIP_SELECTION.name(), "rating");
+        conf.put(DefaultConfSettings.TIP_SELECTION_ALPHA.name(), "0.001");
+        conf.put(DefaultConfSettings.TIP_SELECTION_MAX_WALK_LENGTH.name(), "10000");
     }
 
     public static String allSettings() {
@@ -82,6 +100,10 @@ public class Configuration {
         return string(d.name());
     }
 
+    public static double doubling(final DefaultConfSettings d) {
+        return doubling(d.name());
+    }
+
     public static int integer(final DefaultConfSettings d) {
         return integer(d.name());
     }
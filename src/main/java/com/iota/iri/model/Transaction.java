@@ -1,5 +1,6 @@
 package com.iota.iri.model;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import com.iota.iri.hash.Curl;
@@ -23,10 +24,32 @@ public class Transaction {
     private static final int CURRENT_INDEX_OFFSET = TAG_OFFSET + TAG_SIZE + ((Long.BYTES - (TAG_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1)), CURRENT_INDEX_SIZE = Long.BYTES;
     private static final int LAST_INDEX_OFFSET = CURRENT_INDEX_OFFSET + CURRENT_INDEX_SIZE + ((Long.BYTES - (CURRENT_INDEX_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1)), LAST_INDEX_SIZE = Long.BYTES;
     public static final int BUNDLE_OFFSET = LAST_INDEX_OFFSET + LAST_INDEX_SIZE + ((Long.BYTES - (LAST_INDEX_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1)), BUNDLE_SIZE = 49;
-    private static final int TRUNK_TRANSACTION_OFFSET = BUNDLE_OFFSET + BUNDLE_SIZE + ((Long.BYTES - (BUNDLE_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1)), TRUNK_TRANSACTION_SIZE = HASH_SIZE;
-    private static final int BRANCH_TRANSACTION_OFFSET = TRUNK_TRANSACTION_OFFSET + TRUNK_TRANSACTION_SIZE + ((Long.BYTES - (TRUNK_TRANSACTION_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1)), BRANCH_TRANSACTION_SIZE = HASH_SIZE;
+    public static final int TRUNK_TRANSACTION_OFFSET = BUNDLE_OFFSET + BUNDLE_SIZE + ((Long.BYTES - (BUNDLE_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1)), TRUNK_TRANSACTION_SIZE = HASH_SIZE;
+    public static final int BRANCH_TRANSACTION_OFFSET = TRUNK_TRANSACTION_OFFSET + TRUNK_TRANSACTION_SIZE + ((Long.BYTES - (TRUNK_TRANSACTION_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1)), BRANCH_TRANSACTION_SIZE = HASH_SIZE;
 
     public static final int VALIDITY_OFFSET = BRANCH_TRANSACTION_OFFSET + BRANCH_TRANSACTION_SIZE + ((Long.BYTES - (BRANCH_TRANSACTION_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1)), VALIDITY_SIZE = 1;
+    public static final int TRUNK_TRANSACTION_POINTER_OFFSET = VALIDITY_OFFSET + VALIDITY_SIZE + ((Long.BYTES - (VALIDITY_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1)), TRUNK_TRANSACTION_POINTER_SIZE = Long.BYTES; // 0 in cells stored by older versions
+    public static final int BRANCH_TRANSACTION_POINTER_OFFSET = TRUNK_TRANSACTION_POINTER_OFFSET + TRUNK_TRANSACTION_POINTER_SIZE, BRANCH_TRANSACTION_POINTER_SIZE = Long.BYTES;
+    public static final int SOLID_OFFSET = VALIDITY_OFFSET + VALIDITY_SIZE, SOLID_SIZE = 1; // In the padding after the validity, 0 in cells stored by older versions
+    public static final int WEIGHT_OFFSET = VALIDITY_OFFSET + Integer.BYTES, WEIGHT_SIZE = Integer.BYTES; // Approvers counted so far, in the padding as well
+    public static final int SNAPSHOT_INDEX_OFFSET = BRANCH_TRANSACTION_POINTER_OFFSET + BRANCH_TRANSACTION_POINTER_SIZE, SNAPSHOT_INDEX_SIZE = Integer.BYTES; // Index of the milestone which confirmed the transaction, 0 if none yet or stored by an older version
+
+    // Compact record of the fields graph walks need, kept apart from the cells so the walks don't page in the payloads
+    public static final int METADATA_SIZE = 256;
+    public static final int METADATA_TYPE_OFFSET = 0, METADATA_VALIDITY_OFFSET = METADATA_TYPE_OFFSET + TYPE_SIZE, METADATA_STATE_OFFSET = METADATA_VALIDITY_OFFSET + VALIDITY_SIZE;
+    public static final int METADATA_SOLID_OFFSET = METADATA_STATE_OFFSET + Byte.BYTES;
+    public static final int METADATA_WEIGHT_OFFSET = METADATA_SOLID_OFFSET + Byte.BYTES;
+    private static final int METADATA_HASH_OFFSET = Long.BYTES;
+    private static final int METADATA_TRUNK_TRANSACTION_POINTER_OFFSET = METADATA_HASH_OFFSET + HASH_SIZE + ((Long.BYTES - (HASH_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1));
+    private static final int METADATA_BRANCH_TRANSACTION_POINTER_OFFSET = METADATA_TRUNK_TRANSACTION_POINTER_OFFSET + TRUNK_TRANSACTION_POINTER_SIZE;
+    private static final int METADATA_VALUE_OFFSET = METADATA_BRANCH_TRANSACTION_POINTER_OFFSET + BRANCH_TRANSACTION_POINTER_SIZE;
+    private static final int METADATA_CURRENT_INDEX_OFFSET = METADATA_VALUE_OFFSET + VALUE_SIZE;
+    private static final int METADATA_LAST_INDEX_OFFSET = METADATA_CURRENT_INDEX_OFFSET + CURRENT_INDEX_SIZE;
+    private static final int METADATA_ADDRESS_OFFSET = METADATA_LAST_INDEX_OFFSET + LAST_INDEX_SIZE;
+    private static final int METADATA_BUNDLE_OFFSET = METADATA_ADDRESS_OFFSET + ADDRESS_SIZE + ((Long.BYTES - (ADDRESS_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1));
+    private static final int METADATA_TAG_OFFSET = METADATA_BUNDLE_OFFSET + BUNDLE_SIZE + ((Long.BYTES - (BUNDLE_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1));
+    public static final int METADATA_SNAPSHOT_INDEX_OFFSET = METADATA_TAG_OFFSET + TAG_SIZE + ((Long.BYTES - (TAG_SIZE & (Long.BYTES - 1))) & (Long.BYTES - 1)); // Up to METADATA_SIZE is free
+    public static final byte METADATA_ABSENT = 0, METADATA_PRESENT = 1; // Cells stored by older versions have no record until they are loaded
 
     public static final long SUPPLY = 2779530283277761L; // = (3^33 - 1) / 2
 
@@ -51,7 +74,7 @@ public class Transaction {
     public final int type;
     
     public final byte[] hash;
-    public final byte[] bytes; // stores entire tx bytes. message occupies always first part named 'signatureMessageFragment'
+    private byte[] bytes; // stores entire tx bytes. message occupies always first part named 'signatureMessageFragment', loaded on demand for stored transactions
     public final byte[] address;
     
     public final long value; // <0 spending transaction, >=0 deposit transaction / message
@@ -61,12 +84,13 @@ public class Transaction {
     public final long lastIndex; // lastIndex is curIndex of the last tx from the same bundle
     
     public final byte[] bundle;
-    public final byte[] trunkTransaction;
-    public final byte[] branchTransaction;
+    private byte[] trunkTransaction; // Loaded on demand for stored transactions, like bytes
+    private byte[] branchTransaction;
 
     public long trunkTransactionPointer;
     public long branchTransactionPointer;
     private final int validity;
+    private final int snapshotIndex;
 
     private int[] trits;
     public final long pointer;
@@ -97,6 +121,7 @@ public class Transaction {
         trunkTransactionPointer = 0;
         branchTransactionPointer = 0;
         validity = 0;
+        snapshotIndex = 0;
 
         pointer = 0;
     }
@@ -142,52 +167,68 @@ public class Transaction {
         trunkTransactionPointer = 0;
         branchTransactionPointer = 0;
         validity = 0;
+        snapshotIndex = 0;
 
         pointer = 0;
     }
 
-    public Transaction(final byte[] mainBuffer, final long pointer) {
+    public Transaction(final byte[] metadata, final long pointer) {
 
-        type = mainBuffer[TYPE_OFFSET];
-        System.arraycopy(mainBuffer, HASH_OFFSET, hash = new byte[HASH_SIZE], 0, HASH_SIZE);
+        type = metadata[METADATA_TYPE_OFFSET];
+        System.arraycopy(metadata, METADATA_HASH_OFFSET, hash = new byte[HASH_SIZE], 0, HASH_SIZE);
 
-        System.arraycopy(mainBuffer, BYTES_OFFSET, bytes = new byte[BYTES_SIZE], 0, BYTES_SIZE);
+        System.arraycopy(metadata, METADATA_ADDRESS_OFFSET, address = new byte[ADDRESS_SIZE], 0, ADDRESS_SIZE);
+        value = AbstractStorage.value(metadata, METADATA_VALUE_OFFSET);
+        System.arraycopy(metadata, METADATA_TAG_OFFSET, tag = new byte[TAG_SIZE], 0, TAG_SIZE);
+        currentIndex = Storage.value(metadata, METADATA_CURRENT_INDEX_OFFSET);
+        lastIndex = Storage.value(metadata, METADATA_LAST_INDEX_OFFSET);
+        System.arraycopy(metadata, METADATA_BUNDLE_OFFSET, bundle = new byte[BUNDLE_SIZE], 0, BUNDLE_SIZE);
 
-        System.arraycopy(mainBuffer, ADDRESS_OFFSET, address = new byte[ADDRESS_SIZE], 0, ADDRESS_SIZE);
-        value = AbstractStorage.value(mainBuffer, VALUE_OFFSET);
-        System.arraycopy(mainBuffer, TAG_OFFSET, tag = new byte[TAG_SIZE], 0, TAG_SIZE);
-        currentIndex = Storage.value(mainBuffer, CURRENT_INDEX_OFFSET);
-        lastIndex = Storage.value(mainBuffer, LAST_INDEX_OFFSET);
-        System.arraycopy(mainBuffer, BUNDLE_OFFSET, bundle = new byte[BUNDLE_SIZE], 0, BUNDLE_SIZE);
-        System.arraycopy(mainBuffer, TRUNK_TRANSACTION_OFFSET, trunkTransaction = new byte[TRUNK_TRANSACTION_SIZE], 0, TRUNK_TRANSACTION_SIZE);
-        System.arraycopy(mainBuffer, BRANCH_TRANSACTION_OFFSET, branchTransaction = new byte[BRANCH_TRANSACTION_SIZE], 0, BRANCH_TRANSACTION_SIZE);
+        trunkTransactionPointer = AbstractStorage.value(metadata, METADATA_TRUNK_TRANSACTION_POINTER_OFFSET);
+        branchTransactionPointer = AbstractStorage.value(metadata, METADATA_BRANCH_TRANSACTION_POINTER_OFFSET);
 
-        trunkTransactionPointer = StorageTransactions.instance().transactionPointer(trunkTransaction);
-        if (trunkTransactionPointer < 0) {
-            trunkTransactionPointer = -trunkTransactionPointer;
+        validity = metadata[METADATA_VALIDITY_OFFSET];
+        snapshotIndex = ByteBuffer.wrap(metadata).getInt(METADATA_SNAPSHOT_INDEX_OFFSET);
+
+        this.pointer = pointer;
+    }
+
+    public synchronized byte[] bytes() {
+
+        if (bytes == null) {
+            bytes = StorageTransactions.instance().loadPayload(pointer, BYTES_OFFSET, BYTES_SIZE);
         }
-        branchTransactionPointer = StorageTransactions.instance().transactionPointer(branchTransaction);
-        if (branchTransactionPointer < 0) {
-            branchTransactionPointer = -branchTransactionPointer;
+        return bytes;
+    }
+
+    public synchronized byte[] trunkTransaction() {
+
+        if (trunkTransaction == null) {
+            trunkTransaction = StorageTransactions.instance().loadPayload(pointer, TRUNK_TRANSACTION_OFFSET, TRUNK_TRANSACTION_SIZE);
         }
+        return trunkTransaction;
+    }
 
-        validity = mainBuffer[VALIDITY_OFFSET];
+    public synchronized byte[] branchTransaction() {
 
-        this.pointer = pointer;
+        if (branchTransaction == null) {
+            branchTransaction = StorageTransactions.instance().loadPayload(pointer, BRANCH_TRANSACTION_OFFSET, BRANCH_TRANSACTION_SIZE);
+        }
+        return branchTransaction;
     }
 
     public synchronized int[] trits() {
 
         if (trits == null) {
             trits = new int[TRINARY_SIZE];
-            Converter.getTrits(bytes, trits);
+            Converter.getTrits(bytes(), trits);
         }
         return trits;
     }
 
     public static void dump(final byte[] mainBuffer, final byte[] hash, final Transaction transaction) {
 
-        System.arraycopy(new byte[AbstractStorage.CELL_SIZE], 0, mainBuffer, 0, AbstractStorage.CELL_SIZE);
+        Arrays.fill(mainBuffer, 0, AbstractStorage.CELL_SIZE, (byte)0); // The store path reuses the buffer, nothing to allocate
         System.arraycopy(hash, 0, mainBuffer, HASH_OFFSET, HASH_SIZE);
 
         if (transaction == null) {
@@ -195,7 +236,7 @@ public class Transaction {
         } else {
             mainBuffer[TYPE_OFFSET] = (byte)transaction.type;
 
-            System.arraycopy(transaction.bytes, 0, mainBuffer, BYTES_OFFSET, BYTES_SIZE);
+            System.arraycopy(transaction.bytes(), 0, mainBuffer, BYTES_OFFSET, BYTES_SIZE);
             System.arraycopy(transaction.address, 0, mainBuffer, ADDRESS_OFFSET, ADDRESS_SIZE);
             Storage.setValue(mainBuffer, VALUE_OFFSET, transaction.value);
             final int[] trits = transaction.trits();
@@ -203,41 +244,37 @@ public class Transaction {
             Storage.setValue(mainBuffer, CURRENT_INDEX_OFFSET, transaction.currentIndex);
             Storage.setValue(mainBuffer, LAST_INDEX_OFFSET, transaction.lastIndex);
             System.arraycopy(Converter.bytes(trits, BUNDLE_TRINARY_OFFSET, BUNDLE_TRINARY_SIZE), 0, mainBuffer, BUNDLE_OFFSET, BUNDLE_SIZE);
-            System.arraycopy(transaction.trunkTransaction, 0, mainBuffer, TRUNK_TRANSACTION_OFFSET, TRUNK_TRANSACTION_SIZE);
-            System.arraycopy(transaction.branchTransaction, 0, mainBuffer, BRANCH_TRANSACTION_OFFSET, BRANCH_TRANSACTION_SIZE);
-
-            long approvedTransactionPointer = StorageTransactions.instance().transactionPointer(transaction.trunkTransaction);
-            if (approvedTransactionPointer == 0) {
-                Storage.approvedTransactionsToStore[Storage.numberOfApprovedTransactionsToStore++] = transaction.trunkTransaction;
-            } else {
-
-                if (approvedTransactionPointer < 0) {
-                    approvedTransactionPointer = -approvedTransactionPointer;
-                }
-                final long index = (approvedTransactionPointer - (AbstractStorage.CELLS_OFFSET - AbstractStorage.SUPER_GROUPS_OFFSET)) >> 11;
-                StorageTransactions.instance().transactionsTipsFlags().put(
-                		(int)(index >> 3), 
-                		(byte)(StorageTransactions.instance().transactionsTipsFlags().get((int)(index >> 3)) & (0xFF ^ (1 << (index & 7)))));
-            }
-            if (!Arrays.equals(transaction.branchTransaction, transaction.trunkTransaction)) {
-
-                approvedTransactionPointer = StorageTransactions.instance().transactionPointer(transaction.branchTransaction);
-                if (approvedTransactionPointer == 0) {
-                    Storage.approvedTransactionsToStore[Storage.numberOfApprovedTransactionsToStore++] = transaction.branchTransaction;
-                } else {
-
-                    if (approvedTransactionPointer < 0) {
-                        approvedTransactionPointer = -approvedTransactionPointer;
-                    }
-                    final long index = (approvedTransactionPointer - (Storage.CELLS_OFFSET - Storage.SUPER_GROUPS_OFFSET)) >> 11;
-                    StorageTransactions.instance().transactionsTipsFlags().put(
-                    		(int) (index >> 3), 
-                    		(byte) (StorageTransactions.instance().transactionsTipsFlags().get((int) (index >> 3)) & (0xFF ^ (1 << (index & 7)))));
-                }
-            }
+            System.arraycopy(transaction.trunkTransaction(), 0, mainBuffer, TRUNK_TRANSACTION_OFFSET, TRUNK_TRANSACTION_SIZE);
+            System.arraycopy(transaction.branchTransaction(), 0, mainBuffer, BRANCH_TRANSACTION_OFFSET, BRANCH_TRANSACTION_SIZE);
+            Storage.setValue(mainBuffer, TRUNK_TRANSACTION_POINTER_OFFSET, transaction.trunkTransactionPointer);
+            Storage.setValue(mainBuffer, BRANCH_TRANSACTION_POINTER_OFFSET, transaction.branchTransactionPointer);
         }
     }
     
+    /**
+     * Extracts the metadata record from a cell.
+     */
+    public static void dumpMetadata(final byte[] metadata, final byte[] mainBuffer) {
+
+        Arrays.fill(metadata, 0, METADATA_SIZE, (byte)0);
+        metadata[METADATA_TYPE_OFFSET] = mainBuffer[TYPE_OFFSET];
+        metadata[METADATA_VALIDITY_OFFSET] = mainBuffer[VALIDITY_OFFSET];
+        metadata[METADATA_STATE_OFFSET] = METADATA_PRESENT;
+        metadata[METADATA_SOLID_OFFSET] = mainBuffer[SOLID_OFFSET];
+        System.arraycopy(mainBuffer, WEIGHT_OFFSET, metadata, METADATA_WEIGHT_OFFSET, WEIGHT_SIZE);
+        System.arraycopy(mainBuffer, HASH_OFFSET, metadata, METADATA_HASH_OFFSET, HASH_SIZE);
+
+        System.arraycopy(mainBuffer, TRUNK_TRANSACTION_POINTER_OFFSET, metadata, METADATA_TRUNK_TRANSACTION_POINTER_OFFSET, TRUNK_TRANSACTION_POINTER_SIZE);
+        System.arraycopy(mainBuffer, BRANCH_TRANSACTION_POINTER_OFFSET, metadata, METADATA_BRANCH_TRANSACTION_POINTER_OFFSET, BRANCH_TRANSACTION_POINTER_SIZE);
+        System.arraycopy(mainBuffer, VALUE_OFFSET, metadata, METADATA_VALUE_OFFSET, VALUE_SIZE);
+        System.arraycopy(mainBuffer, CURRENT_INDEX_OFFSET, metadata, METADATA_CURRENT_INDEX_OFFSET, CURRENT_INDEX_SIZE);
+        System.arraycopy(mainBuffer, LAST_INDEX_OFFSET, metadata, METADATA_LAST_INDEX_OFFSET, LAST_INDEX_SIZE);
+        System.arraycopy(mainBuffer, ADDRESS_OFFSET, metadata, METADATA_ADDRESS_OFFSET, ADDRESS_SIZE);
+        System.arraycopy(mainBuffer, BUNDLE_OFFSET, metadata, METADATA_BUNDLE_OFFSET, BUNDLE_SIZE);
+        System.arraycopy(mainBuffer, TAG_OFFSET, metadata, METADATA_TAG_OFFSET, TAG_SIZE);
+        System.arraycopy(mainBuffer, SNAPSHOT_INDEX_OFFSET, metadata, METADATA_SNAPSHOT_INDEX_OFFSET, SNAPSHOT_INDEX_SIZE);
+    }
+
     public long value() {
 		return value;
 	}
@@ -245,5 +282,12 @@ public class Transaction {
     public int validity() {
 		return validity;
 	}
+
+    /**
+     * Returns the index of the milestone which confirmed the transaction, 0 if none has yet.
+     */
+    public int snapshotIndex() {
+        return snapshotIndex;
+    }
 }
 
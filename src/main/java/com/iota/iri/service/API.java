@@ -11,14 +11,12 @@ import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -35,7 +33,6 @@ import com.google.gson.GsonBuilder;
 import com.iota.iri.IRI;
 import com.iota.iri.Milestone;
 import com.iota.iri.Neighbor;
-import com.iota.iri.Snapshot;
 import com.iota.iri.conf.Configuration;
 import com.iota.iri.conf.Configuration.DefaultConfSettings;
 import com.iota.iri.hash.Curl;
@@ -46,10 +43,12 @@ import com.iota.iri.service.storage.Storage;
 import com.iota.iri.service.storage.StorageAddresses;
 import com.iota.iri.service.storage.StorageApprovers;
 import com.iota.iri.service.storage.StorageBundle;
+import com.iota.iri.service.storage.StorageIndexer;
 import com.iota.iri.service.storage.StorageScratchpad;
 import com.iota.iri.service.storage.StorageTags;
 import com.iota.iri.service.storage.StorageTransactions;
 import com.iota.iri.utils.Converter;
+import com.iota.iri.utils.LongIterator;
 
 import io.undertow.Undertow;
 import io.undertow.server.HttpHandler;
@@ -150,6 +149,13 @@ public class API {
                     final int threshold = ((Double) request.get("threshold")).intValue();
                     return getBalancesStatement(addresses, threshold);
                 }
+                case "getCumulativeWeights": {
+                    final List<String> trans = (List<String>) request.get("transactions");
+                    if (trans == null) {
+                        return ErrorResponse.create("getCumulativeWeights Bad Request.");
+                    }
+                    return getCumulativeWeightsStatement(trans);
+                }
                 case "getInclusionStates": {
                     final List<String> trans = (List<String>) request.get("transactions");
                     final List<String> tps = (List<String>) request.get("tips");
@@ -173,7 +179,7 @@ public class API {
                             Runtime.getRuntime().totalMemory(), Milestone.latestMilestone, Milestone.latestMilestoneIndex,
                             Milestone.latestSolidSubtangleMilestone, Milestone.latestSolidSubtangleMilestoneIndex,
                             Node.instance().howManyNeighbors(), Node.instance().queuedTransactionsSize(),
-                            System.currentTimeMillis(), StorageTransactions.instance().tips().size(),
+                            System.currentTimeMillis(), StorageTransactions.instance().numberOfTips(),
                             StorageScratchpad.instance().getNumberOfTransactionsToRequest());
                 }
                 case "getTips": {
@@ -261,9 +267,12 @@ public class API {
     }
 
     private AbstractResponse storeTransactionStatement(final List<String> trys) {
-        for (final String trytes : trys) {
-            final Transaction transaction = new Transaction(Converter.trits(trytes));
-            StorageTransactions.instance().storeTransaction(transaction.hash, transaction, false);
+        final List<Transaction> transactions = trys.stream().map(trytes -> new Transaction(Converter.trits(trytes))).collect(Collectors.toList());
+        final long[] pointers = StorageTransactions.instance().storeTransactions(transactions);
+        for (int i = 0; i < pointers.length; i++) {
+            if (pointers[i] != 0) {
+                TransactionRequester.instance().transactionReceived(transactions.get(i));
+            }
         }
         return AbstractResponse.createEmptyResponse();
     }
@@ -272,6 +281,15 @@ public class API {
         return GetNeighborsResponse.create(Node.instance().getNeighbors());
     }
 
+    private AbstractResponse getCumulativeWeightsStatement(final List<String> trans) {
+
+        final int[] weights = new int[trans.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = StorageTransactions.instance().weight(StorageTransactions.instance().transactionPointer(new Hash(trans.get(i)).bytes()));
+        }
+        return GetCumulativeWeightsResponse.create(weights);
+    }
+
     private AbstractResponse getInclusionStateStatement(final List<String> trans, final List<String> tps) {
 
         final List<Hash> transactions = trans.stream().map(s -> new Hash(s)).collect(Collectors.toList());
@@ -280,59 +298,51 @@ public class API {
         int numberOfNonMetTransactions = transactions.size();
         final boolean[] inclusionStates = new boolean[numberOfNonMetTransactions];
 
-        synchronized (StorageScratchpad.instance().getAnalyzedTransactionsFlags()) {
-
-            StorageScratchpad.instance().clearAnalyzedTransactionsFlags();
+        final long[] tipPointers = new long[tips.size()];
+        for (int i = 0; i < tipPointers.length; i++) {
 
-            final Queue<Long> nonAnalyzedTransactions = new LinkedList<>();
-            for (final Hash tip : tips) {
-
-                final long pointer = StorageTransactions.instance().transactionPointer(tip.bytes());
-                if (pointer <= 0) {
-                    return ErrorResponse.create("One of the tips absents");
-                }
-                nonAnalyzedTransactions.offer(pointer);
+            tipPointers[i] = StorageTransactions.instance().transactionPointer(tips.get(i).bytes());
+            if (tipPointers[i] <= 0) {
+                return ErrorResponse.create("One of the tips absents");
             }
+        }
 
-            {
-                Long pointer;
-                MAIN_LOOP:
-                while ((pointer = nonAnalyzedTransactions.poll()) != null) {
-
-                    if (StorageScratchpad.instance().setAnalyzedTransactionFlag(pointer)) {
+        final DagWalker walker = DagWalker.past(tipPointers);
+        Transaction transaction;
+        MAIN_LOOP:
+        while ((transaction = walker.next()) != null) {
 
-                        final Transaction transaction = StorageTransactions.instance().loadTransaction(pointer);
-                        if (transaction.type == Storage.PREFILLED_SLOT) {
-                            return ErrorResponse.create("The subtangle is not solid");
-                        } else {
+            if (transaction.type == Storage.PREFILLED_SLOT) {
+                return ErrorResponse.create("The subtangle is not solid");
+            }
 
-                            final Hash transactionHash = new Hash(transaction.hash, 0, Transaction.HASH_SIZE);
-                            for (int i = 0; i < inclusionStates.length; i++) {
+            final Hash transactionHash = new Hash(transaction.hash, 0, Transaction.HASH_SIZE);
+            for (int i = 0; i < inclusionStates.length; i++) {
 
-                                if (!inclusionStates[i] && transactionHash.equals(transactions.get(i))) {
+                if (!inclusionStates[i] && transactionHash.equals(transactions.get(i))) {
 
-                                    inclusionStates[i] = true;
+                    inclusionStates[i] = true;
 
-                                    if (--numberOfNonMetTransactions <= 0) {
-                                        break MAIN_LOOP;
-                                    }
-                                }
-                            }
-                            nonAnalyzedTransactions.offer(transaction.trunkTransactionPointer);
-                            nonAnalyzedTransactions.offer(transaction.branchTransactionPointer);
-                        }
+                    if (--numberOfNonMetTransactions <= 0) {
+                        break MAIN_LOOP;
                     }
                 }
-                return GetInclusionStatesResponse.create(inclusionStates);
             }
         }
+        return GetInclusionStatesResponse.create(inclusionStates);
+    }
+
+    private static void addAll(final Set<Long> transactions, final LongIterator transactionPointers) {
+        while (transactionPointers.hasNext()) {
+            transactions.add(transactionPointers.next());
+        }
     }
 
     private AbstractResponse findTransactionStatement(final Map<String, Object> request) {
         final Set<Long> bundlesTransactions = new HashSet<>();
         if (request.containsKey("bundles")) {
             for (final String bundle : (List<String>) request.get("bundles")) {
-                bundlesTransactions.addAll(StorageBundle.instance()
+                addAll(bundlesTransactions, StorageBundle.instance()
                         .bundleTransactions(StorageBundle.instance().bundlePointer((new Hash(bundle)).bytes())));
             }
         }
@@ -346,7 +356,7 @@ public class API {
                 if (address.length() != 81) {
                     log.error("Address {} doesn't look a valid address", address);
                 }
-                addressesTransactions.addAll(StorageAddresses.instance()
+                addAll(addressesTransactions, StorageAddresses.instance()
                         .addressTransactions(StorageAddresses.instance().addressPointer((new Hash(address)).bytes())));
             }
         }
@@ -357,7 +367,7 @@ public class API {
                 while (tag.length() < Curl.HASH_LENGTH / Converter.NUMBER_OF_TRITS_IN_A_TRYTE) {
                     tag += Converter.TRYTE_ALPHABET.charAt(0);
                 }
-                tagsTransactions.addAll(StorageTags.instance()
+                addAll(tagsTransactions, StorageTags.instance()
                         .tagTransactions(StorageTags.instance().tagPointer((new Hash(tag)).bytes())));
             }
         }
@@ -366,7 +376,7 @@ public class API {
 
         if (request.containsKey("approvees")) {
             for (final String approvee : (List<String>) request.get("approvees")) {
-                approveeTransactions.addAll(StorageApprovers.instance().approveeTransactions(
+                addAll(approveeTransactions, StorageApprovers.instance().approveeTransactions(
                         StorageApprovers.instance().approveePointer((new Hash(approvee)).bytes())));
             }
         }
@@ -392,7 +402,7 @@ public class API {
                         Transaction.HASH_SIZE).toString())
                 .collect(Collectors.toCollection(LinkedList::new));
 
-        return FindTransactionsResponse.create(elements);
+        return FindTransactionsResponse.create(elements, StorageIndexer.instance().lag());
     }
 
     private AbstractResponse broadcastTransactionStatement(final List<String> trytes2) {
@@ -413,47 +423,12 @@ public class API {
         final List<Hash> addresses = addrss.stream().map(address -> (new Hash(address)))
                 .collect(Collectors.toCollection(LinkedList::new));
 
-        final Map<Hash, Long> balances = new HashMap<>();
-        for (final Hash address : addresses) {
-            balances.put(address,
-                    Snapshot.initialState.containsKey(address) ? Snapshot.initialState.get(address) : Long.valueOf(0));
-        }
-
-        final Hash milestone = Milestone.latestSolidSubtangleMilestone;
-        final int milestoneIndex = Milestone.latestSolidSubtangleMilestoneIndex;
-
-        synchronized (StorageScratchpad.instance().getAnalyzedTransactionsFlags()) {
-
-            StorageScratchpad.instance().clearAnalyzedTransactionsFlags();
-
-            final Queue<Long> nonAnalyzedTransactions = new LinkedList<>(
-                    Collections.singleton(StorageTransactions.instance().transactionPointer(milestone.bytes())));
-            Long pointer;
-            while ((pointer = nonAnalyzedTransactions.poll()) != null) {
-
-                if (StorageScratchpad.instance().setAnalyzedTransactionFlag(pointer)) {
-
-                    final Transaction transaction = StorageTransactions.instance().loadTransaction(pointer);
-
-                    if (transaction.value != 0) {
-
-                        final Hash address = new Hash(transaction.address, 0, Transaction.ADDRESS_SIZE);
-                        final Long balance = balances.get(address);
-                        if (balance != null) {
-
-                            balances.put(address, balance + transaction.value);
-                        }
-                    }
-                    nonAnalyzedTransactions.offer(transaction.trunkTransactionPointer);
-                    nonAnalyzedTransactions.offer(transaction.branchTransactionPointer);
-                }
-            }
-        }
+        final LedgerState.Balances balances = LedgerState.instance().balances(addresses);
 
-        final List<String> elements = addresses.stream().map(address -> balances.get(address).toString())
+        final List<String> elements = balances.balances.stream().map(balance -> balance.toString())
                 .collect(Collectors.toCollection(LinkedList::new));
 
-        return GetBalancesResponse.create(elements, milestone, milestoneIndex);
+        return GetBalancesResponse.create(elements, balances.milestone, balances.milestoneIndex);
     }
 
     private synchronized AbstractResponse attachToTangleStatement(final Hash trunkTransaction, final Hash branchTransaction,
@@ -0,0 +1,176 @@
+package com.iota.iri.service;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.LongConsumer;
+
+import com.iota.iri.model.Transaction;
+import com.iota.iri.service.storage.Storage;
+import com.iota.iri.service.storage.StorageApprovers;
+import com.iota.iri.service.storage.StorageTransactions;
+import com.iota.iri.utils.LongIterator;
+import com.iota.iri.utils.PointerSet;
+
+/**
+ * Breadth-first walk over the tangle, either towards the past (trunk and branch) or towards the future (approvers).
+ *
+ * Every walker owns its visited set, so any number of walks can run concurrently.
+ * A walk can treat the transactions of a set or of another walker as visited without copying them,
+ * they must not change until the walk is over. It can also treat the transactions confirmed up to a milestone as visited,
+ * by the snapshot index the ledger state gives them, which takes no memory at all.
+ * The neighbours of a transaction are queued only when the next one is requested,
+ * the caller can stop at any time without paying for the rest of the walk.
+ * PREFILLED_SLOTs are returned but never walked through, the caller can prune() other transactions likewise.
+ */
+public class DagWalker {
+
+    private final boolean past;
+    private final PointerSet visitedTransactions = new PointerSet();
+    private PointerSet excludedTransactions;
+    private DagWalker previousWalker;
+    private int snapshotIndex; // The transactions confirmed by the milestones up to it are treated as visited, 0 for none
+    private final Queue<Long> nonAnalyzedTransactions = new ArrayDeque<>();
+    private Transaction transaction;
+
+    private DagWalker(final boolean past) {
+        this.past = past;
+    }
+
+    public static DagWalker past(final long... pointers) {
+        return new DagWalker(true).restart(pointers);
+    }
+
+    public static DagWalker future(final long... pointers) {
+        return new DagWalker(false).restart(pointers);
+    }
+
+    public DagWalker restart(final long... pointers) {
+        return restart((PointerSet)null, pointers);
+    }
+
+    /**
+     * Restarts the walk treating the transactions visited by the other walker as already visited,
+     * the other walker must not go on meanwhile.
+     */
+    public DagWalker restart(final DagWalker walker, final long... pointers) {
+
+        visitedTransactions.clear();
+        excludedTransactions = null;
+        previousWalker = walker;
+        snapshotIndex = 0;
+        return start(pointers);
+    }
+
+    /**
+     * Restarts the walk treating the transactions of the set as already visited, the set must not be modified meanwhile.
+     */
+    public DagWalker restart(final PointerSet visitedTransactions, final long... pointers) {
+
+        this.visitedTransactions.clear();
+        excludedTransactions = visitedTransactions;
+        previousWalker = null;
+        snapshotIndex = 0;
+        return start(pointers);
+    }
+
+    /**
+     * Restarts the walk treating the transactions confirmed by the milestones up to the index as already visited.
+     */
+    public DagWalker restartAfter(final int snapshotIndex, final long... pointers) {
+
+        visitedTransactions.clear();
+        excludedTransactions = null;
+        previousWalker = null;
+        this.snapshotIndex = snapshotIndex;
+        return start(pointers);
+    }
+
+    /**
+     * Continues the walk from other transactions, the ones visited so far are not visited again.
+     */
+    public DagWalker proceed(final long... pointers) {
+        return start(pointers);
+    }
+
+    /**
+     * Returns the next not yet visited transaction or null when the walk is over.
+     */
+    public Transaction next() {
+
+        if (transaction != null) {
+
+            if (past) {
+                if (transaction.type != Storage.PREFILLED_SLOT) {
+                    nonAnalyzedTransactions.offer(transaction.trunkTransactionPointer);
+                    nonAnalyzedTransactions.offer(transaction.branchTransactionPointer);
+                }
+            } else {
+                final LongIterator approvers = StorageApprovers.instance().approveeTransactions(StorageApprovers.instance().approveePointer(transaction.hash));
+                while (approvers.hasNext()) {
+                    nonAnalyzedTransactions.offer(approvers.next());
+                }
+            }
+            transaction = null;
+        }
+
+        Long pointer;
+        while ((pointer = nonAnalyzedTransactions.poll()) != null) {
+
+            if (pointer != 0 && !excluded(pointer) && visitedTransactions.add(pointer)) {
+                return transaction = StorageTransactions.instance().loadTransaction(pointer);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Doesn't walk through the transaction returned last, its neighbours are visited only if reached through other ones.
+     */
+    public void prune() {
+        transaction = null;
+    }
+
+    public boolean visited(final long pointer) {
+        return visitedTransactions.contains(Math.abs(pointer)) || excluded(Math.abs(pointer));
+    }
+
+    /**
+     * Passes the transactions visited so far, including the ones treated as visited but not the confirmed ones.
+     */
+    public void forEachVisitedTransaction(final LongConsumer consumer) {
+
+        visitedTransactions.forEach(consumer);
+        if (excludedTransactions != null) {
+            excludedTransactions.forEach(consumer);
+        }
+        if (previousWalker != null) {
+            previousWalker.forEachVisitedTransaction(consumer);
+        }
+    }
+
+    public int numberOfVisitedTransactions() {
+        return visitedTransactions.size() + (excludedTransactions == null ? 0 : excludedTransactions.size())
+                + (previousWalker == null ? 0 : previousWalker.numberOfVisitedTransactions());
+    }
+
+    private boolean excluded(final long pointer) {
+        return (excludedTransactions != null && excludedTransactions.contains(pointer))
+                || (previousWalker != null && previousWalker.visited(pointer))
+                || (snapshotIndex > 0 && pointer != 0 && confirmed(pointer));
+    }
+
+    private boolean confirmed(final long pointer) {
+        final int transactionSnapshotIndex = StorageTransactions.instance().snapshotIndex(pointer);
+        return transactionSnapshotIndex > 0 && transactionSnapshotIndex <= snapshotIndex;
+    }
+
+    private DagWalker start(final long... pointers) {
+
+        nonAnalyzedTransactions.clear();
+        transaction = null;
+        for (final long pointer : pointers) {
+            nonAnalyzedTransactions.offer(Math.abs(pointer)); // PREFILLED_SLOTs are referenced by negative pointers
+        }
+        return this;
+    }
+}
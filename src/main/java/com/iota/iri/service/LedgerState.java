@@ -0,0 +1,187 @@
+package com.iota.iri.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.iota.iri.Snapshot;
+import com.iota.iri.conf.Configuration;
+import com.iota.iri.conf.Configuration.DefaultConfSettings;
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+import com.iota.iri.service.storage.StorageTransactions;
+import com.iota.iri.utils.BalanceTable;
+
+/**
+ * The balances confirmed by the latest solid milestone, kept up to date so balance requests don't walk the tangle.
+ *
+ * The milestones are applied by a background thread as they get solid, starting from the latest snapshot. Each one
+ * walks only the transactions the previous ones didn't confirm and gives them its index as their snapshot index,
+ * the walk stops at the ones with an index up to the one of the ledger, so nothing is kept in memory between milestones.
+ * The indexes of a run which didn't get to snapshot them are above the one of the ledger at the next start, and get
+ * overwritten. Every SNAPSHOT_INTERVAL milestones a new snapshot is written. The balances are read together with
+ * the milestone they belong to.
+ */
+public class LedgerState {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerState.class);
+
+    private static final LedgerState instance = new LedgerState();
+
+    private BalanceTable balances; // Written by the tracker only
+    private Hash milestone;
+    private int milestoneIndex;
+
+    private Hash solidMilestone;
+    private int solidMilestoneIndex;
+
+    private final DagWalker walker = DagWalker.past(); // Owned by the tracker
+    private int snapshotMilestoneIndex;
+
+    private volatile boolean shuttingDown;
+    private Thread tracker;
+
+    public static class Balances {
+
+        public final List<Long> balances;
+        public final Hash milestone;
+        public final int milestoneIndex;
+
+        private Balances(final List<Long> balances, final Hash milestone, final int milestoneIndex) {
+            this.balances = balances;
+            this.milestone = milestone;
+            this.milestoneIndex = milestoneIndex;
+        }
+    }
+
+    public void init() {
+
+        final Snapshot snapshot = Snapshot.latest();
+        synchronized (this) {
+
+            balances = snapshot.balances();
+            milestone = solidMilestone = snapshot.milestone;
+            milestoneIndex = solidMilestoneIndex = snapshotMilestoneIndex = snapshot.milestoneIndex;
+        }
+
+        shuttingDown = false;
+        tracker = new Thread(() -> {
+
+            while (!shuttingDown) {
+
+                try {
+                    final Hash nextMilestone;
+                    final int nextMilestoneIndex;
+                    synchronized (this) {
+
+                        while (!shuttingDown && solidMilestoneIndex <= milestoneIndex) {
+                            wait();
+                        }
+                        nextMilestone = solidMilestone;
+                        nextMilestoneIndex = solidMilestoneIndex;
+                    }
+                    if (!shuttingDown) {
+                        apply(nextMilestone, nextMilestoneIndex);
+                    }
+
+                } catch (final InterruptedException e) {
+                    return;
+                } catch (final Exception e) {
+                    log.error("Error during ledger state updating", e);
+                }
+            }
+        }, "Ledger State Tracker");
+        tracker.start();
+    }
+
+    public void shutDown() {
+
+        shuttingDown = true;
+        synchronized (this) {
+            notifyAll();
+        }
+        try {
+            tracker.join(); // It may be writing snapshot indexes, the storage is shut down next
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Called by the milestone tracker, the milestone is applied in the background.
+     */
+    public synchronized void milestoneSolidified(final Hash milestone, final int milestoneIndex) {
+
+        if (milestoneIndex > solidMilestoneIndex) {
+
+            solidMilestone = milestone;
+            solidMilestoneIndex = milestoneIndex;
+            notifyAll();
+        }
+    }
+
+    private void apply(final Hash milestone, final int milestoneIndex) {
+
+        final long beginningTime = System.currentTimeMillis();
+
+        final BalanceTable changes = new BalanceTable();
+        walker.restartAfter(this.milestoneIndex, StorageTransactions.instance().transactionPointer(milestone.bytes()));
+        int numberOfTransactions = 0;
+        Transaction transaction;
+        while ((transaction = walker.next()) != null) {
+
+            if (shuttingDown) {
+                return;
+            }
+            if (transaction.value != 0) {
+                changes.add(transaction.address, 0, transaction.value);
+            }
+            StorageTransactions.instance().setSnapshotIndex(transaction.pointer, milestoneIndex);
+            numberOfTransactions++;
+        }
+        walker.restart(); // Lets the visited set go
+
+        synchronized (this) {
+
+            changes.forEach(balances::add);
+            this.milestone = milestone;
+            this.milestoneIndex = milestoneIndex;
+        }
+
+        log.info("Ledger state moved to milestone #{} ({} transactions, {} balances changed, {} ms)", milestoneIndex, numberOfTransactions, changes.size(), System.currentTimeMillis() - beginningTime);
+
+        final int snapshotInterval = Configuration.integer(DefaultConfSettings.SNAPSHOT_INTERVAL);
+        if (snapshotInterval > 0 && milestoneIndex - snapshotMilestoneIndex >= snapshotInterval) {
+            snapshot(milestone, milestoneIndex);
+        }
+    }
+
+    private void snapshot(final Hash milestone, final int milestoneIndex) { // Runs on the tracker, nothing else modifies the balances
+
+        StorageTransactions.instance().flushDirtyBuffers(); // The snapshot indexes first, the file tells they are set. Waits for a flush under way as well
+        try {
+            new Snapshot(milestone, milestoneIndex, new BalanceTable(balances)).save();
+            snapshotMilestoneIndex = milestoneIndex;
+            log.info("Snapshot written at milestone #{}", milestoneIndex);
+
+        } catch (final IOException e) {
+            log.error("Snapshot couldn't be written at milestone #" + milestoneIndex, e);
+        }
+    }
+
+    public synchronized Balances balances(final List<Hash> addresses) {
+
+        final List<Long> addressBalances = new ArrayList<>(addresses.size());
+        for (final Hash address : addresses) {
+            addressBalances.add(balances.balance(address));
+        }
+        return new Balances(addressBalances, milestone, milestoneIndex);
+    }
+
+    public static LedgerState instance() {
+        return instance;
+    }
+}
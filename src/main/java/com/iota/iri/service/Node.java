@@ -22,7 +22,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
-import com.iota.iri.model.Hash;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,7 +33,6 @@ import com.iota.iri.conf.Configuration.DefaultConfSettings;
 import com.iota.iri.hash.Curl;
 import com.iota.iri.model.Transaction;
 import com.iota.iri.service.storage.Storage;
-import com.iota.iri.service.storage.StorageScratchpad;
 import com.iota.iri.service.storage.StorageTransactions;
 
 /**
@@ -195,6 +193,7 @@ public class Node {
                                             receivedTransaction, false) != 0) {
                                         neighbor.incNewTransactions();
                                         broadcast(receivedTransaction);
+                                        TransactionRequester.instance().transactionReceived(receivedTransaction);
                                     }
 
                                     final long transactionPointer;
@@ -206,13 +205,7 @@ public class Node {
                                                 ++randomTipBroadcastCounter % 3 == 0) {
                                             log.info("Experimental: Random Tip Broadcaster.");
 
-                                            final String [] tips = StorageTransactions.instance().tips().stream()
-                                                    .map(Hash::toString)
-                                                    .toArray(size -> new String[size]);
-                                            final String rndTipHash = tips[rnd.nextInt(tips.length)];
-
-                                            transactionPointer = StorageTransactions.instance()
-                                                    .transactionPointer(rndTipHash.getBytes());
+                                            transactionPointer = StorageTransactions.instance().randomTipPointer(rnd);
                                         } else {
                                             transactionPointer = StorageTransactions.instance()
                                                     .transactionPointer(Milestone.latestMilestone.bytes());
@@ -224,10 +217,10 @@ public class Node {
                                         synchronized (sendingPacket) {
                                             System.arraycopy(
                                                     StorageTransactions.instance()
-                                                            .loadTransaction(transactionPointer).bytes,
+                                                            .loadTransaction(transactionPointer).bytes(),
                                                     0, sendingPacket.getData(), 0, Transaction.SIZE);
-                                            StorageScratchpad.instance().transactionToRequest(sendingPacket.getData(),
-                                                    Transaction.SIZE);
+                                            TransactionRequester.instance().transactionToRequest(neighbor,
+                                                    sendingPacket.getData(), Transaction.SIZE);
                                             neighbor.send(sendingPacket);
                                         }
                                     }
@@ -263,10 +256,10 @@ public class Node {
                         for (final Neighbor neighbor : neighbors) {
                             try {
                                 synchronized (sendingPacket) {
-                                    System.arraycopy(transaction.bytes, 0, sendingPacket.getData(), 0,
-                                            Transaction.SIZE);
-                                    StorageScratchpad.instance().transactionToRequest(sendingPacket.getData(),
+                                    System.arraycopy(transaction.bytes(), 0, sendingPacket.getData(), 0,
                                             Transaction.SIZE);
+                                    TransactionRequester.instance().transactionToRequest(neighbor,
+                                            sendingPacket.getData(), Transaction.SIZE);
                                     neighbor.send(sendingPacket);
                                 }
                             } catch (final Exception e) {
@@ -293,7 +286,7 @@ public class Node {
                 try {
                     final Transaction transaction = StorageTransactions.instance()
                             .loadMilestone(Milestone.latestMilestone);
-                    System.arraycopy(transaction.bytes, 0, tipRequestingPacket.getData(), 0, Transaction.SIZE);
+                    System.arraycopy(transaction.bytes(), 0, tipRequestingPacket.getData(), 0, Transaction.SIZE);
                     System.arraycopy(transaction.hash, 0, tipRequestingPacket.getData(), Transaction.SIZE,
                             Transaction.HASH_SIZE);
 
@@ -0,0 +1,53 @@
+package com.iota.iri.service;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+import com.iota.iri.service.storage.StorageTransactions;
+import com.iota.iri.utils.BalanceTable;
+
+/**
+ * Rates every tail approving the entry point by the number of transactions it would bring in and picks the best one.
+ *
+ * Each tail costs a walk of its past, the approach only suits small tangles.
+ */
+class RatingTipSelector implements TipSelector {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingTipSelector.class);
+
+    @Override
+    public Hash tailToApprove(final Hash entryPoint, final DagWalker confirmedTransactionsWalker, final BalanceTable confirmedState) {
+
+        final Set<Long> tailsToAnalyze = new HashSet<>();
+
+        final DagWalker approversWalker = DagWalker.future(StorageTransactions.instance().transactionPointer(entryPoint.bytes()));
+        Transaction transaction;
+        while ((transaction = approversWalker.next()) != null) {
+
+            if (transaction.currentIndex == 0 && !confirmedTransactionsWalker.visited(transaction.pointer)) {
+                tailsToAnalyze.add(transaction.pointer);
+            }
+        }
+
+        log.info(tailsToAnalyze.size() + " tails need to be analyzed");
+        long bestTip = 0;
+        int bestRating = 0;
+        final DagWalker extraTransactionsWalker = DagWalker.past();
+        for (final long tail : tailsToAnalyze) {
+
+            final int rating = TipsManager.numberOfExtraTransactions(tail, extraTransactionsWalker, confirmedTransactionsWalker, confirmedState);
+            if (rating > bestRating) {
+                bestTip = tail;
+                bestRating = rating;
+            }
+        }
+        log.info("{} extra transactions approved", bestRating);
+
+        return bestTip == 0 ? entryPoint : new Hash(StorageTransactions.instance().loadTransaction(bestTip).hash, 0, Transaction.HASH_SIZE);
+    }
+}
@@ -0,0 +1,16 @@
+package com.iota.iri.service;
+
+import com.iota.iri.model.Hash;
+import com.iota.iri.utils.BalanceTable;
+
+/**
+ * Picks the tail to approve among the ones approving the entry point, the transactions it brings in on top of
+ * the confirmed ones must be consistent with the confirmed state (see TipsManager.numberOfExtraTransactions).
+ */
+interface TipSelector {
+
+    /**
+     * Returns the entry point itself if no consistent tail is found.
+     */
+    Hash tailToApprove(Hash entryPoint, DagWalker confirmedTransactionsWalker, BalanceTable confirmedState);
+}
@@ -1,14 +1,8 @@
 package com.iota.iri.service;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -17,17 +11,20 @@ import org.slf4j.LoggerFactory;
 import com.iota.iri.Bundle;
 import com.iota.iri.Milestone;
 import com.iota.iri.Snapshot;
+import com.iota.iri.conf.Configuration;
+import com.iota.iri.conf.Configuration.DefaultConfSettings;
 import com.iota.iri.model.Hash;
 import com.iota.iri.model.Transaction;
 import com.iota.iri.service.storage.Storage;
-import com.iota.iri.service.storage.StorageApprovers;
-import com.iota.iri.service.storage.StorageScratchpad;
 import com.iota.iri.service.storage.StorageTransactions;
+import com.iota.iri.utils.BalanceTable;
 
 public class TipsManager {
 
     private static final Logger log = LoggerFactory.getLogger(TipsManager.class);
 
+    private static TipSelector tipSelector; // Picked on first use, guarded by TipsManager.class
+
     private volatile boolean shuttingDown;
 
     public void init() {
@@ -48,6 +45,7 @@ public class TipsManager {
                     }
                     if (previousSolidSubtangleLatestMilestoneIndex != Milestone.latestSolidSubtangleMilestoneIndex) {
                     	log.info("Latest SOLID SUBTANGLE milestone has changed from #" + previousSolidSubtangleLatestMilestoneIndex + " to #" + Milestone.latestSolidSubtangleMilestoneIndex);
+                    	LedgerState.instance().milestoneSolidified(Milestone.latestSolidSubtangleMilestone, Milestone.latestSolidSubtangleMilestoneIndex);
                     }
                     Thread.sleep(5000);
 
@@ -64,215 +62,134 @@ public class TipsManager {
 
     static synchronized Hash transactionToApprove(final Hash extraTip, int depth) {
 
-        final Hash preferableMilestone = Milestone.latestSolidSubtangleMilestone;
-
-        synchronized (StorageScratchpad.instance().getAnalyzedTransactionsFlags()) {
-
-        	StorageScratchpad.instance().clearAnalyzedTransactionsFlags();
-
-            Map<Hash, Long> state = new HashMap<>(Snapshot.initialState);
+        final Snapshot snapshot = Snapshot.latest(); // May be ahead of the solid milestone until the milestones are tracked again after a start
+        final Hash preferableMilestone = snapshot.milestoneIndex > Milestone.latestSolidSubtangleMilestoneIndex ? snapshot.milestone : Milestone.latestSolidSubtangleMilestone;
 
-            {
-                int numberOfAnalyzedTransactions = 0;
+        final DagWalker confirmedTransactionsWalker = snapshot.past(StorageTransactions.instance().transactionPointer((extraTip == null ? preferableMilestone : extraTip).bytes()));
 
-                final Queue<Long> nonAnalyzedTransactions = new LinkedList<>(Collections.singleton(StorageTransactions.instance().transactionPointer((extraTip == null ? preferableMilestone : extraTip).bytes())));
-                Long pointer;
-                while ((pointer = nonAnalyzedTransactions.poll()) != null) {
+        final BalanceTable state = snapshot.overlay();
 
-                    if (StorageScratchpad.instance().setAnalyzedTransactionFlag(pointer)) {
+        {
+            Transaction transaction;
+            while ((transaction = confirmedTransactionsWalker.next()) != null) {
 
-                        numberOfAnalyzedTransactions++;
+                if (transaction.type == Storage.PREFILLED_SLOT) {
+                    return null;
+                } else {
 
-                        final Transaction transaction = StorageTransactions.instance().loadTransaction(pointer);
-                        if (transaction.type == Storage.PREFILLED_SLOT) {
-                            return null;
-                        } else {
-
-                            if (transaction.currentIndex == 0) {
-
-                                boolean validBundle = false;
+                    if (transaction.currentIndex == 0) {
 
-                                final Bundle bundle = new Bundle(transaction.bundle);
-                                for (final List<Transaction> bundleTransactions : bundle.getTransactions()) {
+                        boolean validBundle = false;
 
-                                    if (bundleTransactions.get(0).pointer == transaction.pointer) {
+                        final Bundle bundle = new Bundle(transaction.bundle);
+                        for (final List<Transaction> bundleTransactions : bundle.getTransactions()) {
 
-                                        validBundle = true;
+                            if (bundleTransactions.get(0).pointer == transaction.pointer) {
 
-                                        bundleTransactions.stream().filter(bundleTransaction -> bundleTransaction.value != 0).forEach(bundleTransaction -> {
-                                            final Hash address = new Hash(bundleTransaction.address);
-                                            final Long value = state.get(address);
-                                            state.put(address, value == null ? bundleTransaction.value : (value + bundleTransaction.value));
-                                        });
-                                        break;
-                                    }
-                                }
+                                validBundle = true;
 
-                                if (!validBundle) {
-                                    return null;
-                                }
+                                bundleTransactions.stream().filter(bundleTransaction -> bundleTransaction.value != 0)
+                                        .forEach(bundleTransaction -> state.add(bundleTransaction.address, 0, bundleTransaction.value));
+                                break;
                             }
-
-                            nonAnalyzedTransactions.offer(transaction.trunkTransactionPointer);
-                            nonAnalyzedTransactions.offer(transaction.branchTransactionPointer);
                         }
-                    }
-                }
-
-                log.info("Confirmed transactions = {}", numberOfAnalyzedTransactions);
-            }
-
-            final Iterator<Map.Entry<Hash, Long>> stateIterator = state.entrySet().iterator();
-            while (stateIterator.hasNext()) {
 
-                final Map.Entry<Hash, Long> entry = stateIterator.next();
-                if (entry.getValue() <= 0) {
-
-                    if (entry.getValue() < 0) {
-                    	log.error("Ledger inconsistency detected");
-                        return null;
+                        if (!validBundle) {
+                            return null;
+                        }
                     }
-                    stateIterator.remove();
                 }
             }
 
-            StorageScratchpad.instance().saveAnalyzedTransactionsFlags();
-            StorageScratchpad.instance().clearAnalyzedTransactionsFlags();
+            log.info("Confirmed transactions = {}", confirmedTransactionsWalker.numberOfVisitedTransactions());
+        }
 
-            final Set<Hash> tailsToAnalyze = new HashSet<>();
+        if (state.numberOfNegativeBalances() > 0) {
+        	log.error("Ledger inconsistency detected");
+            return null;
+        }
 
-            Hash tip = preferableMilestone;
-            if (extraTip != null) {
+        Hash tip = preferableMilestone;
+        if (extraTip != null) {
 
-                Transaction transaction = StorageTransactions.instance().loadTransaction(StorageTransactions.instance().transactionPointer(tip.bytes()));
-                while (depth-- > 0 && !tip.equals(Hash.NULL_HASH)) {
+            Transaction transaction = StorageTransactions.instance().loadTransaction(StorageTransactions.instance().transactionPointer(tip.bytes()));
+            while (depth-- > 0 && !tip.equals(Hash.NULL_HASH)) {
 
-                    tip = new Hash(transaction.hash, 0, Transaction.HASH_SIZE);
-                    do {
-                        transaction = StorageTransactions.instance().loadTransaction(transaction.trunkTransactionPointer);
-                    } while (transaction.currentIndex != 0);
-                }
+                tip = new Hash(transaction.hash, 0, Transaction.HASH_SIZE);
+                do {
+                    transaction = StorageTransactions.instance().loadTransaction(transaction.trunkTransactionPointer);
+                } while (transaction.currentIndex != 0);
             }
-            final Queue<Long> nonAnalyzedTransactions = new LinkedList<>(Collections.singleton(StorageTransactions.instance().transactionPointer(tip.bytes())));
-            Long pointer;
-            while ((pointer = nonAnalyzedTransactions.poll()) != null) {
-
-                if (StorageScratchpad.instance().setAnalyzedTransactionFlag(pointer)) {
-
-                    final Transaction transaction = StorageTransactions.instance().loadTransaction(pointer);
+        }
 
-                    if (transaction.currentIndex == 0) {
-                        tailsToAnalyze.add(new Hash(transaction.hash, 0, Transaction.HASH_SIZE));
-                    }
+        if (tipSelector == null) {
+            tipSelector = "walk".equals(Configuration.string(DefaultConfSettings.TIP_SELECTION))
+                    ? new WalkTipSelector(Configuration.doubling(DefaultConfSettings.TIP_SELECTION_ALPHA), Configuration.integer(DefaultConfSettings.TIP_SELECTION_MAX_WALK_LENGTH))
+                    : new RatingTipSelector();
+        }
+        return tipSelector.tailToApprove(tip, confirmedTransactionsWalker, state);
+    }
 
-                    StorageApprovers.instance().approveeTransactions(StorageApprovers.instance().approveePointer(transaction.hash)).forEach(nonAnalyzedTransactions::offer);
-                }
-            }
+    /**
+     * Returns the number of transactions the tail would approve on top of the confirmed ones,
+     * or -1 if they are not all known, don't form valid bundles or spend more than the confirmed state holds.
+     */
+    static int numberOfExtraTransactions(final long tailPointer, final DagWalker extraTransactionsWalker,
+                                         final DagWalker confirmedTransactionsWalker, final BalanceTable confirmedState) {
 
-            if (extraTip != null) {
+        extraTransactionsWalker.restart(confirmedTransactionsWalker, tailPointer);
 
-                StorageScratchpad.instance().loadAnalyzedTransactionsFlags();
+        final Set<Hash> extraTransactions = new HashSet<>();
 
-                final Iterator<Hash> tailsToAnalyzeIterator = tailsToAnalyze.iterator();
-                while (tailsToAnalyzeIterator.hasNext()) {
+        Transaction analyzedTransaction;
+        while ((analyzedTransaction = extraTransactionsWalker.next()) != null) {
 
-                    final Transaction tail = StorageTransactions.instance().loadTransaction(tailsToAnalyzeIterator.next().bytes());
-                    if (StorageScratchpad.instance().analyzedTransactionFlag(tail.pointer)) {
-                        tailsToAnalyzeIterator.remove();
-                    }
-                }
+            if (analyzedTransaction.type == Storage.PREFILLED_SLOT) {
+                return -1;
+            } else {
+                extraTransactions.add(new Hash(analyzedTransaction.hash, 0, Transaction.HASH_SIZE));
             }
+        }
 
-            log.info(tailsToAnalyze.size() + " tails need to be analyzed");
-            Hash bestTip = preferableMilestone;
-            int bestRating = 0;
-            for (final Hash tail : tailsToAnalyze) {
-
-            	StorageScratchpad.instance().loadAnalyzedTransactionsFlags();
-
-                Set<Hash> extraTransactions = new HashSet<>();
-
-                nonAnalyzedTransactions.clear();
-                nonAnalyzedTransactions.offer(StorageTransactions.instance().transactionPointer(tail.bytes()));
-                while ((pointer = nonAnalyzedTransactions.poll()) != null) {
-
-                    if (StorageScratchpad.instance().setAnalyzedTransactionFlag(pointer)) {
-
-                        final Transaction transaction = StorageTransactions.instance().loadTransaction(pointer);
-                        if (transaction.type == Storage.PREFILLED_SLOT) {
-                            extraTransactions = null;
-                            break;
-                        } else {
-                            extraTransactions.add(new Hash(transaction.hash, 0, Transaction.HASH_SIZE));
-                            nonAnalyzedTransactions.offer(transaction.trunkTransactionPointer);
-                            nonAnalyzedTransactions.offer(transaction.branchTransactionPointer);
-                        }
-                    }
-                }
-
-                if (extraTransactions != null) {
-
-                    Set<Hash> extraTransactionsCopy = new HashSet<>(extraTransactions);
+        final Set<Hash> extraTransactionsCopy = new HashSet<>(extraTransactions);
 
-                    for (final Hash extraTransaction : extraTransactions) {
+        for (final Hash extraTransaction : extraTransactions) {
 
-                        final Transaction transaction = StorageTransactions.instance().loadTransaction(extraTransaction.bytes());
-                        if (transaction != null && transaction.currentIndex == 0) {
+            final Transaction transaction = StorageTransactions.instance().loadTransaction(extraTransaction.bytes());
+            if (transaction != null && transaction.currentIndex == 0) {
 
-                            final Bundle bundle = new Bundle(transaction.bundle);
-                            for (final List<Transaction> bundleTransactions : bundle.getTransactions()) {
+                final Bundle bundle = new Bundle(transaction.bundle);
+                for (final List<Transaction> bundleTransactions : bundle.getTransactions()) {
 
-                                if (Arrays.equals(bundleTransactions.get(0).hash, transaction.hash)) {
+                    if (Arrays.equals(bundleTransactions.get(0).hash, transaction.hash)) {
 
-                                    for (final Transaction bundleTransaction : bundleTransactions) {
+                        for (final Transaction bundleTransaction : bundleTransactions) {
 
-                                        if (!extraTransactionsCopy.remove(new Hash(bundleTransaction.hash, 0, Transaction.HASH_SIZE))) {
-                                            extraTransactionsCopy = null;
-                                            break;
-                                        }
-                                    }
-                                    break;
-                                }
+                            if (!extraTransactionsCopy.remove(new Hash(bundleTransaction.hash, 0, Transaction.HASH_SIZE))) {
+                                return -1;
                             }
                         }
-                        if (extraTransactionsCopy == null) {
-                            break;
-                        }
+                        break;
                     }
+                }
+            }
+        }
 
-                    if (extraTransactionsCopy != null && extraTransactionsCopy.isEmpty()) {
-
-                        final Map<Hash, Long> stateCopy = new HashMap<>(state);
+        if (!extraTransactionsCopy.isEmpty()) {
+            return -1;
+        }
 
-                        for (final Hash extraTransaction : extraTransactions) {
+        final BalanceTable stateCopy = BalanceTable.overlay(confirmedState);
 
-                            final Transaction transaction = StorageTransactions.instance().loadTransaction(extraTransaction.bytes());
-                            if (transaction.value != 0) {
-                                final Hash address = new Hash(transaction.address);
-                                final Long value = stateCopy.get(address);
-                                stateCopy.put(address, value == null ? transaction.value : (value + transaction.value));
-                            }
-                        }
+        for (final Hash extraTransaction : extraTransactions) {
 
-                        for (final long value : stateCopy.values()) {
-                            if (value < 0) {
-                                extraTransactions = null;
-                                break;
-                            }
-                        }
-
-                        if (extraTransactions != null) {
-                            if (extraTransactions.size() > bestRating) {
-                                bestTip = tail;
-                                bestRating = extraTransactions.size();
-                            }
-                        }
-                    }
-                }
+            final Transaction transaction = StorageTransactions.instance().loadTransaction(extraTransaction.bytes());
+            if (transaction.value != 0) {
+                stateCopy.add(transaction.address, 0, transaction.value);
             }
-            log.info("{} extra transactions approved", bestRating);
-            return bestTip;
         }
+
+        return stateCopy.numberOfNegativeBalances() > 0 ? -1 : extraTransactions.size();
     }
     
     private static TipsManager instance = new TipsManager();
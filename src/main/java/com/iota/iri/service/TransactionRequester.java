@@ -0,0 +1,202 @@
+package com.iota.iri.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.iota.iri.Milestone;
+import com.iota.iri.Neighbor;
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+import com.iota.iri.service.storage.Storage;
+import com.iota.iri.service.storage.StorageScratchpad;
+import com.iota.iri.service.storage.StorageTransactions;
+
+/**
+ * Picks the hash to request from a neighbor, the missing transactions closest to the lowest unsolid milestone first.
+ *
+ * A background thread walks the past of that milestone breadth-first, down to the solid transactions, and ranks
+ * the missing transactions it meets by the order it meets them in. A received transaction passes its rank plus one on to its missing approvees,
+ * so the requests follow the holes down without waiting for the next walk. A requested hash rests for
+ * REQUEST_TIMEOUT before it's asked for again, then preferably from another neighbor. When no ranked hash is due,
+ * the unranked missing transactions are requested round-robin.
+ */
+public class TransactionRequester {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionRequester.class);
+
+    private static final TransactionRequester instance = new TransactionRequester();
+
+    private static final int RANKING_INTERVAL = 5000;
+    private static final int MAX_WALK_LENGTH = 100000; // Transactions visited per ranking walk
+    static final int REQUEST_TIMEOUT = 2000;
+    private static final int MAX_SKIPPED_REQUESTS = 4; // Looked past when the best ones were last sent to the same neighbor
+
+    private final Map<Hash, Request> requests = new HashMap<>(); // The current request of each ranked hash
+    private final Queue<Request> dueRequests = new PriorityQueue<>((request1, request2) -> Integer.compare(request1.rank, request2.rank));
+    private final Queue<Request> sentRequests = new PriorityQueue<>((request1, request2) -> Long.compare(request1.dueTime, request2.dueTime));
+
+    private volatile boolean shuttingDown;
+
+    private static class Request {
+
+        final Hash hash;
+        final int rank;
+        long dueTime;
+        Neighbor neighbor; // Last asked
+
+        Request(final Hash hash, final int rank) {
+            this.hash = hash;
+            this.rank = rank;
+        }
+    }
+
+    public void init() {
+
+        (new Thread(() -> {
+
+            while (!shuttingDown) {
+
+                try {
+                    final Hash milestone = Milestone.lowestUnsolidMilestone();
+                    if (milestone != null) {
+                        rank(milestone);
+                    }
+                    Thread.sleep(RANKING_INTERVAL);
+
+                } catch (final InterruptedException e) {
+                    return;
+                } catch (final Exception e) {
+                    log.error("Error during ranking of the transactions to request", e);
+                }
+            }
+        }, "Transaction Requester")).start();
+    }
+
+    public void shutDown() {
+        shuttingDown = true;
+    }
+
+    void rank(final Hash milestone) {
+
+        final List<Hash> missingTransactions = new ArrayList<>();
+        final DagWalker walker = DagWalker.past(StorageTransactions.instance().transactionPointer(milestone.bytes()));
+        Transaction transaction;
+        for (int i = 0; i < MAX_WALK_LENGTH && !shuttingDown && (transaction = walker.next()) != null; i++) {
+            if (transaction.type == Storage.PREFILLED_SLOT) {
+                missingTransactions.add(new Hash(transaction.hash, 0, Transaction.HASH_SIZE));
+            } else if (StorageTransactions.instance().solid(transaction.pointer)) { // Nothing is missing in its past
+                walker.prune();
+            }
+        }
+
+        synchronized (this) {
+            for (int i = 0; i < missingTransactions.size(); i++) {
+                rank(missingTransactions.get(i), i);
+            }
+        }
+    }
+
+    private void rank(final Hash hash, final int rank) { // Must hold the monitor
+
+        final Request request = requests.get(hash);
+        if (request == null || request.rank > rank) {
+
+            final Request rankedRequest = new Request(hash, rank);
+            if (request != null) { // Keeps it from being asked for again too soon
+                rankedRequest.dueTime = request.dueTime;
+                rankedRequest.neighbor = request.neighbor;
+            }
+            requests.put(hash, rankedRequest);
+            (rankedRequest.dueTime == 0 ? dueRequests : sentRequests).offer(rankedRequest);
+        }
+    }
+
+    /**
+     * Ranks the missing approvees of a just stored transaction right after it, whether it came from a neighbor or the API.
+     */
+    public void transactionReceived(final Transaction transaction) {
+
+        final Hash hash = new Hash(transaction.hash, 0, Transaction.HASH_SIZE);
+        synchronized (this) {
+
+            final Request request = requests.remove(hash);
+            if (request != null) {
+                for (final byte[] approvedTransaction : new byte[][] {transaction.trunkTransaction(), transaction.branchTransaction()}) {
+                    if (StorageTransactions.instance().transactionPointer(approvedTransaction) < 0) {
+                        rank(new Hash(approvedTransaction, 0, Transaction.HASH_SIZE), request.rank + 1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the hash to request from the neighbor, or the null hash if nothing is missing.
+     */
+    public void transactionToRequest(final Neighbor neighbor, final byte[] buffer, final int offset) {
+
+        final Hash hash = rankedTransactionToRequest(neighbor);
+        if (hash == null) {
+            StorageScratchpad.instance().transactionToRequest(buffer, offset);
+        } else {
+            System.arraycopy(hash.bytes(), 0, buffer, offset, Transaction.HASH_SIZE);
+        }
+    }
+
+    synchronized Hash rankedTransactionToRequest(final Neighbor neighbor) { // Returns null if no ranked hash is due
+
+        final long now = System.currentTimeMillis();
+        Request request;
+        while ((request = sentRequests.peek()) != null && request.dueTime <= now) {
+            sentRequests.poll();
+            if (requests.get(request.hash) == request) {
+                dueRequests.offer(request);
+            }
+        }
+
+        final List<Request> skippedRequests = new ArrayList<>(MAX_SKIPPED_REQUESTS);
+        try {
+            while ((request = dueRequests.poll()) != null) {
+
+                if (requests.get(request.hash) != request) { // Ranked again meanwhile
+                    continue;
+                }
+                if (StorageTransactions.instance().transactionPointer(request.hash.bytes()) >= 0) { // Received or not even referenced anymore
+                    requests.remove(request.hash);
+                    continue;
+                }
+                if (request.neighbor == neighbor && skippedRequests.size() < MAX_SKIPPED_REQUESTS && Node.instance().howManyNeighbors() > 1) {
+                    skippedRequests.add(request);
+                    continue;
+                }
+
+                request.dueTime = now + REQUEST_TIMEOUT;
+                request.neighbor = neighbor;
+                sentRequests.offer(request);
+                return request.hash;
+            }
+            if (!skippedRequests.isEmpty()) { // Better to ask the same neighbor again than to ask for nothing ranked
+
+                request = skippedRequests.remove(0);
+                request.dueTime = now + REQUEST_TIMEOUT;
+                sentRequests.offer(request);
+                return request.hash;
+            }
+            return null;
+
+        } finally {
+            dueRequests.addAll(skippedRequests);
+        }
+    }
+
+    public static TransactionRequester instance() {
+        return instance;
+    }
+}
@@ -0,0 +1,136 @@
+package com.iota.iri.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+import com.iota.iri.service.storage.StorageApprovers;
+import com.iota.iri.service.storage.StorageTransactions;
+import com.iota.iri.utils.BalanceTable;
+import com.iota.iri.utils.LongIterator;
+import com.iota.iri.utils.PointerSet;
+
+/**
+ * Walks from the entry point towards the tips, stepping from a tail to one of the tails approving it with a probability
+ * proportional to exp(alpha * cumulative weight). Only the tail the walk ends on has its past checked for consistency,
+ * an inconsistent one is left out of the next walk.
+ */
+class WalkTipSelector implements TipSelector {
+
+    private static final Logger log = LoggerFactory.getLogger(WalkTipSelector.class);
+
+    private static final int MAX_NUMBER_OF_WALKS = 10; // Ending on inconsistent tails before falling back to the entry point
+
+    private final double alpha;
+    private final int maxWalkLength;
+    private final Random random = new Random();
+
+    WalkTipSelector(final double alpha, final int maxWalkLength) {
+        this.alpha = alpha;
+        this.maxWalkLength = maxWalkLength;
+    }
+
+    @Override
+    public Hash tailToApprove(final Hash entryPoint, final DagWalker confirmedTransactionsWalker, final BalanceTable confirmedState) {
+
+        final long entryPointPointer = StorageTransactions.instance().transactionPointer(entryPoint.bytes());
+        if (entryPointPointer <= 0) {
+            return entryPoint;
+        }
+
+        final PointerSet inconsistentTails = new PointerSet();
+        final List<Transaction> approvingTails = new ArrayList<>();
+        final DagWalker extraTransactionsWalker = DagWalker.past();
+        for (int i = 0; i < MAX_NUMBER_OF_WALKS; i++) {
+
+            Transaction tail = StorageTransactions.instance().loadTransaction(entryPointPointer);
+            int walkLength = 0;
+            while (walkLength < maxWalkLength) {
+
+                approvingTails(tail, inconsistentTails, approvingTails);
+                if (approvingTails.isEmpty()) {
+                    break;
+                }
+                tail = pick(approvingTails);
+                walkLength++;
+            }
+
+            if (tail.pointer == entryPointPointer) {
+                return entryPoint;
+            }
+            final int numberOfExtraTransactions = TipsManager.numberOfExtraTransactions(tail.pointer, extraTransactionsWalker, confirmedTransactionsWalker, confirmedState);
+            if (numberOfExtraTransactions >= 0) {
+
+                log.info("Walked {} steps, {} extra transactions approved", walkLength, numberOfExtraTransactions);
+                return new Hash(tail.hash, 0, Transaction.HASH_SIZE);
+            }
+            inconsistentTails.add(tail.pointer);
+        }
+
+        log.info("No consistent tail found in {} walks", MAX_NUMBER_OF_WALKS);
+        return entryPoint;
+    }
+
+    private Transaction pick(final List<Transaction> tails) {
+
+        final double[] weights = new double[tails.size()];
+        int maxWeight = 0;
+        for (final Transaction tail : tails) {
+            maxWeight = Math.max(maxWeight, StorageTransactions.instance().weight(tail.pointer));
+        }
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i] = Math.exp(alpha * (StorageTransactions.instance().weight(tails.get(i).pointer) - maxWeight)); // Relative to the heaviest to stay in range
+        }
+
+        double target = random.nextDouble() * sum;
+        for (int i = 0; i < weights.length - 1; i++) {
+            if ((target -= weights[i]) < 0) {
+                return tails.get(i);
+            }
+        }
+        return tails.get(weights.length - 1);
+    }
+
+    private static void approvingTails(final Transaction transaction, final PointerSet excludedTails, final List<Transaction> tails) {
+
+        tails.clear();
+        final LongIterator approvers = StorageApprovers.instance().approveeTransactions(StorageApprovers.instance().approveePointer(transaction.hash));
+        while (approvers.hasNext()) {
+
+            final Transaction tail = tail(StorageTransactions.instance().loadTransaction(approvers.next()));
+            if (tail != null && !excludedTails.contains(tail.pointer) && tails.stream().noneMatch(other -> other.pointer == tail.pointer)) {
+                tails.add(tail);
+            }
+        }
+    }
+
+    private static Transaction tail(Transaction transaction) { // Returns null if the bundle is missing transactions
+
+        while (transaction.currentIndex > 0) {
+
+            Transaction previousTransaction = null;
+            final LongIterator approvers = StorageApprovers.instance().approveeTransactions(StorageApprovers.instance().approveePointer(transaction.hash));
+            while (approvers.hasNext()) {
+
+                final Transaction approver = StorageTransactions.instance().loadTransaction(approvers.next());
+                if (approver.currentIndex == transaction.currentIndex - 1 && approver.trunkTransactionPointer == transaction.pointer
+                        && Arrays.equals(approver.bundle, transaction.bundle)) {
+                    previousTransaction = approver;
+                    break;
+                }
+            }
+            if (previousTransaction == null) {
+                return null;
+            }
+            transaction = previousTransaction;
+        }
+        return transaction;
+    }
+}
@@ -5,14 +5,20 @@ import java.util.List;
 public class FindTransactionsResponse extends AbstractResponse {
 	
 	private String [] hashes;
+	private int indexLag;
 
-	public static AbstractResponse create(List<String> elements) {
+	public static AbstractResponse create(List<String> elements, int indexLag) {
 		FindTransactionsResponse res = new FindTransactionsResponse();
 		res.hashes = elements.toArray(new String[] {});
+		res.indexLag = indexLag;
 		return res;
 	}
 	
 	public String[] getHashes() {
 		return hashes;
 	}
+
+	public int getIndexLag() { // Number of stored transactions not searchable yet
+		return indexLag;
+	}
 }
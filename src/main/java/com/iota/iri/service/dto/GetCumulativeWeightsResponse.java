@@ -0,0 +1,17 @@
+package com.iota.iri.service.dto;
+
+public class GetCumulativeWeightsResponse extends AbstractResponse {
+
+	private int [] weights;
+
+	public static AbstractResponse create(int[] cumulativeWeights) {
+		GetCumulativeWeightsResponse res = new GetCumulativeWeightsResponse();
+		res.weights = cumulativeWeights;
+		return res;
+	}
+
+	public int[] getWeights() {
+		return weights;
+	}
+
+}
@@ -3,6 +3,9 @@ package com.iota.iri.service.storage;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 public abstract class AbstractStorage {
 
@@ -20,16 +23,6 @@ public abstract class AbstractStorage {
 	
     public final static int CELLS_OFFSET = SUPER_GROUPS_OFFSET + SUPER_GROUPS_SIZE;
 
-    public final static int TRANSACTIONS_TO_REQUEST_OFFSET = 0, TRANSACTIONS_TO_REQUEST_SIZE = CHUNK_SIZE;
-	
-    public final static int ANALYZED_TRANSACTIONS_FLAGS_OFFSET = TRANSACTIONS_TO_REQUEST_OFFSET
-            + TRANSACTIONS_TO_REQUEST_SIZE,
-            ANALYZED_TRANSACTIONS_FLAGS_SIZE = MAX_NUMBER_OF_CHUNKS * CELLS_PER_CHUNK / Byte.SIZE;
-
-    public final static int ANALYZED_TRANSACTIONS_FLAGS_COPY_OFFSET = ANALYZED_TRANSACTIONS_FLAGS_OFFSET
-            + ANALYZED_TRANSACTIONS_FLAGS_SIZE,
-            ANALYZED_TRANSACTIONS_FLAGS_COPY_SIZE = ANALYZED_TRANSACTIONS_FLAGS_SIZE;
-
     public final static int GROUP = 0; // transactions GROUP means that's it's a non-leaf node (leafs store transaction bytes)
     public final static int PREFILLED_SLOT = 1; // means that we know only hash of the tx, the rest is unknown yet: only another tx references that hash
     public final static int FILLED_SLOT = -1; //  knows the hash only coz another tx references that hash
@@ -37,10 +30,10 @@ public abstract class AbstractStorage {
     protected static final int ZEROTH_POINTER_OFFSET = 64;
 
     protected static final byte[] ZEROED_BUFFER = new byte[CELL_SIZE];
-	
-    protected static final byte[] mainBuffer = new byte[CELL_SIZE];
-    protected static final byte[] auxBuffer = new byte[CELL_SIZE];
-    
+
+    private final Set<ByteBuffer> dirtyBuffers = Collections.newSetFromMap(new IdentityHashMap<>()); // Mapped buffers written since they were last forced
+    private final Object forceMonitor = new Object(); // Held across the swap and the forces, so no flush returns while another one is still forcing
+
 	public static long value(final byte[] buffer, final int offset) {
         return ((long)(buffer[offset] & 0xFF)) + (((long)(buffer[offset + 1] & 0xFF)) << 8) + (((long)(buffer[offset + 2] & 0xFF)) << 16) + (((long)(buffer[offset + 3] & 0xFF)) << 24) + (((long)(buffer[offset + 4] & 0xFF)) << 32) + (((long)(buffer[offset + 5] & 0xFF)) << 40) + (((long)(buffer[offset + 6] & 0xFF)) << 48) + (((long)(buffer[offset + 7] & 0xFF)) << 56);
     }
@@ -56,6 +49,16 @@ public abstract class AbstractStorage {
         buffer[offset + 6] = (byte)(value >> 48);
         buffer[offset + 7] = (byte)(value >> 56);
     }
+
+    // Absolute accessors, they leave the position of the (shared) mapped buffer untouched and are safe to use without locking
+
+    public static long value(final ByteBuffer buffer, final int offset) {
+        return Long.reverseBytes(buffer.getLong(offset));
+    }
+
+    public static void setValue(final ByteBuffer buffer, final int offset, final long value) {
+        buffer.putLong(offset, Long.reverseBytes(value)); // A single 8-byte store, so lock-free readers never see a torn pointer
+    }
 	
     protected static boolean flush(final ByteBuffer buffer) {
 
@@ -67,10 +70,37 @@ public abstract class AbstractStorage {
             return false;
         }
     }
-	
-	protected void emptyMainBuffer() {
-        System.arraycopy(ZEROED_BUFFER, 0, mainBuffer, 0, CELL_SIZE);
-	}
+
+    /**
+     * Records a write to a mapped buffer, to be called after the write so a concurrent flush can't miss it.
+     */
+    protected void dirty(final ByteBuffer buffer, final int numberOfBytes) {
+
+        synchronized (dirtyBuffers) {
+            dirtyBuffers.add(buffer);
+        }
+        StorageFlusher.instance().dirtied(numberOfBytes);
+    }
+
+    /**
+     * Forces the buffers written since the previous call and returns their number.
+     * Everything written before the call is on the disk when it returns, including the buffers a concurrent call took.
+     */
+    public int flushDirtyBuffers() {
+
+        synchronized (forceMonitor) {
+
+            final ByteBuffer[] buffers;
+            synchronized (dirtyBuffers) {
+                buffers = dirtyBuffers.toArray(new ByteBuffer[dirtyBuffers.size()]);
+                dirtyBuffers.clear();
+            }
+            for (final ByteBuffer buffer : buffers) {
+                flush(buffer);
+            }
+            return buffers.length;
+        }
+    }
 
     public abstract void init() throws IOException;
 
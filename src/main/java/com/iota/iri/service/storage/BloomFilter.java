@@ -0,0 +1,85 @@
+package com.iota.iri.service.storage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Memory-mapped Bloom filter over transaction hashes.
+ *
+ * The bits follow a small header telling if the filter covers the whole storage. The owner marks it incomplete
+ * as soon as it opens it and complete again only when it is closed up to date, so a run that didn't keep it
+ * updated (a crash, or a run with the filter disabled) leaves it to be rebuilt. Adding is serialized, testing is lock-free.
+ */
+public class BloomFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(BloomFilter.class);
+
+    private static final int STATE_OFFSET = 0, BITS_OFFSET = Long.BYTES;
+    private static final long INCOMPLETE = 0, COMPLETE = 0x424C4F4F4DL;
+    private static final int NUMBER_OF_HASH_FUNCTIONS = 7;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long numberOfBits;
+
+    public BloomFilter(final String fileName, final int sizeInBytes) throws IOException {
+
+        channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() != 0 && channel.size() != BITS_OFFSET + sizeInBytes) { // Resized, the old bits are useless
+            channel.truncate(0);
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, BITS_OFFSET + sizeInBytes);
+        numberOfBits = (long)sizeInBytes * Byte.SIZE;
+    }
+
+    public boolean complete() {
+        return AbstractStorage.value(buffer, STATE_OFFSET) == COMPLETE;
+    }
+
+    public void setComplete(final boolean complete) { // Forced, a crash must not leave a stale mark behind
+        AbstractStorage.setValue(buffer, STATE_OFFSET, complete ? COMPLETE : INCOMPLETE);
+        buffer.force();
+    }
+
+    /**
+     * Returns false only if the hash has never been added.
+     */
+    public boolean mightContain(final byte[] hash) {
+
+        final long hash1 = AbstractStorage.value(hash, 0), hash2 = AbstractStorage.value(hash, Long.BYTES) | 1;
+        for (int i = 0; i < NUMBER_OF_HASH_FUNCTIONS; i++) {
+
+            final long bit = Long.remainderUnsigned(hash1 + i * hash2, numberOfBits);
+            if ((buffer.get(BITS_OFFSET + (int)(bit >> 3)) & (1 << (bit & 7))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized void add(final byte[] hash) {
+
+        final long hash1 = AbstractStorage.value(hash, 0), hash2 = AbstractStorage.value(hash, Long.BYTES) | 1;
+        for (int i = 0; i < NUMBER_OF_HASH_FUNCTIONS; i++) {
+
+            final long bit = Long.remainderUnsigned(hash1 + i * hash2, numberOfBits);
+            final int offset = BITS_OFFSET + (int)(bit >> 3);
+            buffer.put(offset, (byte)(buffer.get(offset) | (1 << (bit & 7))));
+        }
+    }
+
+    public void shutdown() {
+        buffer.force();
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            log.error("Shutting down Bloom filter error: ", e);
+        }
+    }
+}
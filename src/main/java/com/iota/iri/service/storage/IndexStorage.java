@@ -0,0 +1,254 @@
+package com.iota.iri.service.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.iota.iri.model.Transaction;
+import com.iota.iri.utils.LongIterator;
+
+/**
+ * Maps a key (bundle, address, tag, approvee) to the chain of cells listing the pointers of its transactions.
+ *
+ * The position after the last listed pointer and the number of pointers of each key are kept in a tails file,
+ * indexed like the cells, so appending doesn't walk the chain. Missing tails are rebuilt from the chain,
+ * the whole file is dropped after an unclean shutdown.
+ */
+public abstract class IndexStorage extends TrieStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexStorage.class);
+
+    private static final int TAIL_POSITION_OFFSET = 0, COUNT_OFFSET = TAIL_POSITION_OFFSET + Long.BYTES, TAIL_SIZE = COUNT_OFFSET + Long.BYTES;
+    private static final int TAILS_PER_CHUNK = CHUNK_SIZE / TAIL_SIZE;
+
+    private final int keySize;
+    private final String tailsFileName;
+
+    private FileChannel tailsChannel;
+    private final AtomicReferenceArray<ByteBuffer> tailsChunks = new AtomicReferenceArray<>(MAX_NUMBER_OF_CHUNKS * CELLS_PER_CHUNK / TAILS_PER_CHUNK);
+    private boolean replaying; // Writers only, set while the indexer may list pointers again after a crash
+
+    protected IndexStorage(final String fileName, final int keySize) {
+        super(fileName, 0);
+        this.keySize = keySize;
+        tailsFileName = fileName + ".tails";
+    }
+
+    @Override
+    public void init() throws IOException {
+        super.init();
+
+        tailsChannel = FileChannel.open(Paths.get(tailsFileName), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (!closedCleanly) { // Tails could lag behind the chains, they are rebuilt as the keys get updated
+            tailsChannel.truncate(0);
+            replaying = true;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown(); // Flushes the tails as well
+        try {
+            tailsChannel.close();
+        } catch (final IOException e) {
+            log.error("Shutting down " + tailsFileName + " error: ", e);
+        }
+    }
+
+    /**
+     * Called once the indexer has gone past the journal entries left by the previous run.
+     */
+    synchronized void replayed() {
+        replaying = false;
+    }
+
+    protected long pointer(final byte[] key) {
+        return leafPointer(key, keySize);
+    }
+
+    /**
+     * Streams the pointers listed for the key whose leaf is at "pointer", starting at "position" if it's not 0.
+     */
+    protected Cursor transactions(final long pointer, final long position) {
+        return new Cursor(pointer, position);
+    }
+
+    /**
+     * Lock-free walk along a chain of cells, the writers append a pointer to a slot before the slot becomes reachable.
+     *
+     * position() tells where the walk stands, a cursor started there later yields only the pointers listed since.
+     * Cells are aligned to CELL_SIZE, so the position is the pointer of the cell with the offset of the slot in its low bits.
+     */
+    public final class Cursor implements LongIterator {
+
+        private long cellPointer;
+        private int offset; // Of the next slot to read
+        private long nextTransactionPointer; // 0 until looked ahead
+
+        private Cursor(final long pointer, final long position) {
+            if (position == 0) {
+                cellPointer = pointer;
+                offset = ZEROTH_POINTER_OFFSET;
+            } else {
+                cellPointer = position & -CELL_SIZE;
+                offset = (int)(position & (CELL_SIZE - 1));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            if (nextTransactionPointer == 0 && cellPointer != 0) {
+
+                if (offset == CELL_SIZE - Long.BYTES) {
+
+                    final long nextCellPointer = value(cellPointer, offset);
+                    if (nextCellPointer == 0) {
+                        return false;
+                    }
+                    cellPointer = nextCellPointer;
+                    offset = 0;
+                }
+                if ((nextTransactionPointer = value(cellPointer, offset)) != 0) {
+                    offset += Long.BYTES;
+                }
+            }
+            return nextTransactionPointer != 0;
+        }
+
+        @Override
+        public long next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final long transactionPointer = nextTransactionPointer;
+            nextTransactionPointer = 0;
+            return transactionPointer;
+        }
+
+        public long position() {
+            return cellPointer == 0 ? 0 : cellPointer | (nextTransactionPointer == 0 ? offset : offset - Long.BYTES);
+        }
+    }
+
+    /**
+     * Returns the number of pointers listed for the key whose leaf is at "pointer".
+     */
+    public long numberOfTransactions(final long pointer) {
+
+        if (pointer == 0) {
+            return 0;
+        }
+        final ByteBuffer tailsChunk = tails(pointer);
+        if (value(tailsChunk, tailOffset(pointer) + TAIL_POSITION_OFFSET) == 0) {
+            synchronized (this) {
+                tailPosition(pointer);
+            }
+        }
+        return value(tailsChunk, tailOffset(pointer) + COUNT_OFFSET);
+    }
+
+    private ByteBuffer tails(final long pointer) {
+
+        final int index = (int)(((pointer - SUPER_GROUPS_SIZE) >> 11) / TAILS_PER_CHUNK);
+        final ByteBuffer tailsChunk = tailsChunks.get(index);
+        if (tailsChunk == null) {
+            synchronized (this) {
+                if (tailsChunks.get(index) == null) {
+                    try {
+                        tailsChunks.set(index, tailsChannel.map(FileChannel.MapMode.READ_WRITE, (long)index * CHUNK_SIZE, CHUNK_SIZE));
+                    } catch (final IOException e) {
+                        throw new IllegalStateException("Mapping " + tailsFileName + " failed", e);
+                    }
+                }
+                return tailsChunks.get(index);
+            }
+        }
+        return tailsChunk;
+    }
+
+    private static int tailOffset(final long pointer) {
+        return (int)(((pointer - SUPER_GROUPS_SIZE) >> 11) % TAILS_PER_CHUNK) * TAIL_SIZE;
+    }
+
+    private void setTail(final long pointer, final long position, final long count) { // Must hold the monitor, the position goes last as it tells the tail is there
+
+        final ByteBuffer tailsChunk = tails(pointer);
+        setValue(tailsChunk, tailOffset(pointer) + COUNT_OFFSET, count);
+        setValue(tailsChunk, tailOffset(pointer) + TAIL_POSITION_OFFSET, position);
+        dirty(tailsChunk, TAIL_SIZE);
+    }
+
+    private long tailPosition(final long pointer) { // Must hold the monitor
+
+        long position = value(tails(pointer), tailOffset(pointer) + TAIL_POSITION_OFFSET);
+        if (position == 0) { // Listed by an older version or before a crash
+
+            final Cursor cursor = new Cursor(pointer, 0);
+            long count = 0;
+            while (cursor.hasNext()) {
+                cursor.next();
+                count++;
+            }
+            setTail(pointer, position = cursor.position(), count);
+        }
+        return position;
+    }
+
+    protected synchronized void update(final byte[] key, final long transactionPointer) {
+
+        final long pointer = pointer(key);
+        if (pointer == 0) {
+
+            emptyMainBuffer();
+            mainBuffer[Transaction.TYPE_OFFSET] = FILLED_SLOT;
+            System.arraycopy(key, 0, mainBuffer, Transaction.HASH_OFFSET, keySize);
+            setValue(mainBuffer, ZEROTH_POINTER_OFFSET, transactionPointer);
+            final long leafPointer = insertLeaf(key, keySize, mainBuffer);
+            setTail(leafPointer, leafPointer | (ZEROTH_POINTER_OFFSET + Long.BYTES), 1);
+
+            return;
+        }
+
+        if (replaying) { // The pointer may have been listed before the crash
+            final Cursor cursor = new Cursor(pointer, 0);
+            while (cursor.hasNext()) {
+                if (cursor.next() == transactionPointer) {
+                    return;
+                }
+            }
+        }
+
+        final long position = tailPosition(pointer);
+        final long count = value(tails(pointer), tailOffset(pointer) + COUNT_OFFSET);
+        final long cellPointer = position & -CELL_SIZE;
+        final int offset = (int)(position & (CELL_SIZE - 1));
+        if (offset == CELL_SIZE - Long.BYTES) { // The last cell is full
+
+            emptyMainBuffer();
+            setValue(mainBuffer, 0, transactionPointer);
+            final long nextCellPointer = append(mainBuffer);
+            publish();
+            setValue(cellPointer, offset, nextCellPointer);
+            setTail(pointer, nextCellPointer | Long.BYTES, count + 1);
+
+        } else {
+
+            setValue(cellPointer, offset, transactionPointer);
+            setTail(pointer, position + Long.BYTES, count + 1);
+        }
+    }
+
+    @Override
+    protected void premapped(final long pointer) {
+        tails(pointer);
+    }
+}
@@ -3,10 +3,12 @@ package com.iota.iri.service.storage;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Queue;
 
 import org.slf4j.Logger;
@@ -15,6 +17,8 @@ import org.slf4j.LoggerFactory;
 import com.iota.iri.Milestone;
 import com.iota.iri.model.Hash;
 import com.iota.iri.model.Transaction;
+import com.iota.iri.utils.LongIterator;
+import com.iota.iri.utils.PointerSet;
 
 /**
  * Storage is organized as 243-value tree
@@ -23,11 +27,13 @@ public class Storage extends AbstractStorage {
 	
     private static final Logger log = LoggerFactory.getLogger(Storage.class);
 
-    public static final byte[][] approvedTransactionsToStore = new byte[2][];
+    private static final String SOLIDITY_FILE_NAME = "solidity.iri"; // Created once the stored transactions have their solid flags, deleted after a crash
 
     private volatile boolean launched;
+    private volatile boolean shuttingDown;
 
-    public static int numberOfApprovedTransactionsToStore;
+    private final Object solidityMonitor = new Object();
+    private volatile boolean solidityTracked;
 
     private StorageTransactions storageTransactionInstance = StorageTransactions.instance();
     private StorageBundle storageBundleInstance = StorageBundle.instance();
@@ -35,18 +41,33 @@ public class Storage extends AbstractStorage {
     private StorageTags storageTags = StorageTags.instance();
     private StorageApprovers storageApprovers = StorageApprovers.instance();
     private StorageScratchpad storageScratchpad = StorageScratchpad.instance();
+    private StorageIndexer storageIndexer = StorageIndexer.instance();
+    private StorageWeights storageWeights = StorageWeights.instance();
 
     @Override
     public void init() throws IOException {
 
         synchronized (Storage.class) {
+            shuttingDown = false; // The storage may be reopened in the same process
+            solidityTracked = false;
             storageTransactionInstance.init();
             storageBundleInstance.init();
             storageAddressesInstance.init();
             storageTags.init();
             storageApprovers.init();
             storageScratchpad.init();
+            storageWeights.init(); // Before the indexer, which waits on it when its queue is full
+            storageIndexer.init();
             storageTransactionInstance.updateBundleAddressTagApprovers();
+            if (!storageTransactionInstance.closedCleanly() && Files.deleteIfExists(Paths.get(SOLIDITY_FILE_NAME))) { // A flag may have been lost with the cells the indexer wrote last
+                log.info("The transactions weren't closed cleanly, checking their solid flags again");
+            }
+            if (Files.exists(Paths.get(SOLIDITY_FILE_NAME))) {
+                solidityTracked = true;
+            } else {
+                (new Thread(this::trackSolidity, "Solidity Tracker")).start();
+            }
+            StorageFlusher.instance().init(storageTransactionInstance, storageBundleInstance, storageAddressesInstance, storageTags, storageApprovers, storageIndexer); // The scratchpad is rebuilt on each run
             launched = true;
         }
     }
@@ -56,6 +77,10 @@ public class Storage extends AbstractStorage {
 
         synchronized (Storage.class) {
             if (launched) {
+                shuttingDown = true;
+                StorageFlusher.instance().shutdown();
+                storageIndexer.shutdown();
+                storageWeights.shutdown();
                 storageTransactionInstance.shutdown();
                 storageBundleInstance.shutdown();
                 storageAddressesInstance.shutdown();
@@ -68,24 +93,136 @@ public class Storage extends AbstractStorage {
         }
     }
 
-    void updateBundleAddressTagAndApprovers(final long transactionPointer) {
+    /**
+     * Tells whether the solid flags can be trusted to be set, a storage of an older version gets them in the background.
+     */
+    public boolean solidityTracked() {
+        return solidityTracked;
+    }
+
+    private void trackSolidity() { // Propagates the flag of the genesis through every approver, including the ones already flagged
+
+        log.info("Setting the solid flags of the stored transactions");
+        final long beginningTime = System.currentTimeMillis();
+
+        final long genesisPointer = StorageTransactions.instance().transactionPointer(new byte[Transaction.HASH_SIZE]);
+        synchronized (solidityMonitor) {
+            StorageTransactions.instance().setSolid(genesisPointer);
+        }
+        if (!updateApproversSolidity(genesisPointer, new PointerSet())) {
+            return;
+        }
+
+        try {
+            Files.createFile(Paths.get(SOLIDITY_FILE_NAME));
+        } catch (final IOException e) {
+            log.error("Creating " + SOLIDITY_FILE_NAME + " error: ", e);
+        }
+        solidityTracked = true;
+        log.info("Solid flags set in {} ms", System.currentTimeMillis() - beginningTime);
+    }
+
+    private void updateSolidity(final long transactionPointer) { // Called once the approvers of the transaction are indexed
 
-        final Transaction transaction = new Transaction(mainBuffer, transactionPointer);
-        for (int j = 0; j < numberOfApprovedTransactionsToStore; j++) {
-            StorageTransactions.instance().storeTransaction(approvedTransactionsToStore[j], null, false);
+        synchronized (solidityMonitor) {
+            if (!solid(transactionPointer)) {
+                return;
+            }
         }
-        numberOfApprovedTransactionsToStore = 0;
+        updateApproversSolidity(transactionPointer, null);
+    }
+
+    /**
+     * Walks forward from a solid transaction, returns false if interrupted by a shutdown.
+     * Stops at the approvers flagged already, unless it's given the set of the transactions it went through.
+     */
+    private boolean updateApproversSolidity(final long transactionPointer, final PointerSet visitedTransactions) {
+
+        final Queue<Long> solidTransactionPointers = new ArrayDeque<>();
+        solidTransactionPointers.offer(transactionPointer);
+        Long pointer;
+        while ((pointer = solidTransactionPointers.poll()) != null) {
+
+            if (shuttingDown) {
+                return false;
+            }
+            final LongIterator approvers = StorageApprovers.instance().approveeTransactions(StorageApprovers.instance().approveePointer(StorageTransactions.instance().loadTransaction(pointer).hash));
+            while (approvers.hasNext()) {
+
+                final long approverPointer = approvers.next();
+                synchronized (solidityMonitor) {
+                    if (visitedTransactions == null ? !StorageTransactions.instance().solid(approverPointer) && solid(approverPointer)
+                            : solid(approverPointer) && visitedTransactions.add(approverPointer)) {
+                        solidTransactionPointers.offer(approverPointer);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean solid(final long transactionPointer) { // Must hold the solidity monitor, sets the flag if both approvees are solid
+
+        if (StorageTransactions.instance().solid(transactionPointer)) {
+            return true;
+        }
+        final Transaction transaction = StorageTransactions.instance().loadTransaction(transactionPointer);
+        if (transaction.type == FILLED_SLOT
+                && StorageTransactions.instance().solid(transaction.trunkTransactionPointer)
+                && StorageTransactions.instance().solid(transaction.branchTransactionPointer)) {
+            StorageTransactions.instance().setSolid(transactionPointer);
+            return true;
+        }
+        return false;
+    }
+
+    void updateBundleAddressTagAndApprovers(final long transactionPointer, final Transaction transaction) {
 
         StorageBundle.instance().updateBundle(transactionPointer, transaction);
         StorageAddresses.instance().updateAddresses(transactionPointer, transaction);
         StorageTags.instance().updateTags(transactionPointer, transaction);
-        StorageApprovers.instance().updateApprover(transaction.trunkTransaction, transactionPointer);
+        StorageApprovers.instance().updateApprover(transaction.trunkTransaction(), transactionPointer);
         
-        if (transaction.branchTransactionPointer != transaction.trunkTransactionPointer) {
-        	StorageApprovers.instance().updateApprover(transaction.branchTransaction, transactionPointer);
+        if (!Arrays.equals(transaction.branchTransaction(), transaction.trunkTransaction())) {
+        	StorageApprovers.instance().updateApprover(transaction.branchTransaction(), transactionPointer);
         }
+        updateSolidity(transactionPointer);
+        storageWeights.transactionIndexed(transactionPointer);
     }
     
+    void updateBundleAddressTagAndApprovers(final List<Long> transactionPointers, final List<Transaction> transactions) { // Takes the lock of each index once, the indexer feeds it with batches
+
+        synchronized (StorageBundle.instance()) {
+            for (int i = 0; i < transactions.size(); i++) {
+                StorageBundle.instance().updateBundle(transactionPointers.get(i), transactions.get(i));
+            }
+        }
+        synchronized (StorageAddresses.instance()) {
+            for (int i = 0; i < transactions.size(); i++) {
+                StorageAddresses.instance().updateAddresses(transactionPointers.get(i), transactions.get(i));
+            }
+        }
+        synchronized (StorageTags.instance()) {
+            for (int i = 0; i < transactions.size(); i++) {
+                StorageTags.instance().updateTags(transactionPointers.get(i), transactions.get(i));
+            }
+        }
+        synchronized (StorageApprovers.instance()) {
+            for (int i = 0; i < transactions.size(); i++) {
+
+                final Transaction transaction = transactions.get(i);
+                StorageApprovers.instance().updateApprover(transaction.trunkTransaction(), transactionPointers.get(i));
+                if (!Arrays.equals(transaction.branchTransaction(), transaction.trunkTransaction())) {
+                    StorageApprovers.instance().updateApprover(transaction.branchTransaction(), transactionPointers.get(i));
+                }
+            }
+        }
+        for (final long transactionPointer : transactionPointers) {
+            updateSolidity(transactionPointer);
+            storageWeights.transactionIndexed(transactionPointer);
+        }
+    }
+
     // methods helper
     
     private static Storage instance = new Storage();
@@ -0,0 +1,119 @@
+package com.iota.iri.service.storage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.iota.iri.conf.Configuration;
+import com.iota.iri.conf.Configuration.DefaultConfSettings;
+
+/**
+ * Forces the mapped buffers the storages have written, in the background.
+ *
+ * A flush happens every STORAGE_FLUSH_INTERVAL milliseconds, or earlier once STORAGE_FLUSH_THRESHOLD megabytes
+ * have been written, which bounds what a crash of the host can lose. Only the buffers written since the previous
+ * flush are forced, so a shutdown is left with the last few seconds of writes to flush.
+ */
+public class StorageFlusher {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageFlusher.class);
+
+    private static final StorageFlusher instance = new StorageFlusher();
+
+    private final AtomicLong dirtyBytes = new AtomicLong();
+    private final Object flusherMonitor = new Object();
+
+    private List<AbstractStorage> storages;
+    private long interval, threshold = Long.MAX_VALUE;
+    private volatile boolean shuttingDown;
+    private Thread flusher;
+
+    private long numberOfFlushes, totalLatency, maxLatency; // Flusher thread only, read after it has been joined
+
+    public void init(final AbstractStorage... storages) {
+
+        this.storages = Arrays.asList(storages);
+        shuttingDown = false;
+        interval = Configuration.integer(DefaultConfSettings.STORAGE_FLUSH_INTERVAL);
+        if (interval > 0) {
+
+            threshold = (long)Configuration.integer(DefaultConfSettings.STORAGE_FLUSH_THRESHOLD) << 20;
+            flusher = new Thread(this::flush, "Storage Flusher");
+            flusher.start();
+        }
+    }
+
+    public void shutdown() {
+
+        if (flusher != null) {
+
+            shuttingDown = true;
+            synchronized (flusherMonitor) {
+                flusherMonitor.notify();
+            }
+            try {
+                flusher.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            log.info("Storage flushes: {}, {} ms on average, {} ms at most", numberOfFlushes, numberOfFlushes == 0 ? 0 : totalLatency / numberOfFlushes, maxLatency);
+        }
+    }
+
+    void dirtied(final int numberOfBytes) {
+
+        final long total = dirtyBytes.addAndGet(numberOfBytes);
+        if (total >= threshold && total - numberOfBytes < threshold) {
+            synchronized (flusherMonitor) {
+                flusherMonitor.notify();
+            }
+        }
+    }
+
+    private void flush() {
+
+        while (!shuttingDown) {
+
+            synchronized (flusherMonitor) {
+                if (dirtyBytes.get() < threshold && !shuttingDown) {
+                    try {
+                        flusherMonitor.wait(interval);
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+            if (shuttingDown) {
+                return;
+            }
+
+            final long bytes = dirtyBytes.getAndSet(0);
+            if (bytes == 0) {
+                continue;
+            }
+
+            final long beginningTime = System.currentTimeMillis();
+            int numberOfBuffers = 0;
+            for (final AbstractStorage storage : storages) {
+                numberOfBuffers += storage.flushDirtyBuffers();
+            }
+            final long latency = System.currentTimeMillis() - beginningTime;
+
+            numberOfFlushes++;
+            totalLatency += latency;
+            maxLatency = Math.max(maxLatency, latency);
+            if (latency > interval) {
+                log.warn("Flushing {} KB in {} buffers took {} ms", bytes >> 10, numberOfBuffers, latency);
+            } else {
+                log.debug("Flushed {} KB in {} buffers in {} ms", bytes >> 10, numberOfBuffers, latency);
+            }
+        }
+    }
+
+    public static StorageFlusher instance() {
+        return instance;
+    }
+}
@@ -0,0 +1,213 @@
+package com.iota.iri.service.storage;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.iota.iri.model.Transaction;
+
+/**
+ * Updates the bundle, address, tag and approver indexes off the store path.
+ *
+ * Writers append the pointers of new transactions to a mapped journal, a background thread indexes them
+ * and the flushes persist how far it got, so the indexes catch up after a crash. The watermark is written only
+ * after the transaction and index buffers have been forced, it can't get to the disk ahead of the cells it covers,
+ * even if the host goes down. The journal is rewound by the flushes which find the indexer caught up, or by the
+ * indexer itself once the journal is half full.
+ *
+ * The journal is mapped, so the kernel may write an entry back before the cell it points to. Replayed entries
+ * which don't lead to a stored transaction are skipped. The indexes don't list a replayed pointer twice,
+ * but the cumulative weights count it again, see StorageWeights.
+ */
+public class StorageIndexer extends AbstractStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageIndexer.class);
+
+    private static final StorageIndexer instance = new StorageIndexer();
+    private static final String JOURNAL_FILE_NAME = "journal.iri";
+
+    private static final int SIZE_OFFSET = 0, WATERMARK_OFFSET = SIZE_OFFSET + Long.BYTES, ENTRIES_OFFSET = WATERMARK_OFFSET + Long.BYTES;
+    private static final int JOURNAL_SIZE = CHUNK_SIZE, CAPACITY = (JOURNAL_SIZE - ENTRIES_OFFSET) / Long.BYTES;
+    private static final int BATCH_SIZE = 1000;
+
+    private FileChannel journalChannel;
+    private MappedByteBuffer journal;
+    private final Object journalMonitor = new Object();
+    private final Object flushMonitor = new Object();
+
+    private volatile int size, watermark;
+    private int persistedWatermark; // Guarded by the journal monitor
+    private int replayEnd; // Entries below it were left by the previous run and may be in the indexes already
+    private volatile boolean shuttingDown;
+    private Thread indexer;
+
+    @Override
+    public void init() throws IOException {
+
+        journalChannel = FileChannel.open(Paths.get(JOURNAL_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        journal = journalChannel.map(FileChannel.MapMode.READ_WRITE, 0, JOURNAL_SIZE);
+
+        size = (int)value(journal, SIZE_OFFSET);
+        persistedWatermark = watermark = (int)value(journal, WATERMARK_OFFSET);
+        shuttingDown = false;
+        replayEnd = 0;
+        if (watermark < size) {
+            log.info("{} transactions left to index", size - watermark);
+            replayEnd = size;
+        } else {
+            replayed();
+        }
+
+        indexer = new Thread(this::index, "Indexer");
+        indexer.start();
+    }
+
+    @Override
+    public void shutdown() {
+
+        shuttingDown = true;
+        synchronized (journalMonitor) {
+            journalMonitor.notify();
+        }
+        try {
+            indexer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flushDirtyBuffers();
+        try {
+            journalChannel.close();
+        } catch (final IOException e) {
+            log.error("Shutting down Storage Indexer error: ", e);
+        }
+    }
+
+    /**
+     * Schedules the indexing of a stored transaction, or indexes it right away if the journal is full.
+     */
+    void index(final long transactionPointer, final Transaction transaction) {
+
+        synchronized (journalMonitor) {
+            if (size < CAPACITY) {
+
+                setValue(journal, ENTRIES_OFFSET + size * Long.BYTES, transactionPointer);
+                setValue(journal, SIZE_OFFSET, ++size);
+                dirty(journal, Long.BYTES * 2);
+                journalMonitor.notify();
+                return;
+            }
+        }
+        Storage.instance().updateBundleAddressTagAndApprovers(transactionPointer, transaction);
+    }
+
+    /**
+     * Returns the number of stored transactions which are not in the indexes yet.
+     */
+    public int lag() {
+        return size - watermark;
+    }
+
+    private void index() {
+
+        final List<Long> transactionPointers = new ArrayList<>(BATCH_SIZE);
+        final List<Transaction> transactions = new ArrayList<>(BATCH_SIZE);
+
+        while (!shuttingDown) {
+
+            final int end;
+            synchronized (journalMonitor) {
+
+                while (watermark == size && size < CAPACITY / 2 && !shuttingDown) {
+                    try {
+                        journalMonitor.wait();
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                }
+                end = Math.min(size, watermark + BATCH_SIZE);
+            }
+            if (end == watermark) { // Caught up with a journal half full, rewound by the flush
+                flushDirtyBuffers();
+                continue;
+            }
+
+            for (int i = watermark; i < end; i++) {
+
+                final long transactionPointer = value(journal, ENTRIES_OFFSET + i * Long.BYTES);
+                try {
+                    if (i < replayEnd && !StorageTransactions.instance().filled(transactionPointer)) {
+                        log.warn("Skipping replayed journal entry {}, no transaction is stored at {}", i, transactionPointer);
+                        continue;
+                    }
+                    transactions.add(StorageTransactions.instance().loadTransaction(transactionPointer));
+                    transactionPointers.add(transactionPointer);
+                } catch (final RuntimeException e) {
+                    log.error("Error loading journal entry " + i, e);
+                }
+            }
+            try {
+                Storage.instance().updateBundleAddressTagAndApprovers(transactionPointers, transactions);
+            } catch (final RuntimeException e) {
+                log.error("Error during indexing", e);
+            }
+            transactionPointers.clear();
+            transactions.clear();
+
+            watermark = end; // Persisted by the next flush
+            if (end >= replayEnd && replayEnd > 0) {
+                replayEnd = 0;
+                replayed();
+            }
+        }
+    }
+
+    /**
+     * Forces the transaction and index buffers, then persists the watermark they cover, and rewinds the journal if nothing is left to index.
+     */
+    @Override
+    public int flushDirtyBuffers() {
+
+        synchronized (flushMonitor) {
+
+            final int indexedWatermark = watermark; // Read first, the entries below it are in the buffers forced next
+            int numberOfBuffers = StorageTransactions.instance().flushDirtyBuffers() // Before the journal, which points to the cells
+                    + StorageBundle.instance().flushDirtyBuffers() + StorageAddresses.instance().flushDirtyBuffers()
+                    + StorageTags.instance().flushDirtyBuffers() + StorageApprovers.instance().flushDirtyBuffers();
+
+            synchronized (journalMonitor) {
+                if (indexedWatermark == size && size > 0) {
+
+                    size = watermark = persistedWatermark = 0;
+                    setValue(journal, SIZE_OFFSET, 0);
+                    setValue(journal, WATERMARK_OFFSET, 0);
+                    dirty(journal, Long.BYTES * 2);
+
+                } else if (indexedWatermark != persistedWatermark) {
+
+                    setValue(journal, WATERMARK_OFFSET, persistedWatermark = indexedWatermark);
+                    dirty(journal, Long.BYTES);
+                }
+            }
+            return numberOfBuffers + super.flushDirtyBuffers();
+        }
+    }
+
+    private static void replayed() {
+        StorageBundle.instance().replayed();
+        StorageAddresses.instance().replayed();
+        StorageTags.instance().replayed();
+        StorageApprovers.instance().replayed();
+    }
+
+    public static StorageIndexer instance() {
+        return instance;
+    }
+}
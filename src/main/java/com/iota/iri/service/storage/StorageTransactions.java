@@ -1,270 +1,455 @@
 package com.iota.iri.service.storage;
 
 import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.MappedByteBuffer;
-import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.iota.iri.conf.Configuration;
+import com.iota.iri.conf.Configuration.DefaultConfSettings;
 import com.iota.iri.model.Hash;
 import com.iota.iri.model.Transaction;
 
+/**
+ * The transactions, split by the leading byte of their hashes into shards written independently.
+ *
+ * Shard 0 lives in transactions.iri, the other ones in transactions.N.iri. A storage created before sharding
+ * keeps all its transactions in transactions.iri, which is then searched as well when a hash isn't in its shard.
+ * The number of shards is fixed when the storage is created.
+ */
 public class StorageTransactions extends AbstractStorage {
-	
-	private static final Logger log = LoggerFactory.getLogger(StorageTransactions.class);
-	
+
+    private static final Logger log = LoggerFactory.getLogger(StorageTransactions.class);
+
 	private static final StorageTransactions instance = new StorageTransactions();
 	private static final String TRANSACTIONS_FILE_NAME = "transactions.iri";
-	
-	private FileChannel transactionsChannel;
-    private ByteBuffer transactionsTipsFlags;
-    
-    private final ByteBuffer[] transactionsChunks = new ByteBuffer[MAX_NUMBER_OF_CHUNKS];
-    
-    public static long transactionsNextPointer = CELLS_OFFSET - SUPER_GROUPS_OFFSET;
-    
+    private static final String BLOOM_FILTER_FILE_NAME = TRANSACTIONS_FILE_NAME + ".bloom";
+    private static final String SHARDS_FILE_NAME = TRANSACTIONS_FILE_NAME + ".shards";
+
+    private static final int NUMBER_OF_SHARDS_OFFSET = 0, LEGACY_OFFSET = NUMBER_OF_SHARDS_OFFSET + Long.BYTES, SHARDS_FILE_SIZE = LEGACY_OFFSET + Long.BYTES;
+
+    private TransactionShard[] shards;
+    private boolean legacy; // transactions.iri may hold hashes of any shard
+    private TransactionPointerCache transactionPointerCache;
+    private BloomFilter bloomFilter; // null if disabled
+    private volatile boolean bloomFilterReady;
+    private volatile boolean shuttingDown;
+    private boolean closedCleanly; // As of the previous run
+
+    private final Object tipsMonitor = new Object(); // Guards the in-memory copy of the tips flags
+    private final Map<Long, Integer> tipIndexes = new HashMap<>();
+    private long[] tipPointers = new long[1024];
+    private volatile int numberOfTips;
+
+    private StorageTransactions() {
+    }
+
     @Override
 	public void init() throws IOException {
-		
-        transactionsChannel = FileChannel.open(Paths.get(TRANSACTIONS_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
-        transactionsTipsFlags = transactionsChannel.map(FileChannel.MapMode.READ_WRITE, TIPS_FLAGS_OFFSET, TIPS_FLAGS_SIZE);
-        transactionsChunks[0] = transactionsChannel.map(FileChannel.MapMode.READ_WRITE, SUPER_GROUPS_OFFSET, SUPER_GROUPS_SIZE);
-        final long transactionsChannelSize = transactionsChannel.size();
-        while (true) {
-
-            if ((transactionsNextPointer & (CHUNK_SIZE - 1)) == 0) {
-                transactionsChunks[(int)(transactionsNextPointer >> 27)] = transactionsChannel.map(FileChannel.MapMode.READ_WRITE, SUPER_GROUPS_OFFSET + transactionsNextPointer, CHUNK_SIZE);
-            }
-            if (transactionsChannelSize - transactionsNextPointer - SUPER_GROUPS_OFFSET > CHUNK_SIZE) {
-                transactionsNextPointer += CHUNK_SIZE;
+
+        synchronized (tipsMonitor) { // Refilled by the shards below
+            tipIndexes.clear();
+            numberOfTips = 0;
+        }
+        initShards();
+        transactionPointerCache = new TransactionPointerCache(Configuration.integer(DefaultConfSettings.TRANSACTION_POINTER_CACHE_SIZE));
+
+        closedCleanly = true;
+        for (final TransactionShard shard : shards) {
+            shard.init();
+            closedCleanly &= shard.closedCleanly;
+        }
+
+        bloomFilter = null;
+        bloomFilterReady = false;
+        shuttingDown = false;
+        final int bloomFilterSize = Configuration.integer(DefaultConfSettings.BLOOM_FILTER_SIZE);
+        if (bloomFilterSize > 0) {
+
+            bloomFilter = new BloomFilter(BLOOM_FILTER_FILE_NAME, bloomFilterSize << 20);
+            final boolean trusted = closedCleanly && bloomFilter.complete();
+            bloomFilter.setComplete(false); // Until a clean shutdown of this run
+            if (trusted) {
+                bloomFilterReady = true;
             } else {
-            	
-                transactionsChunks[(int) (transactionsNextPointer >> 27)].get(mainBuffer);
-                boolean empty = true;
-                for (final int value : mainBuffer) {
-                    if (value != 0) {
-                        empty = false;
-                        break;
-                    }
-                }
-                if (empty) {
-                    break;
-                }
-                transactionsNextPointer += CELL_SIZE;
+                (new Thread(this::rebuildBloomFilter, "Bloom Filter Builder")).start();
             }
+
+        } else if (Files.deleteIfExists(Paths.get(BLOOM_FILTER_FILE_NAME))) { // Hashes stored by this run would be missing from it
+            log.info("Bloom filter disabled, {} deleted", BLOOM_FILTER_FILE_NAME);
         }
 	}
 
-	public void updateBundleAddressTagApprovers() {
-		if (transactionsNextPointer == CELLS_OFFSET - SUPER_GROUPS_OFFSET) {
+    boolean closedCleanly() {
+        return closedCleanly;
+    }
+
+    private void initShards() throws IOException {
+
+        final Path shardsFile = Paths.get(SHARDS_FILE_NAME);
+        final int numberOfShards;
+        if (Files.exists(shardsFile)) {
+
+            final byte[] buffer = Files.readAllBytes(shardsFile);
+            numberOfShards = (int)value(buffer, NUMBER_OF_SHARDS_OFFSET);
+            legacy = value(buffer, LEGACY_OFFSET) != 0;
+            if (numberOfShards != Configuration.integer(DefaultConfSettings.TRANSACTION_SHARDS)) {
+                log.warn("The storage was created with {} transaction shards, ignoring the configured number", numberOfShards);
+            }
+
+        } else {
+
+            numberOfShards = Math.max(1, Math.min(256, Configuration.integer(DefaultConfSettings.TRANSACTION_SHARDS)));
+            legacy = numberOfShards > 1 && Files.exists(Paths.get(TRANSACTIONS_FILE_NAME));
+            final byte[] buffer = new byte[SHARDS_FILE_SIZE];
+            setValue(buffer, NUMBER_OF_SHARDS_OFFSET, numberOfShards);
+            setValue(buffer, LEGACY_OFFSET, legacy ? 1 : 0);
+            Files.write(shardsFile, buffer);
+        }
+
+        shards = new TransactionShard[numberOfShards];
+        for (int i = 0; i < numberOfShards; i++) {
+            shards[i] = new TransactionShard(this, i == 0 ? TRANSACTIONS_FILE_NAME : "transactions." + i + ".iri", i);
+        }
+        if (numberOfShards > 1) {
+            log.info("{} transaction shards{}", numberOfShards, legacy ? ", " + TRANSACTIONS_FILE_NAME + " holds the transactions stored before sharding" : "");
+        }
+    }
 
-            // No need to zero "mainBuffer", it already contains only zeros
-            setValue(mainBuffer, Transaction.TYPE_OFFSET, FILLED_SLOT);
-            appendToTransactions(true);
+	public void updateBundleAddressTagApprovers() {
 
-            emptyMainBuffer();
-            setValue(mainBuffer, 128 << 3, CELLS_OFFSET - SUPER_GROUPS_OFFSET);
-            ((ByteBuffer)transactionsChunks[0].position((128 + (128 << 8)) << 11)).put(mainBuffer);
+        final byte[] genesisHash = new byte[Transaction.HASH_SIZE];
+        if (transactionPointer(genesisHash) == 0) {
 
-            emptyMainBuffer();
-            Storage.instance().updateBundleAddressTagAndApprovers(CELLS_OFFSET - SUPER_GROUPS_OFFSET);
+            final long pointer = shard(genesisHash).storeGenesis();
+            if (pointer != 0) {
+                StorageIndexer.instance().index(pointer, loadTransaction(pointer));
+            }
         }
 	}
-	
+
     @Override
 	public void shutdown() {
-        ((MappedByteBuffer) transactionsTipsFlags).force();
-        for (int i = 0; i < MAX_NUMBER_OF_CHUNKS && transactionsChunks[i] != null; i++) {
-            log.info("Flushing transactions chunk #" + i);
-            flush(transactionsChunks[i]);
+        shuttingDown = true;
+        if (bloomFilter != null) {
+            bloomFilter.setComplete(bloomFilterReady);
+            bloomFilter.shutdown();
+        }
+        log.info("Transaction pointer cache: {} hits, {} misses", transactionPointerCache.hits(), transactionPointerCache.misses());
+        for (final TransactionShard shard : shards) {
+            shard.shutdown();
         }
-        try {
-			transactionsChannel.close();
-		} catch (IOException e) {
-			log.error("Shutting down Storage Transaction error: ", e);
-		}
 	}
-	
-    public void appendToTransactions(final boolean tip) {
 
-        ((ByteBuffer)transactionsChunks[(int)(transactionsNextPointer >> 27)].position((int)(transactionsNextPointer & (CHUNK_SIZE - 1)))).put(mainBuffer);
+    @Override
+    public int flushDirtyBuffers() {
 
-        if (tip) {
-            final long index = (transactionsNextPointer - (CELLS_OFFSET - SUPER_GROUPS_OFFSET)) >> 11;
-            transactionsTipsFlags.put((int) (index >> 3), (byte) (transactionsTipsFlags.get((int) (index >> 3)) | (1 << (index & 7))));
+        int numberOfBuffers = 0;
+        for (final TransactionShard shard : shards) {
+            numberOfBuffers += shard.flushDirtyBuffers();
         }
+        return numberOfBuffers;
+    }
+
+    private TransactionShard routedShard(final byte[] hash) {
+        return shards[((hash[0] + 128) * shards.length) >> 8];
+    }
 
-        if (((transactionsNextPointer += CELL_SIZE) & (CHUNK_SIZE - 1)) == 0) {
+    private TransactionShard shard(final byte[] hash) { // The shard holding the hash, or the one to store it into
 
-            try {
-                transactionsChunks[(int)(transactionsNextPointer >> 27)] = transactionsChannel.map(FileChannel.MapMode.READ_WRITE, SUPER_GROUPS_OFFSET + transactionsNextPointer, CHUNK_SIZE);
-            } catch (final IOException e) {
-            	log.error("Caught exception on appendToTransactions:", e);
-            }
-        }
+        final TransactionShard shard = routedShard(hash);
+        return legacy && shard != shards[0] && shards[0].transactionPointer(hash) != 0 ? shards[0] : shard;
     }
-    
-    public long transactionPointer(final byte[] hash) { // Returns a negative value if the transaction hasn't been seen yet but was referenced
 
-        synchronized (Storage.class) {
-        long pointer = ((hash[0] + 128) + ((hash[1] + 128) << 8)) << 11;
-        for (int depth = 2; depth < Transaction.HASH_SIZE; depth++) {
+    private TransactionShard shard(final long pointer) {
+        return shards[TransactionShard.index(pointer)];
+    }
 
-            ((ByteBuffer)transactionsChunks[(int)(pointer >> 27)].position((int)(pointer & (CHUNK_SIZE - 1)))).get(auxBuffer);
+    public long numberOfCells() {
 
-            if (auxBuffer[Transaction.TYPE_OFFSET] == GROUP) {
-                if ((pointer = value(auxBuffer, (hash[depth] + 128) << 3)) == 0) {
-                    return 0;
-                }
+        long numberOfCells = 0;
+        for (final TransactionShard shard : shards) {
+            numberOfCells += shard.numberOfCells();
+        }
+        return numberOfCells;
+    }
 
-            } else {
+    public long transactionPointer(final byte[] hash) { // Returns a negative value if the transaction hasn't been seen yet but was referenced
 
-                for (; depth < Transaction.HASH_SIZE; depth++) {
-                    if (auxBuffer[Transaction.HASH_OFFSET + depth] != hash[depth]) {
-                        return 0;
-                    }
-                }
+        long pointer = transactionPointerCache.get(hash);
+        if (pointer == 0 && !absent(hash)) {
 
-                return auxBuffer[Transaction.TYPE_OFFSET] == PREFILLED_SLOT ? -pointer : pointer;
+            final TransactionShard shard = routedShard(hash);
+            pointer = shard.transactionPointer(hash);
+            if (pointer == 0 && legacy && shard != shards[0]) {
+                pointer = shards[0].transactionPointer(hash);
+            }
+            if (pointer > 0) { // Only writers cache PREFILLED_SLOTs, a reader could cache one the writer has just filled
+                transactionPointerCache.put(hash, pointer);
             }
         }
-        }
-        throw new IllegalStateException("Corrupted storage");
+        return pointer;
+    }
+
+    public TransactionPointerCache transactionPointerCache() {
+        return transactionPointerCache;
     }
 
+    /**
+     * Loads the metadata record of the transaction, the payload is left in the cell until asked for.
+     */
     public Transaction loadTransaction(final long pointer) {
-        synchronized (Storage.class) {
-            ((ByteBuffer)transactionsChunks[(int)(pointer >> 27)].position((int)(pointer & (CHUNK_SIZE - 1)))).get(mainBuffer);
-            return new Transaction(mainBuffer, pointer);
-    	}
+        return shard(pointer).loadTransaction(pointer);
+    }
+
+    /**
+     * Reads a part of the cell, such as the transaction bytes, which isn't kept in the metadata record.
+     */
+    public byte[] loadPayload(final long pointer, final int offset, final int size) {
+        return shard(pointer).loadPayload(pointer, offset, size);
+    }
+
+    boolean filled(final long pointer) { // A FILLED_SLOT below the append pointer of its shard
+
+        final int index = TransactionShard.index(pointer);
+        return pointer > 0 && index < shards.length && shards[index].filled(pointer);
     }
 
     public Transaction loadTransaction(final byte[] hash) {
-        synchronized (Storage.class) {
-            final long pointer = transactionPointer(hash);
-            return pointer > 0 ? loadTransaction(pointer) : null;
-        }
+        final long pointer = transactionPointer(hash);
+        return pointer > 0 ? loadTransaction(pointer) : null;
     }
-    
+
     public void setTransactionValidity(final long pointer, final int validity) {
-        synchronized (Storage.class) {
-            transactionsChunks[(int)(pointer >> 27)].put(((int)(pointer & (CHUNK_SIZE - 1))) + Transaction.VALIDITY_OFFSET, (byte)validity);
-        }
+        shard(pointer).setTransactionValidity(pointer, validity);
+    }
+
+    /**
+     * Tells whether the transaction and all the transactions it references directly or indirectly are stored.
+     */
+    public boolean solid(final long pointer) {
+        return shard(pointer).solid(pointer);
+    }
+
+    void setSolid(final long pointer) {
+        shard(pointer).setSolid(pointer);
     }
-	
+
+    /**
+     * Returns the cumulative weight of the transaction, 1 plus the number of transactions approving it directly or indirectly,
+     * or 0 if it isn't stored. See StorageWeights for how close it is.
+     */
+    public int weight(final long pointer) {
+        return pointer > 0 ? 1 + shard(pointer).weight(pointer) : 0;
+    }
+
+    void addWeight(final long pointer, final int delta) {
+        shard(pointer).addWeight(pointer, delta);
+    }
+
+    /**
+     * Returns the index of the milestone which confirmed the transaction, 0 if none has yet or the ledger hasn't got to it.
+     * Indexes above the one of the ledger state are left by a run which didn't snapshot them and must be ignored.
+     */
+    public int snapshotIndex(final long pointer) {
+        return shard(pointer).snapshotIndex(pointer);
+    }
+
+    public void setSnapshotIndex(final long pointer, final int snapshotIndex) {
+        shard(pointer).setSnapshotIndex(pointer, snapshotIndex);
+    }
+
     public boolean tipFlag(final long pointer) {
-    	synchronized (Storage.class) {
-            final long index = (pointer - (CELLS_OFFSET - SUPER_GROUPS_OFFSET)) >> 11;
-            return (transactionsTipsFlags.get((int)(index >> 3)) & (1 << (index & 7))) != 0;
-        }
+        return shard(pointer).tipFlag(pointer);
+    }
+
+    public void clearTipFlag(final long pointer) {
+        shard(pointer).clearTipFlag(pointer);
     }
-    
+
+    public int numberOfTips() {
+        return numberOfTips;
+    }
+
     public List<Hash> tips() {
-    	synchronized (Storage.class) {
-            final List<Hash> tips = new LinkedList<>();
-    
-            long pointer = CELLS_OFFSET - SUPER_GROUPS_OFFSET;
-            while (pointer < transactionsNextPointer) {
-    
-                if (tipFlag(pointer)) {
-                    tips.add(new Hash(loadTransaction(pointer).hash, 0, Transaction.HASH_SIZE));
+
+        final long[] pointers;
+        synchronized (tipsMonitor) {
+            pointers = Arrays.copyOf(tipPointers, numberOfTips);
+        }
+
+        final List<Hash> tips = new LinkedList<>();
+        for (final long pointer : pointers) {
+            tips.add(new Hash(loadTransaction(pointer).hash, 0, Transaction.HASH_SIZE));
+        }
+        return tips;
+    }
+
+    public long randomTipPointer(final Random random) { // Returns 0 if there are no tips
+
+        synchronized (tipsMonitor) {
+            return numberOfTips == 0 ? 0 : tipPointers[random.nextInt(numberOfTips)];
+        }
+    }
+
+    void addTip(final long pointer) {
+
+        synchronized (tipsMonitor) {
+            if (!tipIndexes.containsKey(pointer)) {
+
+                if (numberOfTips == tipPointers.length) {
+                    tipPointers = Arrays.copyOf(tipPointers, tipPointers.length << 1);
                 }
-                pointer += CELL_SIZE;
+                tipPointers[numberOfTips] = pointer;
+                tipIndexes.put(pointer, numberOfTips++);
             }
-            return tips;
-    	}
+        }
     }
-    
-    public long storeTransaction(final byte[] hash, final Transaction transaction, final boolean tip) { // Returns the pointer or 0 if the transaction was already in the storage and "transaction" value is not null
 
-    	synchronized (Storage.class) {
-        long pointer = ((hash[0] + 128) + ((hash[1] + 128) << 8)) << 11, prevPointer = 0;
+    void removeTip(final long pointer) {
 
-    MAIN_LOOP:
-        for (int depth = 2; depth < Transaction.HASH_SIZE; depth++) {
+        synchronized (tipsMonitor) {
+            final Integer index = tipIndexes.remove(pointer);
+            if (index != null) {
 
-            ((ByteBuffer)transactionsChunks[(int)(pointer >> 27)].position((int)(pointer & (CHUNK_SIZE - 1)))).get(mainBuffer);
+                final long lastPointer = tipPointers[--numberOfTips];
+                if (lastPointer != pointer) {
+                    tipPointers[index] = lastPointer;
+                    tipIndexes.put(lastPointer, index);
+                }
+            }
+        }
+    }
 
-            if (mainBuffer[Transaction.TYPE_OFFSET] == GROUP) {
+    public long storeTransaction(final byte[] hash, final Transaction transaction, final boolean tip) { // Returns the pointer or 0 if the transaction was already in the storage and "transaction" value is not null
 
-                prevPointer = pointer;
-                if ((pointer = value(mainBuffer, (hash[depth] + 128) << 3)) == 0) {
+        if (transaction != null) {
+            if (transactionPointer(hash) > 0) {
+                return 0;
+            }
+            storeApprovedTransactions(transaction);
+        }
 
-                    setValue(mainBuffer, (hash[depth] + 128) << 3, pointer = transactionsNextPointer);
-                    ((ByteBuffer)transactionsChunks[(int)(prevPointer >> 27)].position((int)(prevPointer & (CHUNK_SIZE - 1)))).put(mainBuffer);
+        final long pointer = shard(hash).store(hash, transaction, tip);
+        if (pointer != 0 && transaction != null) {
+            StorageIndexer.instance().index(pointer, transaction);
+        }
+        return pointer;
+    }
 
-                    Transaction.dump(mainBuffer, hash, transaction);
-                    appendToTransactions(transaction != null || tip);
-                    if (transaction != null) {
-                        Storage.instance().updateBundleAddressTagAndApprovers(pointer);
-                    }
+    /**
+     * Stores the transactions in tree order, under a single lock per shard.
+     * Returns the pointers in the order of the list, 0 for the transactions that were already in the storage.
+     */
+    public long[] storeTransactions(final List<Transaction> transactions) {
 
-                    break MAIN_LOOP;
+        final Integer[] order = new Integer[transactions.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (index1, index2) -> { // Signed bytes, as slots are, so consecutive descents share their cells
+            final byte[] hash1 = transactions.get(index1).hash, hash2 = transactions.get(index2).hash;
+            for (int i = 0; i < Transaction.HASH_SIZE; i++) {
+                if (hash1[i] != hash2[i]) {
+                    return hash1[i] - hash2[i];
                 }
+            }
+            return 0;
+        });
+
+        final long[] pointers = new long[order.length];
+        final List<Integer> shardOrder = new ArrayList<>(order.length);
+        for (int i = 0; i < order.length; ) {
+
+            final TransactionShard shard = shard(transactions.get(order[i]).hash);
+            shardOrder.clear();
+            for (; i < order.length && shard(transactions.get(order[i]).hash) == shard; i++) {
+                if (transactionPointer(transactions.get(order[i]).hash) <= 0) {
+                    storeApprovedTransactions(transactions.get(order[i])); // Without the monitor of the shard, the approvees may be in any shard
+                    shardOrder.add(order[i]);
+                }
+            }
 
-            } else {
+            synchronized (shard) {
+                for (final int index : shardOrder) {
+                    pointers[index] = shard.store(transactions.get(index).hash, transactions.get(index), false);
+                }
+            }
+            for (final int index : shardOrder) { // Indexing inline, when the journal is full, may take the monitors of other shards
+                if (pointers[index] != 0) {
+                    StorageIndexer.instance().index(pointers[index], transactions.get(index));
+                }
+            }
+        }
+        return pointers;
+    }
 
-                for (int i = depth; i < Transaction.HASH_SIZE; i++) {
+    private void storeApprovedTransactions(final Transaction transaction) { // Creates PREFILLED_SLOTs for unknown approvees first, so the cell is written with both pointers resolved
 
-                    if (mainBuffer[Transaction.HASH_OFFSET + i] != hash[i]) {
+        transaction.trunkTransactionPointer = storeApprovedTransaction(transaction.trunkTransaction());
+        transaction.branchTransactionPointer = Arrays.equals(transaction.branchTransaction(), transaction.trunkTransaction())
+                ? transaction.trunkTransactionPointer : storeApprovedTransaction(transaction.branchTransaction());
+    }
 
-                        final int differentHashByte = mainBuffer[Transaction.HASH_OFFSET + i];
+    private long storeApprovedTransaction(final byte[] hash) {
 
-                        ((ByteBuffer)transactionsChunks[(int)(prevPointer >> 27)].position((int)(prevPointer & (CHUNK_SIZE - 1)))).get(mainBuffer);
-                        setValue(mainBuffer, (hash[depth - 1] + 128) << 3, transactionsNextPointer);
-                        ((ByteBuffer)transactionsChunks[(int)(prevPointer >> 27)].position((int)(prevPointer & (CHUNK_SIZE - 1)))).put(mainBuffer);
+        final long approvedTransactionPointer = transactionPointer(hash);
+        if (approvedTransactionPointer == 0) {
+            return Math.abs(shard(hash).store(hash, null, false));
+        }
+        clearTipFlag(Math.abs(approvedTransactionPointer));
+        return Math.abs(approvedTransactionPointer);
+    }
 
-                        for (int j = depth; j < i; j++) {
+    /**
+     * Passes the hash of every PREFILLED_SLOT, returns false if interrupted by a shutdown.
+     */
+    boolean prefilledHashes(final Consumer<byte[]> consumer) {
 
-                            emptyMainBuffer();
-                            setValue(mainBuffer, (hash[j] + 128) << 3, transactionsNextPointer + CELL_SIZE);
-                            appendToTransactions(false);
-                        }
+        for (final TransactionShard shard : shards) {
+            if (!shard.prefilledHashes(consumer)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-                        emptyMainBuffer();
-                        setValue(mainBuffer, (differentHashByte + 128) << 3, pointer);
-                        setValue(mainBuffer, (hash[i] + 128) << 3, transactionsNextPointer + CELL_SIZE);
-                        appendToTransactions(false);
+    boolean absent(final byte[] hash) { // True only if the hash is surely not stored
+        return bloomFilterReady && !bloomFilter.mightContain(hash);
+    }
 
-                        Transaction.dump(mainBuffer, hash, transaction);
-                        pointer = transactionsNextPointer;
-                        appendToTransactions(transaction != null || tip);
-                        if (transaction != null) {
-                            Storage.instance().updateBundleAddressTagAndApprovers(pointer);
-                        }
+    void mightBeStored(final byte[] hash) { // Called by the writers before a hash gets published
+        if (bloomFilter != null) {
+            bloomFilter.add(hash);
+        }
+    }
 
-                        break MAIN_LOOP;
-                    }
-                }
+    private void rebuildBloomFilter() { // Hashes stored meanwhile are added by the writers
 
-                if (transaction != null) {
+        log.info("Rebuilding the Bloom filter of {}", TRANSACTIONS_FILE_NAME);
+        final long beginningTime = System.currentTimeMillis();
 
-                    if (mainBuffer[Transaction.TYPE_OFFSET] == PREFILLED_SLOT) {
-                        Transaction.dump(mainBuffer, hash, transaction);
-                        ((ByteBuffer)transactionsChunks[(int)(pointer >> 27)].position((int)(pointer & (CHUNK_SIZE - 1)))).put(mainBuffer);
-                        Storage.instance().updateBundleAddressTagAndApprovers(pointer);
-                    } else {
-                        pointer = 0;
-                    }
-                }
-                break MAIN_LOOP;
+        for (final TransactionShard shard : shards) {
+            if (shuttingDown || !shard.hashes(bloomFilter::add)) {
+                return;
             }
         }
 
-        return pointer;
-    	}
+        bloomFilterReady = true; // Marked complete at the shutdown
+        log.info("Bloom filter of {} rebuilt in {} ms", TRANSACTIONS_FILE_NAME, System.currentTimeMillis() - beginningTime);
     }
 
-    public ByteBuffer transactionsTipsFlags() {
-		return transactionsTipsFlags;
-	}
-    
 	public static StorageTransactions instance() {
 		return instance;
 	}
@@ -273,4 +458,3 @@ public class StorageTransactions extends AbstractStorage {
 		return loadTransaction(transactionPointer(latestMilestone.bytes()));
 	}
 }
-
@@ -0,0 +1,228 @@
+package com.iota.iri.service.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.iota.iri.Milestone;
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+import com.iota.iri.utils.LongIterator;
+import com.iota.iri.utils.PointerSet;
+
+/**
+ * Keeps the weight counters of the stored transactions, in the background and in batches.
+ *
+ * The indexer hands over every transaction once its approvers are indexed, which adds one to the counter
+ * of each transaction it approves directly or indirectly. The walk goes through the window, the future cone
+ * of the latest solid milestone, and stops at the first transaction below it. So the counters are exact
+ * inside the window and the ones below only count the approvers reaching them straight from the window.
+ * The window moves with the milestone and is rebuilt then.
+ *
+ * A transaction stored after some of its approvers keeps what they added while it was a PREFILLED_SLOT,
+ * but passes none of it to its own past. Transactions replayed by the indexer after a crash may be counted twice.
+ *
+ * The indexer waits while the queue is full. What is still left out, the transactions queued at a shutdown,
+ * the ones the window is too big to take and the walks cut at MAX_WALK_LENGTH, is counted and logged
+ * when the window moves and at the shutdown.
+ */
+class StorageWeights {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageWeights.class);
+
+    private static final StorageWeights instance = new StorageWeights();
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_NUMBER_OF_QUEUED_TRANSACTIONS = 100000;
+    private static final int MAX_WINDOW_SIZE = 100000;
+    private static final int MAX_WALK_LENGTH = 10000; // Approved transactions counted per new transaction
+
+    private final BlockingQueue<Long> newTransactions = new ArrayBlockingQueue<>(MAX_NUMBER_OF_QUEUED_TRANSACTIONS);
+
+    private final PointerSet window = new PointerSet(); // Owned by the updater, like the fields below
+    private Hash milestone = Hash.NULL_HASH; // Until a milestone is solid the window is empty
+    private final PointerSet approvedTransactions = new PointerSet();
+    private final Queue<Long> nonAnalyzedTransactions = new ArrayDeque<>();
+
+    private final AtomicLong droppedTransactions = new AtomicLong(); // Queued or batched at a shutdown
+    private long transactionsLeftOutOfWindow; // Owned by the updater
+    private long truncatedWalks;
+
+    private volatile boolean shuttingDown;
+    private Thread updater;
+
+    void init() {
+
+        shuttingDown = false;
+        window.clear(); // Rebuilt from the milestone, the storage may have been reopened
+        milestone = Hash.NULL_HASH;
+        updater = new Thread(this::update, "Cumulative Weights Updater");
+        updater.start();
+    }
+
+    void shutdown() {
+
+        shuttingDown = true;
+        try {
+            updater.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedTransactions.addAndGet(newTransactions.size());
+        newTransactions.clear();
+        logLosses();
+    }
+
+    void transactionIndexed(final long transactionPointer) { // Called once the approvers of the transaction are indexed, waits while the queue is full
+
+        try {
+            while (!newTransactions.offer(transactionPointer, 1, TimeUnit.SECONDS)) {
+                if (shuttingDown) {
+                    droppedTransactions.incrementAndGet();
+                    return;
+                }
+            }
+        } catch (final InterruptedException e) {
+            droppedTransactions.incrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void update() {
+
+        final List<Long> batch = new ArrayList<>(BATCH_SIZE);
+        final Map<Long, Integer> additions = new HashMap<>();
+
+        while (!shuttingDown) {
+
+            try {
+                final Long transactionPointer = newTransactions.poll(1, TimeUnit.SECONDS);
+                if (transactionPointer == null) {
+                    continue;
+                }
+                batch.add(transactionPointer);
+                newTransactions.drainTo(batch, BATCH_SIZE - 1);
+
+                if (!Milestone.latestSolidSubtangleMilestone.equals(milestone)) {
+                    moveWindow(Milestone.latestSolidSubtangleMilestone);
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    if (shuttingDown) {
+                        droppedTransactions.addAndGet(batch.size() - i);
+                        break;
+                    }
+                    countApprovedTransactions(batch.get(i), additions);
+                }
+                for (final Map.Entry<Long, Integer> addition : additions.entrySet()) { // One write per transaction whatever the number of its approvers in the batch
+                    StorageTransactions.instance().addWeight(addition.getKey(), addition.getValue());
+                }
+
+            } catch (final InterruptedException e) {
+                return;
+            } catch (final RuntimeException e) {
+                log.error("Error during cumulative weights updating", e);
+            } finally {
+                batch.clear();
+                additions.clear();
+            }
+        }
+    }
+
+    private void countApprovedTransactions(final long transactionPointer, final Map<Long, Integer> additions) {
+
+        final Transaction transaction = StorageTransactions.instance().loadTransaction(transactionPointer);
+        final long trunkTransactionPointer = Math.abs(transaction.trunkTransactionPointer); // PREFILLED_SLOTs are referenced by negative pointers
+        final long branchTransactionPointer = Math.abs(transaction.branchTransactionPointer);
+        if (window.contains(trunkTransactionPointer) || window.contains(branchTransactionPointer)) {
+            if (window.size() < MAX_WINDOW_SIZE) {
+                window.add(transactionPointer);
+            } else {
+                transactionsLeftOutOfWindow++;
+            }
+        }
+
+        boolean truncated = false;
+        approvedTransactions.clear();
+        nonAnalyzedTransactions.clear();
+        nonAnalyzedTransactions.offer(trunkTransactionPointer);
+        nonAnalyzedTransactions.offer(branchTransactionPointer);
+        Long pointer;
+        while ((pointer = nonAnalyzedTransactions.poll()) != null) {
+
+            if (pointer != 0 && pointer != transactionPointer && approvedTransactions.add(pointer)) { // The genesis approves itself
+
+                additions.merge(pointer, 1, Integer::sum);
+                if (window.contains(pointer)) {
+
+                    if (approvedTransactions.size() < MAX_WALK_LENGTH) {
+                        final Transaction approvedTransaction = StorageTransactions.instance().loadTransaction(pointer);
+                        nonAnalyzedTransactions.offer(Math.abs(approvedTransaction.trunkTransactionPointer));
+                        nonAnalyzedTransactions.offer(Math.abs(approvedTransaction.branchTransactionPointer));
+                    } else {
+                        truncated = true;
+                    }
+                }
+            }
+        }
+        if (truncated) {
+            truncatedWalks++;
+        }
+    }
+
+    private void moveWindow(final Hash latestMilestone) {
+
+        final long beginningTime = System.currentTimeMillis();
+        logLosses();
+        window.clear();
+        final long milestonePointer = StorageTransactions.instance().transactionPointer(latestMilestone.bytes());
+        if (milestonePointer <= 0) { // Tried again with the next batch
+            return;
+        }
+        milestone = latestMilestone;
+
+        nonAnalyzedTransactions.clear();
+        nonAnalyzedTransactions.offer(milestonePointer);
+        Long pointer;
+        while ((pointer = nonAnalyzedTransactions.poll()) != null) {
+
+            if (window.size() >= MAX_WINDOW_SIZE) {
+                log.warn("Cumulative weights window capped at {} transactions, the counters above it are partial", MAX_WINDOW_SIZE);
+                break;
+            }
+            if (window.add(pointer)) {
+
+                final Transaction transaction = StorageTransactions.instance().loadTransaction(pointer);
+                final LongIterator approvers = StorageApprovers.instance().approveeTransactions(StorageApprovers.instance().approveePointer(transaction.hash));
+                while (approvers.hasNext()) {
+                    nonAnalyzedTransactions.offer(approvers.next());
+                }
+            }
+        }
+        log.info("Cumulative weights window moved to {} ({} transactions, {} ms)", latestMilestone, window.size(), System.currentTimeMillis() - beginningTime);
+    }
+
+    private void logLosses() { // Read at the shutdown once the updater is joined
+
+        final long dropped = droppedTransactions.getAndSet(0);
+        if (dropped > 0 || transactionsLeftOutOfWindow > 0 || truncatedWalks > 0) {
+            log.warn("Cumulative weights undercounted: {} transactions not counted, {} left out of the window, {} walks cut at {} transactions",
+                    dropped, transactionsLeftOutOfWindow, truncatedWalks, MAX_WALK_LENGTH);
+            transactionsLeftOutOfWindow = 0;
+            truncatedWalks = 0;
+        }
+    }
+
+    static StorageWeights instance() {
+        return instance;
+    }
+}
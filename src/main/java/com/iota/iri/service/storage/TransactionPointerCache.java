@@ -0,0 +1,127 @@
+package com.iota.iri.service.storage;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.iota.iri.model.Transaction;
+
+/**
+ * Bounded hash to pointer cache in front of the transactions tree.
+ *
+ * Set-associative: a hash can live in one of the WAYS slots of its bucket, a full bucket evicts with CLOCK
+ * (recently hit slots get a second chance). Hashes and pointers are kept in flat primitive arrays,
+ * so lookups don't allocate, and buckets are guarded by a fixed set of striped locks.
+ */
+public class TransactionPointerCache {
+
+    private static final int WAYS = 8;
+    private static final int NUMBER_OF_LOCKS = 64;
+
+    private final int bucketsMask;
+    private final byte[] hashes;
+    private final long[] pointers; // 0 marks an empty slot
+    private final boolean[] referenced;
+    private final byte[] hands;
+    private final Object[] locks = new Object[NUMBER_OF_LOCKS];
+
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+
+    public TransactionPointerCache(final int capacity) {
+
+        int numberOfBuckets = 1;
+        while (numberOfBuckets * WAYS < capacity) {
+            numberOfBuckets <<= 1;
+        }
+        bucketsMask = numberOfBuckets - 1;
+
+        hashes = new byte[numberOfBuckets * WAYS * Transaction.HASH_SIZE];
+        pointers = new long[numberOfBuckets * WAYS];
+        referenced = new boolean[numberOfBuckets * WAYS];
+        hands = new byte[numberOfBuckets];
+        for (int i = 0; i < NUMBER_OF_LOCKS; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Returns the cached pointer or 0 if the hash isn't cached.
+     */
+    public long get(final byte[] hash) {
+
+        final int bucket = bucket(hash);
+        synchronized (locks[bucket & (NUMBER_OF_LOCKS - 1)]) {
+
+            final int slot = slot(bucket, hash);
+            if (slot >= 0) {
+                referenced[slot] = true;
+                hits.increment();
+                return pointers[slot];
+            }
+        }
+        misses.increment();
+        return 0;
+    }
+
+    public void put(final byte[] hash, final long pointer) {
+
+        final int bucket = bucket(hash);
+        synchronized (locks[bucket & (NUMBER_OF_LOCKS - 1)]) {
+
+            int slot = slot(bucket, hash);
+            if (slot < 0) {
+
+                for (int i = bucket * WAYS; i < (bucket + 1) * WAYS; i++) {
+                    if (pointers[i] == 0) {
+                        slot = i;
+                        break;
+                    }
+                }
+                while (slot < 0) {
+
+                    final int candidate = bucket * WAYS + hands[bucket];
+                    hands[bucket] = (byte)((hands[bucket] + 1) & (WAYS - 1));
+                    if (referenced[candidate]) {
+                        referenced[candidate] = false;
+                    } else {
+                        slot = candidate;
+                    }
+                }
+                System.arraycopy(hash, 0, hashes, slot * Transaction.HASH_SIZE, Transaction.HASH_SIZE);
+                referenced[slot] = false;
+            }
+            pointers[slot] = pointer;
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    private int bucket(final byte[] hash) { // The leading bytes of a hash are uniformly distributed, the trailing ones are zeroed by PoW
+        return (((hash[0] & 0xFF) | ((hash[1] & 0xFF) << 8) | ((hash[2] & 0xFF) << 16) | ((hash[3] & 0xFF) << 24)) * 0x9E3779B9) >>> 8 & bucketsMask;
+    }
+
+    private int slot(final int bucket, final byte[] hash) {
+
+        for (int i = bucket * WAYS; i < (bucket + 1) * WAYS; i++) {
+            if (pointers[i] != 0 && equal(i, hash)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean equal(final int slot, final byte[] hash) {
+
+        final int offset = slot * Transaction.HASH_SIZE;
+        for (int i = 0; i < Transaction.HASH_SIZE; i++) {
+            if (hashes[offset + i] != hash[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,409 @@
+package com.iota.iri.service.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.iota.iri.model.Transaction;
+
+/**
+ * One file of the transactions tree, with its own tips flags, metadata records, append pointer and writer lock.
+ *
+ * Pointers handed out carry the index of the shard above SHARD_SHIFT, so they are unique across the shards
+ * and those of shard 0 are the plain file offsets older versions used.
+ */
+class TransactionShard extends TrieStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionShard.class);
+
+    static final int SHARD_SHIFT = 48;
+    private static final long LOCAL_POINTER_MASK = (1L << SHARD_SHIFT) - 1;
+
+    private static final long FIRST_CELL_POINTER = CELLS_OFFSET - SUPER_GROUPS_OFFSET;
+    private static final int METADATA_PER_CHUNK = CHUNK_SIZE / Transaction.METADATA_SIZE;
+
+    private static final ThreadLocal<byte[]> metadataReadBuffer = ThreadLocal.withInitial(() -> new byte[Transaction.METADATA_SIZE]);
+
+    private final StorageTransactions transactions;
+    private final String metadataFileName;
+    private final long shardPointer;
+
+    private ByteBuffer transactionsTipsFlags;
+    private FileChannel metadataChannel;
+    private final AtomicReferenceArray<ByteBuffer> metadataChunks = new AtomicReferenceArray<>(MAX_NUMBER_OF_CHUNKS * CELLS_PER_CHUNK / METADATA_PER_CHUNK);
+    private final byte[] metadataBuffer = new byte[Transaction.METADATA_SIZE]; // Writers only
+    private volatile boolean shuttingDown;
+
+    TransactionShard(final StorageTransactions transactions, final String fileName, final int index) {
+        super(fileName, SUPER_GROUPS_OFFSET);
+        this.transactions = transactions;
+        metadataFileName = fileName + ".meta";
+        shardPointer = (long)index << SHARD_SHIFT;
+    }
+
+    @Override
+    public void init() throws IOException {
+        super.init();
+        transactionsTipsFlags = channel.map(FileChannel.MapMode.READ_WRITE, TIPS_FLAGS_OFFSET, TIPS_FLAGS_SIZE);
+
+        metadataChannel = FileChannel.open(Paths.get(metadataFileName), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (!closedCleanly) { // Records could lag behind their cells, they are rebuilt from the cells as they get loaded
+            metadataChannel.truncate(0);
+        }
+
+        final int tipsFlagsSize = (int)((((nextPointer - FIRST_CELL_POINTER) >> 11) + Long.SIZE - 1) / Long.SIZE) * Long.BYTES;
+        for (int i = 0; i < tipsFlagsSize; i += Long.BYTES) {
+            if (transactionsTipsFlags.getLong(i) != 0) {
+                for (int j = i; j < i + Long.BYTES; j++) {
+                    for (int k = 0; k < Byte.SIZE; k++) {
+                        if ((transactionsTipsFlags.get(j) & (1 << k)) != 0) {
+                            transactions.addTip(shardPointer | (FIRST_CELL_POINTER + (((long)j * Byte.SIZE + k) << 11)));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shuttingDown = true;
+        super.shutdown(); // Flushes the tips flags and the metadata records as well
+        try {
+            metadataChannel.close();
+        } catch (final IOException e) {
+            log.error("Shutting down Transaction Shard metadata error: ", e);
+        }
+    }
+
+    static int index(final long pointer) {
+        return (int)(pointer >>> SHARD_SHIFT);
+    }
+
+    private static long local(final long pointer) {
+        return pointer & LOCAL_POINTER_MASK;
+    }
+
+    long numberOfCells() {
+        return (nextPointer - FIRST_CELL_POINTER) / CELL_SIZE;
+    }
+
+    /**
+     * Returns the pointer, negated for a PREFILLED_SLOT, or 0 if the hash isn't in this shard.
+     */
+    long transactionPointer(final byte[] hash) {
+
+        final long pointer = leafPointer(hash, Transaction.HASH_SIZE);
+        if (pointer == 0) {
+            return 0;
+        }
+        return type(pointer) == PREFILLED_SLOT ? -(shardPointer | pointer) : shardPointer | pointer;
+    }
+
+    /**
+     * Tells whether the pointer leads to a stored transaction, a journal entry replayed after a crash may not.
+     */
+    boolean filled(final long pointer) {
+
+        final long localPointer = local(pointer);
+        return localPointer >= FIRST_CELL_POINTER && localPointer < nextPointer && (localPointer & (CELL_SIZE - 1)) == 0
+                && type(localPointer) == FILLED_SLOT;
+    }
+
+    /**
+     * Loads the metadata record of the transaction, the payload is left in the cell until asked for.
+     */
+    Transaction loadTransaction(final long pointer) {
+
+        final long localPointer = local(pointer);
+        final byte[] metadata = metadataReadBuffer.get();
+        ((ByteBuffer)metadata(localPointer).duplicate().position(metadataOffset(localPointer))).get(metadata);
+        if (metadata[Transaction.METADATA_STATE_OFFSET] != Transaction.METADATA_PRESENT) { // Stored by an older version or not yet recorded by the writer
+
+            final long trunkTransactionPointer = approvedTransactionPointer(localPointer, Transaction.TRUNK_TRANSACTION_POINTER_OFFSET, Transaction.TRUNK_TRANSACTION_OFFSET);
+            final long branchTransactionPointer = approvedTransactionPointer(localPointer, Transaction.BRANCH_TRANSACTION_POINTER_OFFSET, Transaction.BRANCH_TRANSACTION_OFFSET);
+            synchronized (this) {
+
+                ((ByteBuffer)metadata(localPointer).duplicate().position(metadataOffset(localPointer))).get(metadata);
+                if (metadata[Transaction.METADATA_STATE_OFFSET] != Transaction.METADATA_PRESENT) {
+
+                    final byte[] cell = cell(localPointer);
+                    if (cell[Transaction.TYPE_OFFSET] == FILLED_SLOT) { // PREFILLED_SLOTs approve nothing yet
+                        if (value(cell, Transaction.TRUNK_TRANSACTION_POINTER_OFFSET) == 0 && trunkTransactionPointer != 0) {
+                            setValue(cell, Transaction.TRUNK_TRANSACTION_POINTER_OFFSET, trunkTransactionPointer);
+                            setValue(localPointer, Transaction.TRUNK_TRANSACTION_POINTER_OFFSET, trunkTransactionPointer);
+                        }
+                        if (value(cell, Transaction.BRANCH_TRANSACTION_POINTER_OFFSET) == 0 && branchTransactionPointer != 0) {
+                            setValue(cell, Transaction.BRANCH_TRANSACTION_POINTER_OFFSET, branchTransactionPointer);
+                            setValue(localPointer, Transaction.BRANCH_TRANSACTION_POINTER_OFFSET, branchTransactionPointer);
+                        }
+                    }
+                    storeMetadata(localPointer, cell);
+                    System.arraycopy(metadataBuffer, 0, metadata, 0, Transaction.METADATA_SIZE);
+                }
+            }
+        }
+        return new Transaction(metadata, pointer);
+    }
+
+    byte[] loadPayload(final long pointer, final int offset, final int size) {
+        final byte[] payload = new byte[size];
+        ((ByteBuffer)chunk(local(pointer)).duplicate().position(offset(local(pointer)) + offset)).get(payload);
+        return payload;
+    }
+
+    private long approvedTransactionPointer(final long localPointer, final int offset, final int hashOffset) { // Resolves the pointer missing in a cell stored by an older version, before the monitor is taken as it may look into other shards
+
+        if (type(localPointer) != FILLED_SLOT || value(localPointer, offset) != 0) {
+            return 0;
+        }
+        return Math.abs(transactions.transactionPointer(loadPayload(localPointer, hashOffset, Transaction.HASH_SIZE)));
+    }
+
+    private ByteBuffer metadata(final long localPointer) {
+
+        acquire(localPointer);
+        final int index = (int)(((localPointer - FIRST_CELL_POINTER) >> 11) / METADATA_PER_CHUNK);
+        final ByteBuffer metadataChunk = metadataChunks.get(index);
+        if (metadataChunk == null) {
+            final ByteBuffer mappedMetadataChunk; // Without the monitor, mapping the same region twice is harmless
+            try {
+                mappedMetadataChunk = metadataChannel.map(FileChannel.MapMode.READ_WRITE, (long)index * CHUNK_SIZE, CHUNK_SIZE);
+            } catch (final IOException e) {
+                throw new IllegalStateException("Mapping " + metadataFileName + " failed", e);
+            }
+            metadataChunks.compareAndSet(index, null, mappedMetadataChunk);
+            return metadataChunks.get(index);
+        }
+        return metadataChunk;
+    }
+
+    @Override
+    protected void premapped(final long pointer) {
+        metadata(pointer);
+    }
+
+    @Override
+    protected void appended(final long pointer, final byte[] leaf) { // Lets a reader finding the leaf find its record as well
+        storeMetadata(pointer, leaf);
+    }
+
+    private static int metadataOffset(final long localPointer) {
+        return (int)(((localPointer - FIRST_CELL_POINTER) >> 11) % METADATA_PER_CHUNK) * Transaction.METADATA_SIZE;
+    }
+
+    private void storeMetadata(final long localPointer, final byte[] cell) { // Must hold the monitor, the type byte goes last like in the cells
+
+        Transaction.dumpMetadata(metadataBuffer, cell);
+        final ByteBuffer metadataChunk = metadata(localPointer);
+        final int offset = metadataOffset(localPointer);
+        ((ByteBuffer)metadataChunk.duplicate().position(offset + Transaction.METADATA_TYPE_OFFSET + 1)).put(metadataBuffer, Transaction.METADATA_TYPE_OFFSET + 1, Transaction.METADATA_SIZE - Transaction.METADATA_TYPE_OFFSET - 1);
+        metadataChunk.put(offset + Transaction.METADATA_TYPE_OFFSET, metadataBuffer[Transaction.METADATA_TYPE_OFFSET]);
+        dirty(metadataChunk, Transaction.METADATA_SIZE);
+    }
+
+    void setTransactionValidity(final long pointer, final int validity) {
+        setFlag(local(pointer), Transaction.VALIDITY_OFFSET, Transaction.METADATA_VALIDITY_OFFSET, (byte)validity);
+    }
+
+    boolean solid(final long pointer) {
+
+        final long localPointer = local(pointer);
+        final ByteBuffer metadataChunk = metadata(localPointer);
+        if (metadataChunk.get(metadataOffset(localPointer) + Transaction.METADATA_STATE_OFFSET) == Transaction.METADATA_PRESENT) {
+            return metadataChunk.get(metadataOffset(localPointer) + Transaction.METADATA_SOLID_OFFSET) != 0;
+        }
+        return chunk(localPointer).get(offset(localPointer) + Transaction.SOLID_OFFSET) != 0;
+    }
+
+    void setSolid(final long pointer) {
+        setFlag(local(pointer), Transaction.SOLID_OFFSET, Transaction.METADATA_SOLID_OFFSET, (byte)1);
+    }
+
+    int weight(final long pointer) {
+
+        final long localPointer = local(pointer);
+        final ByteBuffer metadataChunk = metadata(localPointer);
+        if (metadataChunk.get(metadataOffset(localPointer) + Transaction.METADATA_STATE_OFFSET) == Transaction.METADATA_PRESENT) {
+            return metadataChunk.getInt(metadataOffset(localPointer) + Transaction.METADATA_WEIGHT_OFFSET);
+        }
+        return chunk(localPointer).getInt(offset(localPointer) + Transaction.WEIGHT_OFFSET);
+    }
+
+    void addWeight(final long pointer, final int delta) {
+
+        final long localPointer = local(pointer);
+        synchronized (this) { // Same as for the flags
+            final int weight = chunk(localPointer).getInt(offset(localPointer) + Transaction.WEIGHT_OFFSET) + delta;
+            chunk(localPointer).putInt(offset(localPointer) + Transaction.WEIGHT_OFFSET, weight);
+            dirty(chunk(localPointer), Integer.BYTES);
+            final ByteBuffer metadataChunk = metadata(localPointer);
+            if (metadataChunk.get(metadataOffset(localPointer) + Transaction.METADATA_STATE_OFFSET) == Transaction.METADATA_PRESENT) {
+                metadataChunk.putInt(metadataOffset(localPointer) + Transaction.METADATA_WEIGHT_OFFSET, weight);
+                dirty(metadataChunk, Integer.BYTES);
+            }
+        }
+    }
+
+    int snapshotIndex(final long pointer) {
+
+        final long localPointer = local(pointer);
+        final ByteBuffer metadataChunk = metadata(localPointer);
+        if (metadataChunk.get(metadataOffset(localPointer) + Transaction.METADATA_STATE_OFFSET) == Transaction.METADATA_PRESENT) {
+            return metadataChunk.getInt(metadataOffset(localPointer) + Transaction.METADATA_SNAPSHOT_INDEX_OFFSET);
+        }
+        return chunk(localPointer).getInt(offset(localPointer) + Transaction.SNAPSHOT_INDEX_OFFSET);
+    }
+
+    void setSnapshotIndex(final long pointer, final int snapshotIndex) {
+
+        final long localPointer = local(pointer);
+        synchronized (this) { // Same as for the flags
+            chunk(localPointer).putInt(offset(localPointer) + Transaction.SNAPSHOT_INDEX_OFFSET, snapshotIndex);
+            dirty(chunk(localPointer), Integer.BYTES);
+            final ByteBuffer metadataChunk = metadata(localPointer);
+            if (metadataChunk.get(metadataOffset(localPointer) + Transaction.METADATA_STATE_OFFSET) == Transaction.METADATA_PRESENT) {
+                metadataChunk.putInt(metadataOffset(localPointer) + Transaction.METADATA_SNAPSHOT_INDEX_OFFSET, snapshotIndex);
+                dirty(metadataChunk, Integer.BYTES);
+            }
+        }
+    }
+
+    private void setFlag(final long localPointer, final int offset, final int metadataOffset, final byte value) {
+
+        synchronized (this) { // Keeps a record being rebuilt from the cell from missing the update
+            chunk(localPointer).put(offset(localPointer) + offset, value);
+            dirty(chunk(localPointer), Byte.BYTES);
+            final ByteBuffer metadataChunk = metadata(localPointer);
+            if (metadataChunk.get(metadataOffset(localPointer) + Transaction.METADATA_STATE_OFFSET) == Transaction.METADATA_PRESENT) {
+                metadataChunk.put(metadataOffset(localPointer) + metadataOffset, value);
+                dirty(metadataChunk, Byte.BYTES);
+            }
+        }
+    }
+
+    boolean tipFlag(final long pointer) {
+        final long index = (local(pointer) - FIRST_CELL_POINTER) >> 11;
+        return (transactionsTipsFlags.get((int)(index >> 3)) & (1 << (index & 7))) != 0;
+    }
+
+    private void setTipFlag(final long localPointer) {
+        final long index = (localPointer - FIRST_CELL_POINTER) >> 11;
+        transactionsTipsFlags.put((int)(index >> 3), (byte)(transactionsTipsFlags.get((int)(index >> 3)) | (1 << (index & 7))));
+        dirty(transactionsTipsFlags, Byte.BYTES);
+        transactions.addTip(shardPointer | localPointer);
+    }
+
+    void clearTipFlag(final long pointer) {
+        synchronized (this) {
+            final long index = (local(pointer) - FIRST_CELL_POINTER) >> 11;
+            transactionsTipsFlags.put((int)(index >> 3), (byte)(transactionsTipsFlags.get((int)(index >> 3)) & (0xFF ^ (1 << (index & 7)))));
+            dirty(transactionsTipsFlags, Byte.BYTES);
+            transactions.removeTip(pointer);
+        }
+    }
+
+    /**
+     * Stores the transaction, or only its hash as a PREFILLED_SLOT if "transaction" is null.
+     * The approvees of the transaction must have been stored already, so its cell is written with both pointers resolved.
+     * Returns the pointer or 0 if the transaction was already in the storage and "transaction" value is not null.
+     */
+    long store(final byte[] hash, final Transaction transaction, final boolean tip) {
+
+        synchronized (this) {
+
+            long pointer = transactions.absent(hash) ? 0 : leafPointer(hash, Transaction.HASH_SIZE);
+            if (pointer == 0) {
+
+                transactions.mightBeStored(hash); // Before the leaf gets published
+                Transaction.dump(mainBuffer, hash, transaction);
+                pointer = insertLeaf(hash, Transaction.HASH_SIZE, mainBuffer); // The metadata record goes along, see appended()
+                transactions.transactionPointerCache().put(hash, transaction == null ? -(shardPointer | pointer) : shardPointer | pointer);
+                if (transaction != null || tip) {
+                    setTipFlag(pointer);
+                }
+                if (transaction == null) {
+                    StorageScratchpad.instance().addTransactionToRequest(hash);
+                }
+
+            } else if (transaction != null) {
+
+                if (type(pointer) == PREFILLED_SLOT) {
+                    final int weight = chunk(pointer).getInt(offset(pointer) + Transaction.WEIGHT_OFFSET); // Counted while its approvers were waiting for it
+                    Transaction.dump(mainBuffer, hash, transaction);
+                    ByteBuffer.wrap(mainBuffer).putInt(Transaction.WEIGHT_OFFSET, weight);
+                    overwrite(pointer, mainBuffer);
+                    storeMetadata(pointer, mainBuffer);
+                    transactions.transactionPointerCache().put(hash, shardPointer | pointer);
+                    StorageScratchpad.instance().removeTransactionToRequest(hash);
+                } else {
+                    return 0;
+                }
+            }
+
+            return shardPointer | pointer;
+        }
+    }
+
+    /**
+     * Stores the genesis, which approves itself, unless it's stored already. Returns its pointer or 0.
+     */
+    long storeGenesis() {
+
+        synchronized (this) {
+            if (leafPointer(new byte[Transaction.HASH_SIZE], Transaction.HASH_SIZE) != 0) {
+                return 0;
+            }
+
+            emptyMainBuffer();
+            mainBuffer[Transaction.TYPE_OFFSET] = FILLED_SLOT;
+            mainBuffer[Transaction.SOLID_OFFSET] = 1; // Approves only itself
+            transactions.mightBeStored(new byte[Transaction.HASH_SIZE]);
+            final long pointer = insertLeaf(new byte[Transaction.HASH_SIZE], Transaction.HASH_SIZE, mainBuffer);
+            setValue(pointer, Transaction.TRUNK_TRANSACTION_POINTER_OFFSET, shardPointer | pointer);
+            setValue(pointer, Transaction.BRANCH_TRANSACTION_POINTER_OFFSET, shardPointer | pointer);
+            storeMetadata(pointer, cell(pointer));
+            setTipFlag(pointer);
+            return shardPointer | pointer;
+        }
+    }
+
+    /**
+     * Passes the hash of every stored cell, returns false if interrupted by a shutdown.
+     */
+    boolean hashes(final Consumer<byte[]> consumer) {
+        return hashes(consumer, false);
+    }
+
+    /**
+     * Passes the hash of every PREFILLED_SLOT, returns false if interrupted by a shutdown.
+     */
+    boolean prefilledHashes(final Consumer<byte[]> consumer) {
+        return hashes(consumer, true);
+    }
+
+    private boolean hashes(final Consumer<byte[]> consumer, final boolean prefilledOnly) {
+
+        final byte[] hash = new byte[Transaction.HASH_SIZE];
+        final long shardNextPointer = nextPointer;
+        for (long pointer = FIRST_CELL_POINTER; pointer < shardNextPointer; pointer += CELL_SIZE) {
+
+            if (shuttingDown) {
+                return false;
+            }
+            final int type = type(pointer);
+            if (prefilledOnly ? type == PREFILLED_SLOT : type != GROUP) {
+                ((ByteBuffer)chunk(pointer).duplicate().position(offset(pointer) + Transaction.HASH_OFFSET)).get(hash);
+                consumer.accept(hash);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,421 @@
+package com.iota.iri.service.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.iota.iri.model.Transaction;
+
+/**
+ * A file of 2048-byte cells organized as 256-ary tree keyed by hash bytes.
+ *
+ * Readers never lock: they use absolute accessors on the mapped chunks and no shared scratch buffers.
+ * Writers of a file are serialized on the storage instance and always publish a new cell
+ * (by writing its pointer into the parent GROUP) only after the cell itself has been written.
+ * As the pointers are plain stores, a volatile published pointer is set in between, which readers check
+ * before reading a cell (see acquire()).
+ *
+ * A GROUP whose subtree shares more key bytes stands for the whole run of single-child GROUPs it replaces:
+ * the number of shared bytes and the bytes themselves are kept in the low bytes of its slots, which are free
+ * as cells are 2048-byte aligned (the low byte of the first slot is the type byte).
+ *
+ * A small header file next to the storage keeps the next pointer as of the last clean shutdown,
+ * the cells are scanned for the first empty one only if the node wasn't stopped cleanly. The record is trusted
+ * only if the file holds the cell it points to and that cell is empty, older versions append without updating it.
+ *
+ * Once half of the last chunk is used, the next one is mapped by a background thread shared by all the files,
+ * so appends cross chunk boundaries without mapping inline unless the thread falls behind.
+ */
+public abstract class TrieStorage extends AbstractStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(TrieStorage.class);
+
+    private static final String HEADER_FILE_EXTENSION = ".header";
+    private static final int NEXT_POINTER_OFFSET = 0, STATE_OFFSET = NEXT_POINTER_OFFSET + Long.BYTES, HEADER_SIZE = STATE_OFFSET + Long.BYTES;
+    private static final long DIRTY = 0, CLEAN = 0x434C45414EL;
+
+    private static final int PREFIX_SIZE_OFFSET = 1 << 3, PREFIX_OFFSET = 2 << 3; // In the low bytes of the slots, one byte per slot
+
+    private static final int PREMAPPING_OFFSET = CHUNK_SIZE / 2;
+    private static final ExecutorService premapper = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Chunk Premapper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final ThreadLocal<byte[]> readBuffer = ThreadLocal.withInitial(() -> new byte[CELL_SIZE]);
+
+    private final String fileName;
+    private final long chunksOffset;
+
+    protected FileChannel channel;
+    private FileChannel headerChannel;
+    private MappedByteBuffer header;
+    private boolean clean;
+    protected boolean closedCleanly; // As of the previous run
+    private final AtomicReferenceArray<ByteBuffer> chunks = new AtomicReferenceArray<>(MAX_NUMBER_OF_CHUNKS); // Published by a volatile store, a reader never sees a chunk before its mapping
+    protected volatile long nextPointer = SUPER_GROUPS_SIZE;
+    private volatile long publishedPointer = SUPER_GROUPS_SIZE; // The cells below were written before it was set
+    private volatile boolean premapping; // Set by the writer, cleared by the premapper
+
+    protected final byte[] mainBuffer = new byte[CELL_SIZE]; // Writers only
+    private final byte[] groupBuffer = new byte[CELL_SIZE];
+
+    protected TrieStorage(final String fileName, final long chunksOffset) {
+        this.fileName = fileName;
+        this.chunksOffset = chunksOffset;
+    }
+
+    @Override
+    public void init() throws IOException {
+
+        channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        chunks.set(0, channel.map(FileChannel.MapMode.READ_WRITE, chunksOffset, SUPER_GROUPS_SIZE));
+
+        headerChannel = FileChannel.open(Paths.get(fileName + HEADER_FILE_EXTENSION), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        header = headerChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+
+        final long recordedNextPointer = value(header, NEXT_POINTER_OFFSET);
+        closedCleanly = value(header, STATE_OFFSET) == CLEAN && recordedNextPointer >= SUPER_GROUPS_SIZE
+                && (recordedNextPointer & (CELL_SIZE - 1)) == 0 && chunksOffset + recordedNextPointer <= channel.size();
+        if (closedCleanly) {
+
+            for (long pointer = CHUNK_SIZE; pointer <= recordedNextPointer; pointer += CHUNK_SIZE) {
+                chunks.set((int)(pointer >> 27), channel.map(FileChannel.MapMode.READ_WRITE, chunksOffset + pointer, CHUNK_SIZE));
+            }
+            if (emptyCell(recordedNextPointer)) {
+                nextPointer = recordedNextPointer;
+            } else { // Cells were appended by a version which doesn't keep the header
+                log.warn("{} was written after its clean shutdown record, ignoring the record", fileName);
+                closedCleanly = false;
+            }
+        }
+        if (!closedCleanly) {
+
+            log.info("{} has no clean shutdown record, looking for the first empty cell", fileName);
+            scan();
+        }
+
+        setValue(header, STATE_OFFSET, DIRTY);
+        header.force();
+        publishedPointer = nextPointer;
+    }
+
+    private void scan() throws IOException {
+
+        final long channelSize = channel.size();
+        while (true) {
+
+            if ((nextPointer & (CHUNK_SIZE - 1)) == 0) {
+
+                if (chunks.get((int)(nextPointer >> 27)) == null) {
+                    chunks.set((int)(nextPointer >> 27), channel.map(FileChannel.MapMode.READ_WRITE, chunksOffset + nextPointer, CHUNK_SIZE));
+                }
+                if (channelSize - nextPointer - chunksOffset > CHUNK_SIZE) { // The chunk is full unless the next one was only premapped
+
+                    chunks.set((int)(nextPointer >> 27) + 1, channel.map(FileChannel.MapMode.READ_WRITE, chunksOffset + nextPointer + CHUNK_SIZE, CHUNK_SIZE));
+                    if (!emptyCell(nextPointer + CHUNK_SIZE)) {
+                        nextPointer += CHUNK_SIZE;
+                        continue;
+                    }
+                }
+            }
+            if (emptyCell(nextPointer)) {
+                break;
+            }
+            nextPointer += CELL_SIZE;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+
+        synchronized (this) {
+
+            log.info("Flushed {} buffers of {}", flushDirtyBuffers(), fileName);
+
+            setValue(header, NEXT_POINTER_OFFSET, nextPointer);
+            setValue(header, STATE_OFFSET, CLEAN);
+            header.force();
+            clean = true;
+        }
+        try {
+            channel.close();
+            headerChannel.close();
+        } catch (final IOException e) {
+            log.error("Shutting down " + fileName + " error: ", e);
+        }
+    }
+
+    public long nextPointer() {
+        return nextPointer;
+    }
+
+    // Lock-free readers
+
+    protected ByteBuffer chunk(final long pointer) {
+        acquire(pointer);
+        return chunks.get((int)(pointer >> 27));
+    }
+
+    /**
+     * Makes the writes done to the cell before it was published visible to the calling thread, which reached it without the monitor.
+     * Reading a published pointer above the cell orders them, a cell reached before its pointer is published is read under the monitor.
+     */
+    protected void acquire(final long pointer) {
+        if (pointer >= publishedPointer) {
+            synchronized (this) { // The writer has linked the cell and left by now
+            }
+        }
+    }
+
+    protected static int offset(final long pointer) {
+        return (int)(pointer & (CHUNK_SIZE - 1));
+    }
+
+    protected static int slot(final int hashByte) {
+        return (hashByte + 128) << 3;
+    }
+
+    protected int type(final long pointer) {
+        return chunk(pointer).get(offset(pointer) + Transaction.TYPE_OFFSET);
+    }
+
+    protected long value(final long pointer, final int offset) {
+        return value(chunk(pointer), offset(pointer) + offset);
+    }
+
+    /**
+     * Copies the cell into a buffer owned by the calling thread, the buffer is reused by the next call.
+     */
+    protected byte[] cell(final long pointer) {
+        final byte[] buffer = readBuffer.get();
+        ((ByteBuffer)chunk(pointer).duplicate().position(offset(pointer))).get(buffer);
+        return buffer;
+    }
+
+    /**
+     * Returns the pointer of the leaf holding the key or 0 if the key is unknown.
+     */
+    protected long leafPointer(final byte[] key, final int keySize) {
+
+        long pointer = ((key[0] + 128) + ((key[1] + 128) << 8)) << 11;
+        for (int depth = 2; depth <= keySize; depth++) { // A GROUP may fork on the last byte, its leaves are then reached at depth keySize
+
+            final ByteBuffer chunk = chunk(pointer);
+            final int offset = offset(pointer);
+            if (chunk.get(offset + Transaction.TYPE_OFFSET) == GROUP) {
+
+                final int prefixSize = chunk.get(offset + PREFIX_SIZE_OFFSET);
+                for (int i = 0; i < prefixSize; i++, depth++) {
+                    if (chunk.get(offset + PREFIX_OFFSET + (i << 3)) != key[depth]) {
+                        return 0;
+                    }
+                }
+                if ((pointer = value(chunk, offset + slot(key[depth])) & -CELL_SIZE) == 0) {
+                    return 0;
+                }
+            } else {
+                for (; depth < keySize; depth++) {
+                    if (chunk.get(offset + Transaction.HASH_OFFSET + depth) != key[depth]) {
+                        return 0;
+                    }
+                }
+                return pointer;
+            }
+        }
+        throw new IllegalStateException("Corrupted storage");
+    }
+
+    // Writers, must hold the monitor of the storage
+
+    protected void emptyMainBuffer() {
+        System.arraycopy(ZEROED_BUFFER, 0, mainBuffer, 0, CELL_SIZE);
+    }
+
+    /**
+     * Acts as a release fence for the lock-free readers, to be called before a pointer to a cell appended so far is written anywhere they look.
+     */
+    protected void publish() {
+        publishedPointer = nextPointer;
+    }
+
+    /**
+     * Called once the leaf is appended, before it becomes reachable, for subclasses to write what readers expect along with it.
+     */
+    protected void appended(final long pointer, final byte[] leaf) {
+    }
+
+    protected long append(final byte[] cell) {
+
+        if (clean) { // Written after shutdown, the recorded next pointer is stale
+            setValue(header, STATE_OFFSET, DIRTY);
+            dirty(header, Long.BYTES);
+            clean = false;
+        }
+
+        final long pointer = nextPointer;
+        ((ByteBuffer)chunks.get((int)(pointer >> 27)).position(offset(pointer))).put(cell);
+        dirty(chunks.get((int)(pointer >> 27)), CELL_SIZE);
+
+        if (offset(pointer) >= PREMAPPING_OFFSET && !premapping && chunks.get((int)(pointer >> 27) + 1) == null) {
+            premapping = true;
+            premapper.execute(() -> premap((int)(pointer >> 27) + 1));
+        }
+        if (((pointer + CELL_SIZE) & (CHUNK_SIZE - 1)) == 0 && chunks.get((int)((pointer + CELL_SIZE) >> 27)) == null) {
+            log.info("Mapping the next chunk of {} inline, the premapper is behind", fileName);
+            try {
+                chunks.set((int)((pointer + CELL_SIZE) >> 27), channel.map(FileChannel.MapMode.READ_WRITE, chunksOffset + pointer + CELL_SIZE, CHUNK_SIZE));
+            } catch (final IOException e) {
+                log.error("Caught exception on appending to " + fileName + ":", e);
+            }
+        }
+        nextPointer = pointer + CELL_SIZE;
+        return pointer;
+    }
+
+    private void premap(final int index) { // Maps without the monitor, takes it only to publish the chunk
+
+        try {
+            final ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_WRITE, chunksOffset + ((long)index << 27), CHUNK_SIZE);
+            synchronized (this) {
+                if (chunks.get(index) == null) {
+                    chunks.set(index, chunk);
+                }
+            }
+            premapped((long)index << 27);
+        } catch (final IOException | IllegalStateException e) {
+            if (channel.isOpen()) {
+                log.error("Caught exception on premapping " + fileName + ":", e);
+            }
+        } finally {
+            premapping = false;
+        }
+    }
+
+    /**
+     * Called by the premapper thread after it has mapped the chunk starting at the pointer, for subclasses to map what goes along.
+     */
+    protected void premapped(final long pointer) {
+    }
+
+    /**
+     * Overwrites a reachable cell, the type byte goes last so readers never take a half-written cell for a complete one.
+     */
+    protected void overwrite(final long pointer, final byte[] cell) {
+        final ByteBuffer chunk = chunks.get((int)(pointer >> 27));
+        ((ByteBuffer)chunk.position(offset(pointer) + Transaction.TYPE_OFFSET + 1)).put(cell, Transaction.TYPE_OFFSET + 1, CELL_SIZE - Transaction.TYPE_OFFSET - 1);
+        chunk.put(offset(pointer) + Transaction.TYPE_OFFSET, cell[Transaction.TYPE_OFFSET]);
+        dirty(chunk, CELL_SIZE);
+    }
+
+    protected void setValue(final long pointer, final int offset, final long value) {
+        setValue(chunks.get((int)(pointer >> 27)), offset(pointer) + offset, value);
+        dirty(chunks.get((int)(pointer >> 27)), Long.BYTES);
+    }
+
+    /**
+     * Appends the leaf and links it into the tree, the key must not be stored yet.
+     */
+    protected long insertLeaf(final byte[] key, final int keySize, final byte[] leaf) {
+
+        long pointer = ((key[0] + 128) + ((key[1] + 128) << 8)) << 11, parentPointer = 0;
+        int parentSlot = 0;
+        for (int depth = 2; depth <= keySize; depth++) { // A GROUP may fork on the last byte, its leaves are then reached at depth keySize
+
+            final ByteBuffer chunk = chunk(pointer);
+            final int offset = offset(pointer);
+            if (chunk.get(offset + Transaction.TYPE_OFFSET) == GROUP) {
+
+                final int prefixSize = chunk.get(offset + PREFIX_SIZE_OFFSET);
+                for (int i = 0; i < prefixSize; i++) {
+
+                    final int differentHashByte = chunk.get(offset + PREFIX_OFFSET + (i << 3));
+                    if (differentHashByte != key[depth + i]) { // Splits the run, the GROUP is replaced by a copy without the bytes in front of the fork
+
+                        final byte[] groupCopy = cell(pointer);
+                        for (int j = 0; j < prefixSize; j++) {
+                            groupCopy[PREFIX_OFFSET + (j << 3)] = j < prefixSize - i - 1 ? groupCopy[PREFIX_OFFSET + ((i + 1 + j) << 3)] : 0;
+                        }
+                        groupCopy[PREFIX_SIZE_OFFSET] = (byte)(prefixSize - i - 1);
+                        final long groupCopyPointer = append(groupCopy);
+
+                        final long branchPointer = appendBranch(key, depth, i, differentHashByte, groupCopyPointer);
+                        final long leafPointer = append(leaf);
+                        appended(leafPointer, leaf);
+                        publish();
+                        setSlot(parentPointer, parentSlot, branchPointer);
+                        return leafPointer;
+                    }
+                }
+
+                depth += prefixSize;
+                parentPointer = pointer;
+                parentSlot = slot(key[depth]);
+                if ((pointer = value(chunk, offset + parentSlot) & -CELL_SIZE) == 0) {
+
+                    final long leafPointer = append(leaf);
+                    appended(leafPointer, leaf);
+                    publish();
+                    setSlot(parentPointer, parentSlot, leafPointer);
+                    return leafPointer;
+                }
+
+            } else {
+
+                for (int i = depth; i < keySize; i++) {
+
+                    final int differentHashByte = chunk.get(offset + Transaction.HASH_OFFSET + i);
+                    if (differentHashByte != key[i]) {
+
+                        final long branchPointer = appendBranch(key, depth, i - depth, differentHashByte, pointer);
+                        final long leafPointer = append(leaf);
+                        appended(leafPointer, leaf);
+                        publish();
+                        setSlot(parentPointer, parentSlot, branchPointer);
+                        return leafPointer;
+                    }
+                }
+                throw new IllegalStateException("Key is already stored");
+            }
+        }
+        throw new IllegalStateException("Corrupted storage");
+    }
+
+    private long appendBranch(final byte[] key, final int depth, final int prefixSize, final int differentHashByte, final long differentPointer) { // The leaf must be appended right after
+
+        System.arraycopy(ZEROED_BUFFER, 0, groupBuffer, 0, CELL_SIZE);
+        setValue(groupBuffer, slot(differentHashByte), differentPointer);
+        setValue(groupBuffer, slot(key[depth + prefixSize]), nextPointer + CELL_SIZE);
+        for (int i = 0; i < prefixSize; i++) {
+            groupBuffer[PREFIX_OFFSET + (i << 3)] = key[depth + i];
+        }
+        groupBuffer[PREFIX_SIZE_OFFSET] = (byte)prefixSize;
+        return append(groupBuffer);
+    }
+
+    private void setSlot(final long pointer, final int slot, final long value) { // Keeps the prefix byte stored along
+        final ByteBuffer chunk = chunks.get((int)(pointer >> 27));
+        setValue(chunk, offset(pointer) + slot, value | (chunk.get(offset(pointer) + slot) & 0xFF));
+        dirty(chunk, Long.BYTES);
+    }
+
+    private boolean emptyCell(final long pointer) {
+        final ByteBuffer chunk = chunks.get((int)(pointer >> 27));
+        for (int offset = offset(pointer); offset < offset(pointer) + CELL_SIZE; offset += Long.BYTES) {
+            if (chunk.getLong(offset) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,192 @@
+package com.iota.iri.utils;
+
+import com.iota.iri.model.Hash;
+
+/**
+ * Balances of addresses in flat arrays, open addressing with linear probing.
+ *
+ * Addresses are read straight out of the byte arrays they come in, so a lookup allocates nothing.
+ * An address keeps its slot when its balance drops to 0. The negative balances are counted as they
+ * appear and disappear, which makes checking the ledger for consistency free. Not thread-safe.
+ *
+ * An overlay holds only the changes to another table, so it costs the size of the changes rather than the size
+ * of the ledger. The table underneath must not be modified while the overlay is in use.
+ */
+public class BalanceTable {
+
+    public static final int ADDRESS_SIZE = Hash.SIZE_IN_BYTES;
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final int MINIMUM_CAPACITY = 1 << 4;
+
+    private final BalanceTable base; // Underneath an overlay, null otherwise
+
+    private byte[] addresses;
+    private long[] balances;
+    private boolean[] used;
+    private int mask;
+    private int size;
+    private int numberOfNegativeBalances; // Relative to the base for an overlay
+
+    public interface Consumer {
+        void accept(byte[] addresses, int offset, long balance);
+    }
+
+    public BalanceTable() {
+        this(null, (INITIAL_CAPACITY >> 1) - 1);
+    }
+
+    public BalanceTable(final int expectedSize) {
+        this(null, expectedSize);
+    }
+
+    private BalanceTable(final BalanceTable base, final int expectedSize) {
+
+        this.base = base;
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity >> 1 <= expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Copies the table, the copy of an overlay shares its base.
+     */
+    public BalanceTable(final BalanceTable other) {
+
+        base = other.base;
+        addresses = other.addresses.clone();
+        balances = other.balances.clone();
+        used = other.used.clone();
+        mask = other.mask;
+        size = other.size;
+        numberOfNegativeBalances = other.numberOfNegativeBalances;
+    }
+
+    /**
+     * Returns an empty table whose balances are the ones of the base until they are changed.
+     */
+    public static BalanceTable overlay(final BalanceTable base) {
+        return new BalanceTable(base, 0);
+    }
+
+    public long balance(final byte[] address, final int offset) {
+
+        final int i = slot(address, offset);
+        return (base == null ? 0 : base.balance(address, offset)) + (used[i] ? balances[i] : 0);
+    }
+
+    public long balance(final Hash address) {
+        return balance(address.bytes(), 0);
+    }
+
+    /**
+     * Returns the new balance of the address.
+     */
+    public long add(final byte[] address, final int offset, final long value) {
+
+        int i = slot(address, offset);
+        if (!used[i]) {
+
+            System.arraycopy(address, offset, addresses, i * ADDRESS_SIZE, ADDRESS_SIZE);
+            used[i] = true;
+            if (++size > (mask >> 1)) {
+                grow();
+                i = slot(address, offset);
+            }
+        }
+
+        final long baseBalance = base == null ? 0 : base.balance(address, offset);
+        final long balance = baseBalance + balances[i];
+        balances[i] += value;
+        if (balance < 0) {
+            numberOfNegativeBalances--;
+        }
+        if (baseBalance + balances[i] < 0) {
+            numberOfNegativeBalances++;
+        }
+        return baseBalance + balances[i];
+    }
+
+    /**
+     * Returns the number of addresses in the table, the changed ones for an overlay.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int numberOfNegativeBalances() {
+        return (base == null ? 0 : base.numberOfNegativeBalances()) + numberOfNegativeBalances;
+    }
+
+    /**
+     * Passes the non-zero balances, the non-zero changes for an overlay. The address is in the array at the offset given.
+     */
+    public void forEach(final Consumer consumer) {
+
+        for (int i = 0; i < used.length; i++) {
+            if (used[i] && balances[i] != 0) {
+                consumer.accept(addresses, i * ADDRESS_SIZE, balances[i]);
+            }
+        }
+    }
+
+    private int slot(final byte[] address, final int offset) { // The slot of the address or the empty one it would go in
+
+        int i = index(address, offset);
+        while (used[i] && !matches(i, address, offset)) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private boolean matches(final int i, final byte[] address, final int offset) {
+
+        for (int j = 0, k = i * ADDRESS_SIZE; j < ADDRESS_SIZE; j++, k++) {
+            if (addresses[k] != address[offset + j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(final byte[] address, final int offset) {
+
+        long key = 0;
+        for (int j = 0; j < Long.BYTES; j++) {
+            key = (key << 8) | (address[offset + j] & 0xFF);
+        }
+        return (int)((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private void allocate(final int capacity) {
+
+        addresses = new byte[capacity * ADDRESS_SIZE];
+        balances = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private void grow() {
+
+        final byte[] oldAddresses = addresses;
+        final long[] oldBalances = balances;
+        final boolean[] oldUsed = used;
+
+        allocate(oldUsed.length << 1);
+
+        for (int j = 0; j < oldUsed.length; j++) {
+            if (oldUsed[j]) {
+
+                int i = index(oldAddresses, j * ADDRESS_SIZE);
+                while (used[i]) {
+                    i = (i + 1) & mask;
+                }
+                System.arraycopy(oldAddresses, j * ADDRESS_SIZE, addresses, i * ADDRESS_SIZE, ADDRESS_SIZE);
+                balances[i] = oldBalances[j];
+                used[i] = true;
+            }
+        }
+    }
+}
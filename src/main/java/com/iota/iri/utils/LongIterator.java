@@ -0,0 +1,16 @@
+package com.iota.iri.utils;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over primitive longs, so callers walking long lists of pointers don't box them.
+ */
+public interface LongIterator {
+
+    boolean hasNext();
+
+    /**
+     * Throws NoSuchElementException if there are no more values.
+     */
+    long next() throws NoSuchElementException;
+}
@@ -0,0 +1,121 @@
+package com.iota.iri.utils;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Set of storage pointers sized to the number of pointers it holds rather than to the storage capacity.
+ *
+ * Slots are stamped with the epoch they were filled in, so clear() only advances the epoch
+ * and a slot with an older stamp counts as empty. Not thread-safe.
+ */
+public class PointerSet {
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private long[] pointers;
+    private int[] epochs;
+    private int mask;
+    private int epoch = 1;
+    private int size;
+
+    public PointerSet() {
+        pointers = new long[INITIAL_CAPACITY];
+        epochs = new int[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+    }
+
+    public boolean contains(final long pointer) {
+
+        for (int i = index(pointer); epochs[i] == epoch; i = (i + 1) & mask) {
+            if (pointers[i] == pointer) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns false if the pointer was already in the set.
+     */
+    public boolean add(final long pointer) {
+
+        int i = index(pointer);
+        for (; epochs[i] == epoch; i = (i + 1) & mask) {
+            if (pointers[i] == pointer) {
+                return false;
+            }
+        }
+        pointers[i] = pointer;
+        epochs[i] = epoch;
+
+        if (++size > (mask >> 1)) {
+            grow();
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+
+        size = 0;
+        if (++epoch == 0) {
+            Arrays.fill(epochs, 0);
+            epoch = 1;
+        }
+    }
+
+    public void forEach(final LongConsumer consumer) {
+
+        for (int i = 0; i < pointers.length; i++) {
+            if (epochs[i] == epoch) {
+                consumer.accept(pointers[i]);
+            }
+        }
+    }
+
+    /**
+     * Replaces the content of this set with the content of the other one.
+     */
+    public void copy(final PointerSet other) {
+
+        if (pointers.length != other.pointers.length) {
+            pointers = new long[other.pointers.length];
+            epochs = new int[other.epochs.length];
+            mask = other.mask;
+        }
+        System.arraycopy(other.pointers, 0, pointers, 0, pointers.length);
+        System.arraycopy(other.epochs, 0, epochs, 0, epochs.length);
+        epoch = other.epoch;
+        size = other.size;
+    }
+
+    private int index(final long pointer) {
+        return (int)((pointer * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private void grow() {
+
+        final long[] oldPointers = pointers;
+        final int[] oldEpochs = epochs;
+
+        pointers = new long[oldPointers.length << 1];
+        epochs = new int[oldEpochs.length << 1];
+        mask = pointers.length - 1;
+
+        for (int j = 0; j < oldPointers.length; j++) {
+            if (oldEpochs[j] == epoch) {
+
+                int i = index(oldPointers[j]);
+                while (epochs[i] == epoch) {
+                    i = (i + 1) & mask;
+                }
+                pointers[i] = oldPointers[j];
+                epochs[i] = epoch;
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.iota.iri;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+import com.iota.iri.service.storage.AbstractStorage;
+import com.iota.iri.service.storage.StorageFixture;
+import com.iota.iri.service.storage.StorageTransactions;
+import com.iota.iri.utils.BalanceTable;
+
+public class SnapshotTest {
+
+	private final Hash address = new Hash(StorageFixture.address());
+	private final Hash otherAddress = new Hash(StorageFixture.address());
+	private Hash milestone;
+	private long milestonePointer;
+	private int genesisMilestoneIndex;
+
+	@Before
+	public void setUp() throws IOException {
+		StorageFixture.open();
+		Snapshot.unload();
+		genesisMilestoneIndex = Snapshot.latest().milestoneIndex;
+		Snapshot.unload();
+		final Transaction transaction = StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS);
+		milestonePointer = StorageFixture.store(transaction);
+		milestone = new Hash(transaction.hash, 0, Transaction.HASH_SIZE);
+	}
+
+	@After
+	public void tearDown() {
+		Snapshot.unload();
+		StorageFixture.close();
+		StorageFixture.delete();
+	}
+
+	private byte[] snapshot(final long milestonePointer, final long... balances) { // The balances go to the address, then the other one
+		final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 2 + Hash.SIZE_IN_BYTES + Long.BYTES
+				+ Integer.BYTES + balances.length * (BalanceTable.ADDRESS_SIZE + Long.BYTES));
+		buffer.putInt(2).putInt(genesisMilestoneIndex + 50).put(milestone.bytes()).putLong(milestonePointer).putInt(balances.length);
+		for (int i = 0; i < balances.length; i++) {
+			buffer.put((i == 0 ? address : otherAddress).bytes()).putLong(balances[i]);
+		}
+		return buffer.array();
+	}
+
+	private static Snapshot load(final byte[] snapshot) throws IOException {
+		Files.write(Paths.get("snapshot.iri"), snapshot);
+		Snapshot.unload();
+		return Snapshot.latest();
+	}
+
+	private void assertGenesis(final byte[] snapshot) throws IOException {
+		assertEquals(genesisMilestoneIndex, load(snapshot).milestoneIndex);
+	}
+
+	@Test
+	public void testSnapshotIsLoaded() throws IOException {
+		final Snapshot snapshot = load(snapshot(milestonePointer, Transaction.SUPPLY - 10, 10));
+		assertEquals(genesisMilestoneIndex + 50, snapshot.milestoneIndex);
+		assertEquals(milestone, snapshot.milestone);
+		assertEquals(Transaction.SUPPLY - 10, snapshot.balances().balance(address));
+		assertEquals(10, snapshot.balances().balance(otherAddress));
+	}
+
+	@Test
+	public void testSavedSnapshotIsLoadedAgain() throws IOException {
+		final BalanceTable balances = new BalanceTable();
+		balances.add(address.bytes(), 0, Transaction.SUPPLY);
+		new Snapshot(milestone, genesisMilestoneIndex + 1, balances).save();
+		Snapshot.unload();
+		final Snapshot snapshot = Snapshot.latest();
+		assertEquals(genesisMilestoneIndex + 1, snapshot.milestoneIndex);
+		assertEquals(Transaction.SUPPLY, snapshot.balances().balance(address));
+	}
+
+	@Test
+	public void testSnapshotWithoutTheSupplyIsRejected() throws IOException {
+		assertGenesis(snapshot(milestonePointer, Transaction.SUPPLY - 10, 9));
+		assertGenesis(snapshot(milestonePointer, Transaction.SUPPLY, 1));
+	}
+
+	@Test
+	public void testSnapshotWithANegativeBalanceIsRejected() throws IOException {
+		assertGenesis(snapshot(milestonePointer, Transaction.SUPPLY + 1, -1));
+	}
+
+	@Test
+	public void testSnapshotOfAnotherStorageIsRejected() throws IOException {
+		assertGenesis(snapshot(milestonePointer + AbstractStorage.CELL_SIZE, Transaction.SUPPLY));
+	}
+
+	@Test
+	public void testSnapshotOfAMissingMilestoneIsRejected() throws IOException {
+		milestone = new Hash(StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS).hash, 0, Transaction.HASH_SIZE);
+		assertGenesis(snapshot(milestonePointer, Transaction.SUPPLY));
+	}
+
+	@Test
+	public void testTruncatedSnapshotIsRejected() throws IOException {
+		final byte[] snapshot = snapshot(milestonePointer, Transaction.SUPPLY);
+		assertGenesis(Arrays.copyOf(snapshot, snapshot.length - 1));
+		assertGenesis(Arrays.copyOf(snapshot, 10));
+	}
+
+	@Test
+	public void testSnapshotWithTrailingBytesIsRejected() throws IOException {
+		final byte[] snapshot = snapshot(milestonePointer, Transaction.SUPPLY);
+		assertGenesis(Arrays.copyOf(snapshot, snapshot.length + 1));
+	}
+
+	@Test
+	public void testSnapshotOfAnUnknownVersionIsRejected() throws IOException {
+		final byte[] snapshot = snapshot(milestonePointer, Transaction.SUPPLY);
+		snapshot[Integer.BYTES - 1] = 3;
+		assertGenesis(snapshot);
+	}
+}
@@ -0,0 +1,146 @@
+package com.iota.iri.service;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.iota.iri.Snapshot;
+import com.iota.iri.conf.Configuration;
+import com.iota.iri.conf.Configuration.DefaultConfSettings;
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+import com.iota.iri.service.storage.StorageFixture;
+import com.iota.iri.service.storage.StorageTransactions;
+
+public class LedgerStateTest {
+
+	private static final int[] NULL_ADDRESS = new int[Transaction.ADDRESS_TRINARY_SIZE];
+
+	private final int[] address = StorageFixture.address();
+	private boolean open;
+	private int genesisMilestoneIndex;
+	private long nullAddressBalance;
+
+	@Before
+	public void setUp() throws IOException {
+		StorageFixture.open();
+		Snapshot.unload();
+		LedgerState.instance().init();
+		open = true;
+		final LedgerState.Balances balances = balances();
+		genesisMilestoneIndex = balances.milestoneIndex;
+		nullAddressBalance = balances.balances.get(1);
+	}
+
+	@After
+	public void tearDown() {
+		if (open) {
+			close();
+		}
+		Snapshot.unload();
+		Configuration.put(DefaultConfSettings.SNAPSHOT_INTERVAL, "100");
+		StorageFixture.delete();
+	}
+
+	private void close() {
+		LedgerState.instance().shutDown();
+		StorageFixture.close();
+		open = false;
+	}
+
+	private LedgerState.Balances balances() {
+		return LedgerState.instance().balances(Arrays.asList(new Hash(address), new Hash(NULL_ADDRESS)));
+	}
+
+	private static Hash hash(final Transaction transaction) {
+		return new Hash(transaction.hash, 0, Transaction.HASH_SIZE);
+	}
+
+	private static int snapshotIndex(final Transaction transaction) {
+		return StorageTransactions.instance().snapshotIndex(StorageTransactions.instance().transactionPointer(transaction.hash));
+	}
+
+	private Transaction transfer(final byte[] trunk, final long value) { // The spend is the milestone, the deposit its trunk
+		final Transaction deposit = StorageFixture.transaction(trunk, StorageFixture.GENESIS, address, value);
+		final Transaction spend = StorageFixture.transaction(deposit.hash, StorageFixture.GENESIS, NULL_ADDRESS, -value);
+		StorageFixture.store(deposit);
+		StorageFixture.store(spend);
+		return spend;
+	}
+
+	private void solidify(final Transaction milestone, final int milestoneIndex) throws InterruptedException {
+		LedgerState.instance().milestoneSolidified(hash(milestone), milestoneIndex);
+		for (int i = 0; i < 500 && balances().milestoneIndex < milestoneIndex; i++) {
+			Thread.sleep(10);
+		}
+		assertEquals(milestoneIndex, balances().milestoneIndex);
+	}
+
+	private void assertBalances(final long value) {
+		final List<Long> balances = balances().balances;
+		assertEquals(value, (long)balances.get(0));
+		assertEquals(nullAddressBalance - value, (long)balances.get(1));
+	}
+
+	@Test
+	public void testMilestonesMoveTheBalancesAndSetTheSnapshotIndexes() throws InterruptedException {
+		final Transaction milestone = transfer(StorageFixture.GENESIS, 10);
+		final long depositPointer = StorageTransactions.instance().loadTransaction(milestone.hash).trunkTransactionPointer;
+		solidify(milestone, genesisMilestoneIndex + 1);
+		assertEquals(hash(milestone), balances().milestone);
+		assertBalances(10);
+		assertEquals(genesisMilestoneIndex + 1, snapshotIndex(milestone));
+		assertEquals(genesisMilestoneIndex + 1, StorageTransactions.instance().snapshotIndex(depositPointer));
+	}
+
+	@Test
+	public void testTransactionsConfirmedEarlierAreNotCountedAgain() throws InterruptedException {
+		final Transaction milestone1 = transfer(StorageFixture.GENESIS, 10);
+		solidify(milestone1, genesisMilestoneIndex + 1);
+		final Transaction milestone2 = transfer(milestone1.hash, 5);
+		solidify(milestone2, genesisMilestoneIndex + 2);
+		assertBalances(15);
+		assertEquals(genesisMilestoneIndex + 1, snapshotIndex(milestone1));
+		assertEquals(genesisMilestoneIndex + 2, snapshotIndex(milestone2));
+	}
+
+	@Test
+	public void testIndexesAboveTheLedgerAreCountedAgain() throws InterruptedException {
+		final Transaction milestone = transfer(StorageFixture.GENESIS, 10);
+		final long pointer = StorageTransactions.instance().transactionPointer(milestone.hash);
+		StorageTransactions.instance().setSnapshotIndex(pointer, genesisMilestoneIndex + 10); // Left by a run whose ledger wasn't saved
+		solidify(milestone, genesisMilestoneIndex + 1);
+		assertBalances(10);
+		assertEquals(genesisMilestoneIndex + 1, snapshotIndex(milestone));
+	}
+
+	@Test
+	public void testSnapshotIsLoadedWithTheIndexesOfItsTransactions() throws IOException, InterruptedException {
+		Configuration.put(DefaultConfSettings.SNAPSHOT_INTERVAL, "1");
+		final Transaction milestone = transfer(StorageFixture.GENESIS, 10);
+		solidify(milestone, genesisMilestoneIndex + 1);
+		final File snapshotFile = new File(StorageFixture.WORKING_DIRECTORY, "snapshot.iri");
+		for (int i = 0; i < 500 && Snapshot.latest().milestoneIndex <= genesisMilestoneIndex; i++) {
+			Thread.sleep(10);
+		}
+		assertTrue(snapshotFile.exists());
+		close();
+
+		StorageFixture.reopen();
+		Snapshot.unload();
+		LedgerState.instance().init();
+		open = true;
+		assertEquals(genesisMilestoneIndex + 1, Snapshot.latest().milestoneIndex);
+		assertEquals(genesisMilestoneIndex + 1, balances().milestoneIndex);
+		assertBalances(10);
+		assertEquals(genesisMilestoneIndex + 1, snapshotIndex(milestone));
+		assertNull(Snapshot.latest().past(StorageTransactions.instance().transactionPointer(milestone.hash)).next()); // All accounted for
+	}
+}
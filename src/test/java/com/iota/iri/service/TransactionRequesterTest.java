@@ -0,0 +1,128 @@
+package com.iota.iri.service;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.iota.iri.Neighbor;
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+import com.iota.iri.service.storage.StorageFixture;
+
+public class TransactionRequesterTest {
+
+	private TransactionRequester requester;
+	private final Neighbor neighbor = new Neighbor(InetSocketAddress.createUnresolved("neighbor", 14600));
+	private final Neighbor otherNeighbor = new Neighbor(InetSocketAddress.createUnresolved("other.neighbor", 14600));
+
+	@Before
+	public void setUp() throws IOException {
+		StorageFixture.open();
+		requester = new TransactionRequester();
+	}
+
+	@After
+	public void tearDown() {
+		Node.instance().getNeighbors().clear();
+		StorageFixture.close();
+		StorageFixture.delete();
+	}
+
+	private static Transaction missing() { // Built but not stored
+		return StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS);
+	}
+
+	private static Hash hash(final Transaction transaction) {
+		return new Hash(transaction.hash, 0, Transaction.HASH_SIZE);
+	}
+
+	private static Transaction store(final Transaction trunk, final Transaction branch) {
+		final Transaction transaction = StorageFixture.transaction(trunk.hash, branch.hash);
+		StorageFixture.store(transaction);
+		return transaction;
+	}
+
+	@Test
+	public void testClosestMissingTransactionsAreRequestedFirst() {
+		final Transaction missing1 = missing(), missing2 = missing(), missing3 = missing();
+		final Transaction milestone = store(missing1, store(missing2, missing3));
+		requester.rank(hash(milestone));
+
+		assertEquals(hash(missing1), requester.rankedTransactionToRequest(neighbor));
+		assertEquals(new HashSet<>(Arrays.asList(hash(missing2), hash(missing3))),
+				new HashSet<>(Arrays.asList(requester.rankedTransactionToRequest(neighbor), requester.rankedTransactionToRequest(neighbor))));
+		assertNull(requester.rankedTransactionToRequest(neighbor));
+	}
+
+	@Test
+	public void testRequestsAreRepeatedAfterTheTimeout() throws InterruptedException {
+		final Transaction missing1 = missing(), missing2 = missing();
+		requester.rank(hash(store(missing1, missing2)));
+		assertEquals(hash(missing1), requester.rankedTransactionToRequest(neighbor));
+		assertEquals(hash(missing2), requester.rankedTransactionToRequest(neighbor));
+		assertNull(requester.rankedTransactionToRequest(neighbor));
+
+		Thread.sleep(TransactionRequester.REQUEST_TIMEOUT + 100);
+		assertEquals(hash(missing1), requester.rankedTransactionToRequest(neighbor));
+		assertEquals(hash(missing2), requester.rankedTransactionToRequest(neighbor));
+	}
+
+	@Test
+	public void testReceivedTransactionsAreNotRequestedAgain() throws InterruptedException {
+		final Transaction missing1 = missing(), missing2 = missing();
+		requester.rank(hash(store(missing1, missing2)));
+		assertEquals(hash(missing1), requester.rankedTransactionToRequest(neighbor));
+		StorageFixture.store(missing2);
+		assertNull(requester.rankedTransactionToRequest(neighbor));
+
+		StorageFixture.store(missing1);
+		Thread.sleep(TransactionRequester.REQUEST_TIMEOUT + 100);
+		assertNull(requester.rankedTransactionToRequest(neighbor));
+	}
+
+	@Test
+	public void testRepeatedRequestsGoToAnotherNeighbor() throws InterruptedException {
+		Node.instance().getNeighbors().addAll(Arrays.asList(neighbor, otherNeighbor));
+		final Transaction missing1 = missing(), missing2 = missing();
+		requester.rank(hash(store(missing1, missing2)));
+		assertEquals(hash(missing1), requester.rankedTransactionToRequest(neighbor));
+		assertEquals(hash(missing2), requester.rankedTransactionToRequest(otherNeighbor));
+
+		Thread.sleep(TransactionRequester.REQUEST_TIMEOUT + 100);
+		assertEquals(hash(missing2), requester.rankedTransactionToRequest(neighbor)); // Skips the one it was asked for
+		assertEquals(hash(missing1), requester.rankedTransactionToRequest(otherNeighbor));
+	}
+
+	@Test
+	public void testTheSameNeighborIsAskedAgainRatherThanForNothing() throws InterruptedException {
+		Node.instance().getNeighbors().addAll(Arrays.asList(neighbor, otherNeighbor));
+		final Transaction missing1 = missing();
+		requester.rank(hash(store(missing1, missing1)));
+		assertEquals(hash(missing1), requester.rankedTransactionToRequest(neighbor));
+
+		Thread.sleep(TransactionRequester.REQUEST_TIMEOUT + 100);
+		assertEquals(hash(missing1), requester.rankedTransactionToRequest(neighbor));
+		assertNull(requester.rankedTransactionToRequest(otherNeighbor)); // Not due yet
+	}
+
+	@Test
+	public void testReceivedTransactionsPassTheirRankOnToTheirMissingApprovees() {
+		final Transaction approvee = missing();
+		final Transaction missing1 = StorageFixture.transaction(approvee.hash, approvee.hash), missing2 = missing(), missing3 = missing();
+		requester.rank(hash(store(missing1, store(missing2, missing3))));
+		assertEquals(hash(missing1), requester.rankedTransactionToRequest(neighbor));
+
+		StorageFixture.store(missing1);
+		requester.transactionReceived(missing1);
+		assertEquals(new HashSet<>(Arrays.asList(hash(missing2), hash(approvee))),
+				new HashSet<>(Arrays.asList(requester.rankedTransactionToRequest(neighbor), requester.rankedTransactionToRequest(neighbor))));
+		assertEquals(hash(missing3), requester.rankedTransactionToRequest(neighbor));
+	}
+}
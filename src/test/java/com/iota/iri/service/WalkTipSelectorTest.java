@@ -0,0 +1,127 @@
+package com.iota.iri.service;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.iota.iri.Snapshot;
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+import com.iota.iri.service.storage.StorageFixture;
+import com.iota.iri.service.storage.StorageTransactions;
+import com.iota.iri.utils.BalanceTable;
+
+public class WalkTipSelectorTest {
+
+	private static final int NUMBER_OF_WALKS = 2000;
+
+	private Transaction entryPoint;
+	private DagWalker confirmedTransactionsWalker;
+	private BalanceTable confirmedState;
+
+	@Before
+	public void setUp() throws IOException, InterruptedException {
+		StorageFixture.open();
+		Snapshot.unload();
+		entryPoint = store(StorageFixture.GENESIS, true);
+		StorageFixture.awaitIndexing();
+		confirmedTransactionsWalker = Snapshot.latest().past(pointer(entryPoint));
+		while (confirmedTransactionsWalker.next() != null) {
+		}
+		confirmedState = Snapshot.latest().overlay();
+	}
+
+	@After
+	public void tearDown() {
+		Snapshot.unload();
+		StorageFixture.close();
+		StorageFixture.delete();
+	}
+
+	private static long pointer(final Transaction transaction) {
+		return StorageTransactions.instance().transactionPointer(transaction.hash);
+	}
+
+	private static Hash hash(final Transaction transaction) {
+		return new Hash(transaction.hash, 0, Transaction.HASH_SIZE);
+	}
+
+	private static Transaction store(final byte[] approvee, final boolean validBundle) {
+		final Transaction transaction = StorageFixture.transaction(approvee, approvee);
+		StorageTransactions.instance().setTransactionValidity(StorageFixture.store(transaction), validBundle ? 1 : -1);
+		return transaction;
+	}
+
+	private static Transaction store(final Transaction approvee, final boolean validBundle, final int weight) { // Approved directly by weight - 1 transactions
+		final Transaction transaction = store(approvee.hash, validBundle);
+		for (int i = 1; i < weight; i++) {
+			store(transaction.hash, true);
+		}
+		return transaction;
+	}
+
+	private static void awaitWeight(final Transaction transaction, final int weight) throws InterruptedException {
+		StorageFixture.awaitIndexing();
+		for (int i = 0; i < 500 && StorageTransactions.instance().weight(pointer(transaction)) < weight; i++) {
+			Thread.sleep(10);
+		}
+		assertEquals(weight, StorageTransactions.instance().weight(pointer(transaction)));
+	}
+
+	private int numberOfWalksEndingOn(final WalkTipSelector tipSelector, final Transaction tail) {
+		int numberOfWalks = 0;
+		for (int i = 0; i < NUMBER_OF_WALKS; i++) {
+			if (tipSelector.tailToApprove(hash(entryPoint), confirmedTransactionsWalker, confirmedState).equals(hash(tail))) {
+				numberOfWalks++;
+			}
+		}
+		return numberOfWalks;
+	}
+
+	@Test
+	public void testStepsAreProportionalToTheExponentialOfTheWeights() throws InterruptedException {
+		final Transaction heavyTail = store(entryPoint, true, 3);
+		final Transaction lightTail = store(entryPoint, true, 1);
+		awaitWeight(heavyTail, 3);
+		awaitWeight(lightTail, 1);
+
+		final double heavyTailProbability = Math.exp(0.5 * 3) / (Math.exp(0.5 * 3) + Math.exp(0.5 * 1));
+		assertEquals(heavyTailProbability, numberOfWalksEndingOn(new WalkTipSelector(0.5, 1), heavyTail) / (double)NUMBER_OF_WALKS, 0.05);
+		assertEquals(0.5, numberOfWalksEndingOn(new WalkTipSelector(0, 1), heavyTail) / (double)NUMBER_OF_WALKS, 0.05);
+	}
+
+	@Test
+	public void testWalksGoOnToTheTips() throws InterruptedException {
+		final Transaction tail = store(entryPoint, true, 1);
+		final Transaction tip = store(tail, true, 1);
+		awaitWeight(tail, 2);
+		assertEquals(hash(tip), new WalkTipSelector(0.5, 10).tailToApprove(hash(entryPoint), confirmedTransactionsWalker, confirmedState));
+		assertEquals(hash(tail), new WalkTipSelector(0.5, 1).tailToApprove(hash(entryPoint), confirmedTransactionsWalker, confirmedState));
+	}
+
+	@Test
+	public void testInconsistentTailsAreLeftOut() throws InterruptedException {
+		final Transaction invalidTail = store(entryPoint, false, 3);
+		final Transaction incompleteTail = StorageFixture.transaction(StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS).hash, entryPoint.hash);
+		StorageTransactions.instance().setTransactionValidity(StorageFixture.store(incompleteTail), 1);
+		for (int i = 0; i < 2; i++) {
+			store(incompleteTail.hash, true);
+		}
+		final Transaction consistentTail = store(entryPoint, true, 1);
+		awaitWeight(invalidTail, 3);
+		awaitWeight(incompleteTail, 3);
+
+		assertEquals(NUMBER_OF_WALKS, numberOfWalksEndingOn(new WalkTipSelector(10, 1), consistentTail));
+	}
+
+	@Test
+	public void testEntryPointIsReturnedWithoutAConsistentTail() throws InterruptedException {
+		final Transaction invalidTail = store(entryPoint, false, 1);
+		awaitWeight(invalidTail, 1);
+		assertEquals(hash(entryPoint), new WalkTipSelector(0.5, 1).tailToApprove(hash(entryPoint), confirmedTransactionsWalker, confirmedState));
+	}
+}
@@ -0,0 +1,219 @@
+package com.iota.iri.service.storage;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.iota.iri.model.Transaction;
+
+public class IndexStorageTest {
+
+	private static final int KEY_SIZE = Transaction.ADDRESS_SIZE;
+	private static final int POINTERS_IN_LEAF = (AbstractStorage.CELL_SIZE - Long.BYTES - AbstractStorage.ZEROTH_POINTER_OFFSET) / Long.BYTES;
+	private static final int POINTERS_IN_CELL = (AbstractStorage.CELL_SIZE - Long.BYTES) / Long.BYTES;
+
+	private Path directory;
+	private KeyIndex index;
+
+	static class KeyIndex extends IndexStorage {
+
+		KeyIndex(final String fileName) {
+			super(fileName, KEY_SIZE);
+		}
+
+		void add(final byte[] key, final long transactionPointer) {
+			update(key, transactionPointer);
+		}
+
+		Cursor cursor(final byte[] key, final long position) {
+			return transactions(pointer(key), position);
+		}
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("index");
+		index = open();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (index != null) {
+			index.shutdown();
+		}
+		FileUtils.deleteDirectory(directory.toFile());
+	}
+
+	private KeyIndex open() throws IOException {
+		final KeyIndex index = new KeyIndex(directory.resolve("keys.iri").toString());
+		index.init();
+		return index;
+	}
+
+	private void reopenAfterACrash() throws IOException {
+		index.shutdown();
+		index = null;
+		try (final FileChannel header = FileChannel.open(directory.resolve("keys.iri.header"), StandardOpenOption.WRITE)) {
+			header.write(ByteBuffer.allocate(2 * Long.BYTES), 0); // As if the node had been killed
+		}
+		index = open();
+		assertFalse(index.closedCleanly);
+	}
+
+	private static byte[] key(final int leadingByte) {
+		final byte[] key = new byte[KEY_SIZE];
+		key[0] = (byte)leadingByte;
+		key[2] = 1;
+		return key;
+	}
+
+	private static long transactionPointer(final int i) {
+		return (i + 1L) * AbstractStorage.CELL_SIZE;
+	}
+
+	private List<Long> addPointers(final byte[] key, final int from, final int to) {
+		final List<Long> pointers = new ArrayList<>();
+		for (int i = from; i < to; i++) {
+			index.add(key, transactionPointer(i));
+			pointers.add(transactionPointer(i));
+		}
+		return pointers;
+	}
+
+	private static List<Long> drain(final IndexStorage.Cursor cursor) {
+		final List<Long> pointers = new ArrayList<>();
+		while (cursor.hasNext()) {
+			pointers.add(cursor.next());
+		}
+		return pointers;
+	}
+
+	@Test
+	public void testCursorListsEveryPointerAcrossCells() {
+		final List<Long> pointers = addPointers(key(1), 0, POINTERS_IN_LEAF + 2 * POINTERS_IN_CELL + 3);
+		assertEquals(pointers, drain(index.cursor(key(1), 0)));
+		assertEquals(pointers.size(), index.numberOfTransactions(index.pointer(key(1))));
+	}
+
+	@Test
+	public void testCursorResumesFromEveryPosition() {
+		final List<Long> pointers = addPointers(key(1), 0, POINTERS_IN_LEAF + POINTERS_IN_CELL + 3);
+		final IndexStorage.Cursor cursor = index.cursor(key(1), 0);
+		for (int i = 0; i <= pointers.size(); i++) {
+			assertEquals(pointers.subList(i, pointers.size()), drain(index.cursor(key(1), cursor.position())));
+			if (i < pointers.size()) {
+				assertEquals((long)pointers.get(i), cursor.next());
+			}
+		}
+		assertFalse(cursor.hasNext());
+	}
+
+	@Test
+	public void testPositionIsNotMovedByLookingAhead() {
+		final List<Long> pointers = addPointers(key(1), 0, 3);
+		final IndexStorage.Cursor cursor = index.cursor(key(1), 0);
+		cursor.next();
+		final long position = cursor.position();
+		assertTrue(cursor.hasNext());
+		assertEquals(position, cursor.position());
+		assertEquals(pointers.subList(1, 3), drain(index.cursor(key(1), position)));
+	}
+
+	@Test
+	public void testCursorResumesAtTheEndOfAFullCell() {
+		final List<Long> pointers = addPointers(key(1), 0, POINTERS_IN_LEAF);
+		final IndexStorage.Cursor cursor = index.cursor(key(1), 0);
+		assertEquals(pointers, drain(cursor));
+		final long position = cursor.position();
+		assertEquals(AbstractStorage.CELL_SIZE - Long.BYTES, position & (AbstractStorage.CELL_SIZE - 1)); // On the link to a cell not appended yet
+		assertTrue(drain(index.cursor(key(1), position)).isEmpty());
+
+		final List<Long> newPointers = addPointers(key(1), POINTERS_IN_LEAF, POINTERS_IN_LEAF + POINTERS_IN_CELL);
+		assertEquals(newPointers, drain(index.cursor(key(1), position)));
+		assertEquals(newPointers, drain(cursor)); // An exhausted cursor sees the new cell too
+
+		final long nextCellPosition = cursor.position();
+		assertEquals(AbstractStorage.CELL_SIZE - Long.BYTES, nextCellPosition & (AbstractStorage.CELL_SIZE - 1));
+		assertNotEquals(position & -AbstractStorage.CELL_SIZE, nextCellPosition & -AbstractStorage.CELL_SIZE);
+		assertEquals(addPointers(key(1), POINTERS_IN_LEAF + POINTERS_IN_CELL, POINTERS_IN_LEAF + POINTERS_IN_CELL + 1), drain(index.cursor(key(1), nextCellPosition)));
+	}
+
+	@Test
+	public void testPositionsSurviveAReopening() throws IOException {
+		final List<Long> pointers = addPointers(key(1), 0, POINTERS_IN_LEAF + 5);
+		final IndexStorage.Cursor cursor = index.cursor(key(1), 0);
+		drain(cursor);
+		final long position = cursor.position();
+		index.shutdown();
+		index = open();
+
+		final List<Long> newPointers = addPointers(key(1), pointers.size(), pointers.size() + POINTERS_IN_CELL);
+		assertEquals(newPointers, drain(index.cursor(key(1), position)));
+	}
+
+	@Test
+	public void testTailsAreRebuiltAfterAnUncleanShutdown() throws IOException {
+		final List<Long> pointers = addPointers(key(1), 0, POINTERS_IN_LEAF + 10);
+		final List<Long> otherPointers = addPointers(key(2), 1000, 1003);
+		reopenAfterACrash();
+
+		assertEquals(pointers.size(), index.numberOfTransactions(index.pointer(key(1))));
+		pointers.addAll(addPointers(key(1), 2000, 2000 + POINTERS_IN_CELL));
+		assertEquals(pointers, drain(index.cursor(key(1), 0)));
+		assertEquals(pointers.size(), index.numberOfTransactions(index.pointer(key(1))));
+
+		otherPointers.addAll(addPointers(key(2), 3000, 3001)); // Rebuilt by the update itself
+		assertEquals(otherPointers, drain(index.cursor(key(2), 0)));
+		assertEquals(otherPointers.size(), index.numberOfTransactions(index.pointer(key(2))));
+	}
+
+	@Test
+	public void testTailOfAFullCellIsRebuilt() throws IOException {
+		final List<Long> pointers = addPointers(key(1), 0, POINTERS_IN_LEAF);
+		reopenAfterACrash();
+
+		pointers.addAll(addPointers(key(1), POINTERS_IN_LEAF, POINTERS_IN_LEAF + 2));
+		assertEquals(pointers, drain(index.cursor(key(1), 0)));
+		assertEquals(pointers.size(), index.numberOfTransactions(index.pointer(key(1))));
+	}
+
+	@Test
+	public void testReplayedPointersAreNotListedTwice() throws IOException {
+		final List<Long> pointers = addPointers(key(1), 0, POINTERS_IN_LEAF + 3);
+		reopenAfterACrash();
+
+		index.add(key(1), pointers.get(pointers.size() - 1)); // Listed before the crash, replayed by the indexer
+		index.add(key(1), pointers.get(0));
+		pointers.addAll(addPointers(key(1), 5000, 5001));
+		assertEquals(pointers, drain(index.cursor(key(1), 0)));
+
+		index.replayed();
+		pointers.addAll(addPointers(key(1), 6000, 6001));
+		assertEquals(pointers, drain(index.cursor(key(1), 0)));
+		assertEquals(pointers.size(), index.numberOfTransactions(index.pointer(key(1))));
+	}
+
+	@Test
+	public void testTailsAreKeptAfterACleanShutdown() throws IOException {
+		final List<Long> pointers = addPointers(key(1), 0, POINTERS_IN_LEAF + 1);
+		index.shutdown();
+		index = open();
+		assertTrue(index.closedCleanly);
+
+		assertEquals(pointers.size(), index.numberOfTransactions(index.pointer(key(1))));
+		pointers.addAll(addPointers(key(1), 7000, 7001));
+		assertEquals(pointers, drain(index.cursor(key(1), 0)));
+	}
+}
@@ -0,0 +1,106 @@
+package com.iota.iri.service.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import com.iota.iri.conf.Configuration;
+import com.iota.iri.conf.Configuration.DefaultConfSettings;
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+import com.iota.iri.utils.Converter;
+
+/**
+ * Opens the whole storage in the working directory and builds transactions to store into it, for the tests.
+ */
+public class StorageFixture {
+
+	public static final File WORKING_DIRECTORY = new File(".");
+	public static final byte[] GENESIS = new byte[Transaction.HASH_SIZE];
+
+	private static final Random random = new Random(1);
+
+	public static void open() throws IOException {
+		if (new File(WORKING_DIRECTORY, "transactions.iri").exists()) {
+			throw new IllegalStateException("A storage is in the working directory");
+		}
+		reopen();
+	}
+
+	public static void reopen() throws IOException {
+		Configuration.put(DefaultConfSettings.TRANSACTION_SHARDS, "1");
+		Storage.instance().init();
+	}
+
+	public static void close() {
+		Storage.instance().shutdown();
+	}
+
+	/**
+	 * Closes the storage and forgets its clean shutdown, as if the node had been killed.
+	 */
+	public static void crash() throws IOException {
+		close();
+		forgetCleanShutdown();
+	}
+
+	/**
+	 * Forgets the clean shutdown of the closed storage, for the tests changing its files in between.
+	 */
+	public static void forgetCleanShutdown() throws IOException {
+		try (final FileChannel header = FileChannel.open(Paths.get("transactions.iri.header"), StandardOpenOption.WRITE)) {
+			header.write(ByteBuffer.allocate(2 * Long.BYTES), 0);
+		}
+	}
+
+	public static void delete() {
+		for (final File file : WORKING_DIRECTORY.listFiles((directory, name) -> name.contains(".iri"))) {
+			file.delete();
+		}
+	}
+
+	public static int[] address() {
+		final int[] address = new int[Transaction.ADDRESS_TRINARY_SIZE];
+		for (int i = 0; i < address.length; i++) {
+			address[i] = random.nextInt(3) - 1;
+		}
+		return address;
+	}
+
+	public static Transaction transaction(final byte[] trunk, final byte[] branch, final int[] address, final long value) {
+
+		final int[] trits = new int[Transaction.TRINARY_SIZE];
+		for (int i = 0; i < trits.length; i++) {
+			trits[i] = random.nextInt(3) - 1;
+		}
+		System.arraycopy(address, 0, trits, Transaction.ADDRESS_TRINARY_OFFSET, Transaction.ADDRESS_TRINARY_SIZE);
+		Converter.copyTrits(value, trits, Transaction.VALUE_TRINARY_OFFSET, Transaction.VALUE_TRINARY_SIZE);
+		for (int i = Transaction.CURRENT_INDEX_TRINARY_OFFSET; i < Transaction.BUNDLE_TRINARY_OFFSET; i++) {
+			trits[i] = 0; // A bundle of one
+		}
+		System.arraycopy(new Hash(trunk, 0, Transaction.HASH_SIZE).trits(), 0, trits, Transaction.TRUNK_TRANSACTION_TRINARY_OFFSET, Transaction.TRUNK_TRANSACTION_TRINARY_SIZE);
+		System.arraycopy(new Hash(branch, 0, Transaction.HASH_SIZE).trits(), 0, trits, Transaction.BRANCH_TRANSACTION_TRINARY_OFFSET, Transaction.BRANCH_TRANSACTION_TRINARY_SIZE);
+		return new Transaction(trits);
+	}
+
+	public static Transaction transaction(final byte[] trunk, final byte[] branch) {
+		return transaction(trunk, branch, address(), 0);
+	}
+
+	public static long store(final Transaction transaction) {
+		return StorageTransactions.instance().storeTransaction(transaction.hash, transaction, false);
+	}
+
+	public static void awaitIndexing() throws InterruptedException {
+		for (int i = 0; i < 500 && StorageIndexer.instance().lag() > 0; i++) {
+			Thread.sleep(10);
+		}
+		if (StorageIndexer.instance().lag() > 0) {
+			throw new AssertionError(StorageIndexer.instance().lag() + " transactions left to index");
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.iota.iri.service.storage;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.iota.iri.model.Transaction;
+
+public class StorageIndexerTest {
+
+	private boolean open;
+
+	@Before
+	public void setUp() throws IOException {
+		StorageFixture.open();
+		open = true;
+	}
+
+	@After
+	public void tearDown() {
+		if (open) {
+			StorageFixture.close();
+		}
+		StorageFixture.delete();
+	}
+
+	private static List<Long> addressTransactions(final Transaction transaction) {
+		final List<Long> pointers = new ArrayList<>();
+		final IndexStorage.Cursor cursor = StorageAddresses.instance().addressTransactions(StorageAddresses.instance().addressPointer(transaction.address));
+		while (cursor.hasNext()) {
+			pointers.add(cursor.next());
+		}
+		return pointers;
+	}
+
+	private static List<Long> storeTransactions(final int[] address, final int number) {
+		final List<Long> pointers = new ArrayList<>();
+		for (int i = 0; i < number; i++) {
+			pointers.add(StorageFixture.store(StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS, address, 0)));
+		}
+		return pointers;
+	}
+
+	private static long[] journalHeader() throws IOException { // Size and watermark
+		final ByteBuffer header = ByteBuffer.allocate(2 * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		try (final FileChannel journal = FileChannel.open(Paths.get("journal.iri"), StandardOpenOption.READ)) {
+			journal.read(header, 0);
+		}
+		return new long[] {header.getLong(0), header.getLong(Long.BYTES)};
+	}
+
+	private static void writeJournal(final List<Long> pointers) throws IOException { // Left unindexed by a previous run
+		final ByteBuffer journal = ByteBuffer.allocate((2 + pointers.size()) * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		journal.putLong(pointers.size()).putLong(0);
+		for (final long pointer : pointers) {
+			journal.putLong(pointer);
+		}
+		journal.flip();
+		try (final FileChannel channel = FileChannel.open(Paths.get("journal.iri"), StandardOpenOption.WRITE)) {
+			channel.write(journal, 0);
+		}
+	}
+
+	@Test
+	public void testTransactionsAreIndexedAndTheJournalIsRewound() throws IOException, InterruptedException {
+		final int[] address = StorageFixture.address();
+		final List<Long> pointers = storeTransactions(address, 20);
+		StorageFixture.awaitIndexing();
+		assertEquals(pointers, addressTransactions(StorageTransactions.instance().loadTransaction(pointers.get(0))));
+
+		StorageIndexer.instance().flushDirtyBuffers();
+		assertArrayEquals(new long[] {0, 0}, journalHeader());
+		assertEquals(0, StorageIndexer.instance().lag());
+	}
+
+	@Test
+	public void testReplayedEntriesAreListedOnce() throws IOException, InterruptedException {
+		final List<Long> pointers = storeTransactions(StorageFixture.address(), 5);
+		StorageFixture.awaitIndexing();
+		final Transaction transaction = StorageTransactions.instance().loadTransaction(pointers.get(0));
+		StorageFixture.close();
+		open = false;
+
+		writeJournal(pointers); // As if the watermark hadn't been persisted
+		StorageFixture.reopen();
+		open = true;
+		StorageFixture.awaitIndexing();
+		assertEquals(pointers, addressTransactions(transaction));
+	}
+
+	@Test
+	public void testReplayedEntriesWithoutATransactionAreSkipped() throws IOException, InterruptedException {
+		final int[] address = StorageFixture.address();
+		final List<Long> pointers = storeTransactions(address, 3);
+		StorageFixture.awaitIndexing();
+		final Transaction transaction = StorageTransactions.instance().loadTransaction(pointers.get(0));
+		final long nextCellPointer = pointers.get(2) + AbstractStorage.CELL_SIZE * 4;
+		StorageFixture.close();
+		open = false;
+
+		final List<Long> journal = new ArrayList<>(pointers);
+		journal.add(1, nextCellPointer); // Written back before its cell
+		journal.add(2, pointers.get(0) + 1); // Not a cell
+		journal.add(3, 1L << 40);
+		writeJournal(journal);
+		StorageFixture.reopen();
+		open = true;
+		StorageFixture.awaitIndexing();
+		assertEquals(pointers, addressTransactions(transaction));
+
+		pointers.addAll(storeTransactions(address, 2)); // The indexer is still running
+		StorageFixture.awaitIndexing();
+		assertEquals(pointers, addressTransactions(transaction));
+	}
+}
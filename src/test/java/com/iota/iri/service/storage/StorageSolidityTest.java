@@ -0,0 +1,124 @@
+package com.iota.iri.service.storage;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.iota.iri.model.Transaction;
+
+public class StorageSolidityTest {
+
+	private boolean open;
+
+	@Before
+	public void setUp() throws IOException, InterruptedException {
+		StorageFixture.open();
+		open = true;
+		awaitSolidityTracking();
+	}
+
+	@After
+	public void tearDown() {
+		if (open) {
+			StorageFixture.close();
+		}
+		StorageFixture.delete();
+	}
+
+	private static void awaitSolidityTracking() throws InterruptedException {
+		for (int i = 0; i < 500 && !Storage.instance().solidityTracked(); i++) {
+			Thread.sleep(10);
+		}
+		assertTrue(Storage.instance().solidityTracked());
+	}
+
+	private static boolean solid(final Transaction transaction) {
+		return StorageTransactions.instance().solid(StorageTransactions.instance().transactionPointer(transaction.hash));
+	}
+
+	private void reopen(final boolean cleanly) throws IOException, InterruptedException {
+		if (!cleanly) {
+			StorageFixture.forgetCleanShutdown();
+		}
+		StorageFixture.reopen();
+		open = true;
+		StorageFixture.awaitIndexing();
+		awaitSolidityTracking();
+	}
+
+	private static void clearSolidFlag(final long pointer) throws IOException { // In the cell, the metadata records are rebuilt after a crash
+		try (final FileChannel transactions = FileChannel.open(Paths.get("transactions.iri"), StandardOpenOption.WRITE)) {
+			transactions.write(ByteBuffer.wrap(new byte[1]), AbstractStorage.SUPER_GROUPS_OFFSET + pointer + Transaction.SOLID_OFFSET);
+		}
+	}
+
+	@Test
+	public void testFlagsPropagateWhenTheMissingApproveeArrives() throws InterruptedException {
+		final Transaction missing = StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS);
+		final Transaction approver = StorageFixture.transaction(missing.hash, StorageFixture.GENESIS);
+		final Transaction indirectApprover = StorageFixture.transaction(approver.hash, approver.hash);
+		final Transaction solidTransaction = StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS);
+		StorageFixture.store(approver);
+		StorageFixture.store(indirectApprover);
+		StorageFixture.store(solidTransaction);
+		StorageFixture.awaitIndexing();
+		assertFalse(solid(approver));
+		assertFalse(solid(indirectApprover));
+		assertTrue(solid(solidTransaction));
+
+		StorageFixture.store(missing);
+		StorageFixture.awaitIndexing();
+		assertTrue(solid(missing));
+		assertTrue(solid(approver));
+		assertTrue(solid(indirectApprover));
+	}
+
+	@Test
+	public void testFlagsSurviveACleanShutdown() throws IOException, InterruptedException {
+		final Transaction transaction = StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS);
+		final Transaction approver = StorageFixture.transaction(transaction.hash, transaction.hash);
+		StorageFixture.store(transaction);
+		StorageFixture.store(approver);
+		StorageFixture.awaitIndexing();
+		StorageFixture.close();
+		open = false;
+
+		reopen(true);
+		assertTrue(new File(StorageFixture.WORKING_DIRECTORY, "solidity.iri").exists());
+		assertTrue(solid(transaction));
+		assertTrue(solid(approver));
+	}
+
+	@Test
+	public void testLostFlagsAreSetAgainAfterAnUncleanShutdown() throws IOException, InterruptedException {
+		final Transaction transaction = StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS);
+		final Transaction approver = StorageFixture.transaction(transaction.hash, transaction.hash);
+		final Transaction indirectApprover = StorageFixture.transaction(approver.hash, StorageFixture.GENESIS);
+		StorageFixture.store(transaction);
+		final long approverPointer = StorageFixture.store(approver);
+		StorageFixture.store(indirectApprover);
+		StorageFixture.awaitIndexing();
+		StorageFixture.close();
+		open = false;
+
+		clearSolidFlag(approverPointer); // Its cell didn't get to the disk, the ones around did
+		reopen(false);
+		assertTrue(solid(transaction));
+		assertTrue(solid(approver));
+		assertTrue(solid(indirectApprover));
+
+		final Transaction newApprover = StorageFixture.transaction(approver.hash, indirectApprover.hash);
+		StorageFixture.store(newApprover);
+		StorageFixture.awaitIndexing();
+		assertTrue(solid(newApprover));
+	}
+}
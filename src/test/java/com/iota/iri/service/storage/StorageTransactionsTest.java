@@ -0,0 +1,95 @@
+package com.iota.iri.service.storage;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.iota.iri.conf.Configuration;
+import com.iota.iri.conf.Configuration.DefaultConfSettings;
+import com.iota.iri.model.Transaction;
+
+public class StorageTransactionsTest { // The storage files live in the working directory
+
+	private static final File WORKING_DIRECTORY = new File(".");
+
+	private StorageTransactions storage;
+
+	@Before
+	public void setUp() {
+		assertFalse("A storage is in the working directory", new File(WORKING_DIRECTORY, "transactions.iri").exists());
+		Configuration.put(DefaultConfSettings.TRANSACTION_SHARDS, "1");
+	}
+
+	@After
+	public void tearDown() {
+		if (storage != null) {
+			storage.shutdown();
+		}
+		Configuration.put(DefaultConfSettings.BLOOM_FILTER_SIZE, "32");
+		for (final File file : WORKING_DIRECTORY.listFiles((directory, name) -> name.startsWith("transactions."))) {
+			file.delete();
+		}
+	}
+
+	private void open(final int bloomFilterSize) throws IOException {
+		Configuration.put(DefaultConfSettings.BLOOM_FILTER_SIZE, String.valueOf(bloomFilterSize));
+		storage = StorageTransactions.instance();
+		storage.init();
+	}
+
+	private void close() {
+		storage.shutdown();
+		storage = null;
+	}
+
+	private static byte[] hash(final int leadingByte) {
+		final byte[] hash = new byte[Transaction.HASH_SIZE];
+		hash[0] = (byte)leadingByte;
+		hash[1] = 1; // Not the genesis
+		return hash;
+	}
+
+	private void awaitBloomFilter() throws InterruptedException {
+		for (int i = 0; i < 100 && !storage.absent(hash(99)); i++) {
+			Thread.sleep(50);
+		}
+		assertTrue(storage.absent(hash(99)));
+	}
+
+	@Test
+	public void testCleanShutdownKeepsTheBloomFilter() throws IOException, InterruptedException {
+		open(1);
+		awaitBloomFilter();
+		storage.storeTransaction(hash(1), null, false);
+		close();
+
+		open(1);
+		assertTrue(storage.absent(hash(99))); // Ready without a rebuild
+		assertFalse(storage.absent(hash(1)));
+	}
+
+	@Test
+	public void testBloomFilterIsRebuiltAfterARunWithoutIt() throws IOException, InterruptedException {
+		open(1);
+		awaitBloomFilter();
+		storage.storeTransaction(hash(1), null, false);
+		close();
+
+		open(0);
+		storage.storeTransaction(hash(2), null, false);
+		close();
+
+		open(1);
+		assertFalse(storage.absent(hash(2)));
+		awaitBloomFilter();
+		assertFalse(storage.absent(hash(1)));
+		assertFalse(storage.absent(hash(2)));
+		assertTrue(storage.transactionPointer(hash(2)) != 0);
+		assertEquals(-storage.transactionPointer(hash(2)), storage.storeTransaction(hash(2), null, false));
+	}
+}
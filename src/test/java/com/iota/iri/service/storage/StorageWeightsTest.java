@@ -0,0 +1,110 @@
+package com.iota.iri.service.storage;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.iota.iri.Milestone;
+import com.iota.iri.model.Hash;
+import com.iota.iri.model.Transaction;
+
+public class StorageWeightsTest {
+
+	@Before
+	public void setUp() throws IOException {
+		StorageFixture.open();
+	}
+
+	@After
+	public void tearDown() {
+		Milestone.latestSolidSubtangleMilestone = Hash.NULL_HASH;
+		StorageFixture.close();
+		StorageFixture.delete();
+	}
+
+	private static Transaction store(final Transaction trunk, final Transaction branch) {
+		final Transaction transaction = StorageFixture.transaction(trunk.hash, branch.hash);
+		StorageFixture.store(transaction);
+		return transaction;
+	}
+
+	private static int weight(final Transaction transaction) {
+		return StorageTransactions.instance().weight(StorageTransactions.instance().transactionPointer(transaction.hash));
+	}
+
+	private static void assertWeights(final int[] weights, final Transaction... transactions) throws InterruptedException {
+		StorageFixture.awaitIndexing();
+		for (int i = 0; i < transactions.length; i++) {
+			for (int j = 0; j < 500 && weight(transactions[i]) < weights[i]; j++) {
+				Thread.sleep(10);
+			}
+		}
+		Thread.sleep(100); // Nothing more is coming
+		for (int i = 0; i < transactions.length; i++) {
+			assertEquals("Transaction " + i, weights[i], weight(transactions[i]));
+		}
+	}
+
+	private static void solidify(final Transaction milestone) {
+		Milestone.latestSolidSubtangleMilestone = new Hash(milestone.hash, 0, Transaction.HASH_SIZE);
+	}
+
+	@Test
+	public void testWithoutAMilestoneOnlyDirectApproversAreCounted() throws InterruptedException {
+		final Transaction transaction = StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS);
+		StorageFixture.store(transaction);
+		final Transaction approver = store(transaction, transaction);
+		final Transaction indirectApprover = store(approver, approver);
+		assertWeights(new int[] {2, 2, 1}, transaction, approver, indirectApprover);
+	}
+
+	@Test
+	public void testWeightsAreExactInsideTheWindow() throws InterruptedException {
+		final Transaction transaction = StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS);
+		StorageFixture.store(transaction);
+		final Transaction milestone = store(transaction, transaction);
+		assertWeights(new int[] {2, 1}, transaction, milestone);
+
+		solidify(milestone);
+		final Transaction approver1 = store(milestone, milestone);
+		final Transaction approver2 = store(approver1, milestone);
+		final Transaction approver3 = store(approver1, approver2); // Reaches approver1 twice
+		final Transaction tip = store(approver3, approver3);
+		assertWeights(new int[] {6, 5, 4, 3, 2, 1}, transaction, milestone, approver1, approver2, approver3, tip);
+	}
+
+	@Test
+	public void testTransactionsOutsideTheWindowCountOnlyTheirDirectApprovers() throws InterruptedException {
+		final Transaction transaction = StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS);
+		StorageFixture.store(transaction);
+		final Transaction milestone = store(transaction, transaction);
+		assertWeights(new int[] {2, 1}, transaction, milestone);
+
+		solidify(milestone);
+		final Transaction sideTransaction = store(transaction, transaction);
+		final Transaction sideApprover = store(sideTransaction, sideTransaction);
+		store(milestone, milestone);
+		assertWeights(new int[] {4, 2, 2, 1}, transaction, milestone, sideTransaction, sideApprover);
+	}
+
+	@Test
+	public void testWindowMovesWithTheMilestone() throws InterruptedException {
+		final Transaction transaction = StorageFixture.transaction(StorageFixture.GENESIS, StorageFixture.GENESIS);
+		StorageFixture.store(transaction);
+		final Transaction milestone1 = store(transaction, transaction);
+		assertWeights(new int[] {2, 1}, transaction, milestone1);
+
+		solidify(milestone1);
+		final Transaction milestone2 = store(milestone1, milestone1);
+		assertWeights(new int[] {3, 2, 1}, transaction, milestone1, milestone2);
+
+		solidify(milestone2);
+		final Transaction approver = store(milestone2, milestone2);
+		final Transaction indirectApprover = store(approver, approver);
+		assertWeights(new int[] {3, 4, 3, 2, 1}, transaction, milestone1, milestone2, approver, indirectApprover); // Below the window from the second milestone on
+	}
+}
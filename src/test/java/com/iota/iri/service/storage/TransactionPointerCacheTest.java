@@ -0,0 +1,78 @@
+package com.iota.iri.service.storage;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.iota.iri.model.Transaction;
+
+public class TransactionPointerCacheTest {
+
+	private static final int WAYS = 8;
+
+	private static byte[] hash(final int distinguishingByte) { // The leading bytes are the same, so all the hashes land in one bucket
+		final byte[] hash = new byte[Transaction.HASH_SIZE];
+		hash[0] = 9;
+		hash[Transaction.HASH_SIZE - 1] = (byte)distinguishingByte;
+		return hash;
+	}
+
+	@Test
+	public void testPutGetAndUpdate() {
+		TransactionPointerCache cache = new TransactionPointerCache(1000);
+		assertEquals(0, cache.get(hash(1)));
+		cache.put(hash(1), -4096);
+		assertEquals(-4096, cache.get(hash(1)));
+		cache.put(hash(1), 4096); // A PREFILLED_SLOT got filled
+		assertEquals(4096, cache.get(hash(1)));
+		assertEquals(2, cache.hits());
+		assertEquals(1, cache.misses());
+	}
+
+	@Test
+	public void testCollidingHashesAreKeptApart() {
+		TransactionPointerCache cache = new TransactionPointerCache(WAYS);
+		for (int i = 1; i <= WAYS; i++) {
+			cache.put(hash(i), i * 2048L);
+		}
+		for (int i = 1; i <= WAYS; i++) {
+			assertEquals(i * 2048L, cache.get(hash(i)));
+		}
+		assertEquals(0, cache.get(hash(WAYS + 1)));
+	}
+
+	@Test
+	public void testClockEvictsTheFirstNotRecentlyHitSlot() {
+		TransactionPointerCache cache = new TransactionPointerCache(WAYS);
+		for (int i = 1; i <= WAYS; i++) {
+			cache.put(hash(i), i * 2048L);
+		}
+		for (int i = 1; i <= WAYS / 2; i++) {
+			cache.get(hash(i));
+		}
+		cache.put(hash(100), 100 * 2048L);
+
+		assertEquals(0, cache.get(hash(WAYS / 2 + 1)));
+		assertEquals(100 * 2048L, cache.get(hash(100)));
+		for (int i = 1; i <= WAYS; i++) {
+			if (i != WAYS / 2 + 1) {
+				assertEquals(i * 2048L, cache.get(hash(i)));
+			}
+		}
+	}
+
+	@Test
+	public void testClockGivesEverySlotASecondChanceWhenAllWereHit() {
+		TransactionPointerCache cache = new TransactionPointerCache(WAYS);
+		for (int i = 1; i <= WAYS; i++) {
+			cache.put(hash(i), i * 2048L);
+			cache.get(hash(i));
+		}
+		cache.put(hash(100), 100 * 2048L);
+		assertEquals(0, cache.get(hash(1)));
+		cache.put(hash(101), 101 * 2048L);
+		assertEquals(0, cache.get(hash(2)));
+		assertEquals(100 * 2048L, cache.get(hash(100)));
+		assertEquals(101 * 2048L, cache.get(hash(101)));
+	}
+}
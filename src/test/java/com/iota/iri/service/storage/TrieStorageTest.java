@@ -0,0 +1,234 @@
+package com.iota.iri.service.storage;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.iota.iri.model.Transaction;
+
+public class TrieStorageTest {
+
+	private static final int KEY_SIZE = Transaction.HASH_SIZE;
+
+	private Path directory;
+	private KeyStorage storage;
+
+	static class KeyStorage extends TrieStorage {
+
+		KeyStorage(final String fileName) {
+			super(fileName, 0);
+		}
+
+		synchronized long insert(final byte[] key) {
+			emptyMainBuffer();
+			mainBuffer[Transaction.TYPE_OFFSET] = FILLED_SLOT;
+			System.arraycopy(key, 0, mainBuffer, Transaction.HASH_OFFSET, key.length);
+			return insertLeaf(key, key.length, mainBuffer);
+		}
+
+		long find(final byte[] key) {
+			return leafPointer(key, key.length);
+		}
+	}
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("trie");
+		storage = open();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (storage != null) {
+			storage.shutdown();
+		}
+		FileUtils.deleteDirectory(directory.toFile());
+	}
+
+	private KeyStorage open() throws IOException {
+		final KeyStorage storage = new KeyStorage(directory.resolve("keys.iri").toString());
+		storage.init();
+		return storage;
+	}
+
+	private KeyStorage reopen() throws IOException {
+		storage.shutdown();
+		storage = null;
+		return storage = open();
+	}
+
+	private static byte[] key(final int... leadingBytes) {
+		final byte[] key = new byte[KEY_SIZE];
+		for (int i = 0; i < leadingBytes.length; i++) {
+			key[i] = (byte)leadingBytes[i];
+		}
+		return key;
+	}
+
+	private static byte[] forkingKey(final int sharedBytes, final int fork) { // Shares the supergroup and then sharedBytes bytes with the other forks
+		final byte[] key = key(5, 5);
+		for (int i = 2; i < 2 + sharedBytes; i++) {
+			key[i] = 7;
+		}
+		key[2 + sharedBytes] = (byte)fork;
+		return key;
+	}
+
+	private void assertAllFound(final List<byte[]> keys) {
+		for (final byte[] key : keys) {
+			assertTrue(storage.find(key) != 0);
+		}
+		for (int i = 0; i < keys.size(); i++) {
+			for (int j = i + 1; j < keys.size(); j++) {
+				assertNotEquals(storage.find(keys.get(i)), storage.find(keys.get(j)));
+			}
+		}
+	}
+
+	private List<byte[]> insertAll(final byte[]... keys) {
+		final List<byte[]> inserted = new ArrayList<>();
+		for (final byte[] key : keys) {
+			assertEquals(0, storage.find(key));
+			storage.insert(key);
+			inserted.add(key);
+		}
+		return inserted;
+	}
+
+	@Test
+	public void testKeysSharingNoByteBelowTheSupergroup() throws IOException {
+		final List<byte[]> keys = insertAll(key(5, 5, 1), key(5, 5, 2), key(5, 5, -128), key(5, 5, 127));
+		assertAllFound(keys);
+		assertEquals(0, storage.find(key(5, 5, 3)));
+		reopen();
+		assertAllFound(keys);
+	}
+
+	@Test
+	public void testKeysSharingOneByte() throws IOException {
+		final List<byte[]> keys = insertAll(forkingKey(1, 1));
+		final long secondKey = storage.nextPointer();
+		keys.addAll(insertAll(forkingKey(1, 2)));
+		assertEquals(secondKey + 2 * AbstractStorage.CELL_SIZE, storage.nextPointer()); // A GROUP with a 1-byte prefix and the leaf
+		keys.addAll(insertAll(forkingKey(1, 3), forkingKey(0, 8)));
+		assertAllFound(keys);
+		assertEquals(0, storage.find(forkingKey(1, 4)));
+		assertEquals(0, storage.find(forkingKey(0, 9)));
+		reopen();
+		assertAllFound(keys);
+	}
+
+	@Test
+	public void testKeysSharingALongPrefixTakeOneGroup() throws IOException {
+		final int sharedBytes = KEY_SIZE - 4;
+		final List<byte[]> keys = insertAll(forkingKey(sharedBytes, 1));
+		final long secondKey = storage.nextPointer();
+		keys.addAll(insertAll(forkingKey(sharedBytes, 2)));
+		assertEquals(secondKey + 2 * AbstractStorage.CELL_SIZE, storage.nextPointer());
+		keys.addAll(insertAll(forkingKey(sharedBytes, -1)));
+		assertEquals(secondKey + 3 * AbstractStorage.CELL_SIZE, storage.nextPointer()); // Just the leaf, the GROUP has a free slot
+
+		final byte[] lastByteFork = forkingKey(sharedBytes, 1);
+		lastByteFork[KEY_SIZE - 1] = 1;
+		keys.addAll(insertAll(lastByteFork));
+		assertAllFound(keys);
+		assertEquals(0, storage.find(forkingKey(sharedBytes, 3)));
+		assertEquals(0, storage.find(forkingKey(sharedBytes - 1, 1)));
+		reopen();
+		assertAllFound(keys);
+	}
+
+	@Test
+	public void testCompressedGroupIsSplit() throws IOException {
+		final int sharedBytes = 20;
+		final List<byte[]> keys = insertAll(forkingKey(sharedBytes, 1), forkingKey(sharedBytes, 2));
+
+		final long split = storage.nextPointer();
+		keys.addAll(insertAll(forkingKey(sharedBytes / 2, 3))); // In the middle of the prefix
+		assertEquals(split + 3 * AbstractStorage.CELL_SIZE, storage.nextPointer()); // The shortened copy, the new GROUP and the leaf
+		keys.addAll(insertAll(forkingKey(sharedBytes / 2 + 1, 4))); // At the first byte of the shortened prefix
+		keys.addAll(insertAll(forkingKey(sharedBytes - 1, 5))); // At its last byte
+		keys.addAll(insertAll(forkingKey(0, 6))); // In front of the first GROUP
+		assertAllFound(keys);
+		for (int sharedByteCount = 0; sharedByteCount <= sharedBytes; sharedByteCount++) {
+			assertEquals(0, storage.find(forkingKey(sharedByteCount, 9)));
+		}
+		reopen();
+		assertAllFound(keys);
+
+		keys.addAll(insertAll(forkingKey(sharedBytes / 2 + 5, 10))); // A GROUP split after the reopening
+		assertAllFound(keys);
+		reopen();
+		assertAllFound(keys);
+	}
+
+	@Test
+	public void testRandomKeysWithSharedPrefixes() throws IOException {
+		final Random random = new Random(42);
+		final List<byte[]> keys = new ArrayList<>();
+		while (keys.size() < 2000) {
+			final byte[] key = keys.isEmpty() || random.nextInt(4) == 0 ? key(5, 5) : keys.get(random.nextInt(keys.size())).clone();
+			for (int i = 2 + random.nextInt(KEY_SIZE - 2); i < KEY_SIZE; i++) { // Keeps a random prefix of an inserted key
+				key[i] = (byte)random.nextInt(random.nextBoolean() ? 4 : 256);
+			}
+			if (storage.find(key) == 0) {
+				storage.insert(key);
+				keys.add(key);
+			}
+		}
+		for (final byte[] key : keys) {
+			assertTrue(storage.find(key) != 0);
+		}
+		reopen();
+		for (final byte[] key : keys) {
+			assertArrayEquals(key, Arrays.copyOfRange(storage.cell(storage.find(key)), Transaction.HASH_OFFSET, Transaction.HASH_OFFSET + KEY_SIZE));
+		}
+	}
+
+	@Test
+	public void testCellsAppendedAfterCleanShutdownAreNotOverwritten() throws IOException {
+		storage.insert(key(1, 2, 3));
+		storage.insert(key(1, 2, 4));
+		final long recordedNextPointer = storage.nextPointer();
+		storage.shutdown();
+		storage = null;
+
+		final ByteBuffer foreignCell = ByteBuffer.allocate(AbstractStorage.CELL_SIZE);
+		foreignCell.put(Transaction.TYPE_OFFSET, (byte)AbstractStorage.FILLED_SLOT).put(Transaction.HASH_OFFSET, (byte)42);
+		try (final FileChannel channel = FileChannel.open(new File(directory.toFile(), "keys.iri").toPath(), StandardOpenOption.WRITE)) {
+			channel.write(foreignCell, recordedNextPointer); // As a version which doesn't keep the header would
+		}
+
+		storage = open();
+		assertFalse(storage.closedCleanly);
+		assertEquals(recordedNextPointer + AbstractStorage.CELL_SIZE, storage.nextPointer());
+		assertNotEquals(recordedNextPointer, storage.insert(key(1, 2, 5)));
+		assertEquals(42, storage.cell(recordedNextPointer)[Transaction.HASH_OFFSET]);
+		assertTrue(storage.find(key(1, 2, 3)) != 0);
+		assertTrue(storage.find(key(1, 2, 5)) != 0);
+	}
+
+	@Test
+	public void testCleanShutdownRecordIsTrusted() throws IOException {
+		storage.insert(key(7, 7, 7));
+		final long nextPointer = storage.nextPointer();
+		reopen();
+		assertTrue(storage.closedCleanly);
+		assertEquals(nextPointer, storage.nextPointer());
+	}
+}
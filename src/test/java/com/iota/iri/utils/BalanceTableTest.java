@@ -0,0 +1,116 @@
+package com.iota.iri.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class BalanceTableTest {
+
+	private static byte[] address(final int i) {
+		final byte[] address = new byte[BalanceTable.ADDRESS_SIZE];
+		address[0] = (byte)i;
+		address[1] = (byte)(i >> 8);
+		address[BalanceTable.ADDRESS_SIZE - 1] = 1;
+		return address;
+	}
+
+	@Test
+	public void testNegativeBalancesAreCounted() {
+		BalanceTable table = new BalanceTable();
+		assertEquals(10, table.add(address(1), 0, 10));
+		assertEquals(0, table.add(address(1), 0, -10));
+		assertEquals(0, table.numberOfNegativeBalances());
+		assertEquals(-1, table.add(address(1), 0, -1));
+		assertEquals(1, table.numberOfNegativeBalances());
+		assertEquals(-3, table.add(address(1), 0, -2));
+		assertEquals(1, table.numberOfNegativeBalances());
+		assertEquals(0, table.add(address(1), 0, 3));
+		assertEquals(0, table.numberOfNegativeBalances());
+		assertEquals(1, table.size()); // Kept at 0
+	}
+
+	@Test
+	public void testOverlayBalanceGoingToZeroAndBelow() {
+		BalanceTable base = new BalanceTable();
+		base.add(address(1), 0, 10);
+		BalanceTable overlay = BalanceTable.overlay(base);
+
+		assertEquals(0, overlay.add(address(1), 0, -10));
+		assertEquals(0, overlay.balance(address(1), 0));
+		assertEquals(0, overlay.numberOfNegativeBalances());
+
+		assertEquals(-1, overlay.add(address(1), 0, -1));
+		assertEquals(1, overlay.numberOfNegativeBalances());
+		assertEquals(0, base.numberOfNegativeBalances());
+		assertEquals(10, base.balance(address(1), 0));
+
+		assertEquals(0, overlay.add(address(1), 0, 1));
+		assertEquals(0, overlay.numberOfNegativeBalances());
+	}
+
+	@Test
+	public void testOverlayOfANegativeBase() {
+		BalanceTable base = new BalanceTable();
+		base.add(address(1), 0, -5);
+		assertEquals(1, base.numberOfNegativeBalances());
+		BalanceTable overlay = BalanceTable.overlay(base);
+		assertEquals(1, overlay.numberOfNegativeBalances());
+
+		assertEquals(0, overlay.add(address(1), 0, 5));
+		assertEquals(0, overlay.numberOfNegativeBalances());
+		assertEquals(-2, overlay.add(address(1), 0, -2));
+		assertEquals(1, overlay.numberOfNegativeBalances());
+		assertEquals(1, base.numberOfNegativeBalances());
+	}
+
+	@Test
+	public void testOverlayOfAnAddressMissingInTheBase() {
+		BalanceTable overlay = BalanceTable.overlay(new BalanceTable());
+		assertEquals(-3, overlay.add(address(2), 0, -3));
+		assertEquals(1, overlay.numberOfNegativeBalances());
+		assertEquals(0, overlay.add(address(2), 0, 3));
+		assertEquals(0, overlay.numberOfNegativeBalances());
+	}
+
+	@Test
+	public void testNestedOverlaysAndCopies() {
+		BalanceTable base = new BalanceTable();
+		base.add(address(1), 0, 10);
+		BalanceTable overlay = BalanceTable.overlay(base);
+		overlay.add(address(1), 0, -10);
+		BalanceTable nestedOverlay = BalanceTable.overlay(overlay);
+		assertEquals(-1, nestedOverlay.add(address(1), 0, -1));
+		assertEquals(1, nestedOverlay.numberOfNegativeBalances());
+		assertEquals(0, overlay.numberOfNegativeBalances());
+
+		BalanceTable copy = new BalanceTable(nestedOverlay);
+		assertEquals(0, copy.add(address(1), 0, 1));
+		assertEquals(0, copy.numberOfNegativeBalances());
+		assertEquals(1, nestedOverlay.numberOfNegativeBalances());
+		assertEquals(-1, nestedOverlay.balance(address(1), 0));
+	}
+
+	@Test
+	public void testOverlayPassesOnlyItsChangesAcrossGrowth() {
+		BalanceTable base = new BalanceTable();
+		for (int i = 0; i < 5000; i++) {
+			base.add(address(i), 0, 1);
+		}
+		BalanceTable overlay = BalanceTable.overlay(base);
+		for (int i = 0; i < 3000; i++) {
+			overlay.add(address(i), 0, i % 3 == 0 ? 0 : -2);
+		}
+		assertEquals(3000, overlay.size());
+		assertEquals(2000, overlay.numberOfNegativeBalances());
+		long[] sum = new long[2];
+		overlay.forEach((addresses, offset, balance) -> {
+			sum[0]++;
+			sum[1] += balance;
+		});
+		assertEquals(2000, sum[0]);
+		assertEquals(-4000, sum[1]);
+		assertEquals(1, overlay.balance(address(3), 0));
+		assertEquals(-1, overlay.balance(address(4), 0));
+		assertEquals(1, overlay.balance(address(4000), 0));
+	}
+}
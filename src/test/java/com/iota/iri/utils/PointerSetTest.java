@@ -0,0 +1,40 @@
+package com.iota.iri.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class PointerSetTest {
+
+	@Test
+	public void testAddAndContainsAcrossGrowth() {
+		PointerSet set = new PointerSet();
+		for (long pointer = 2048; pointer <= 100000 * 2048L; pointer += 2048) {
+			assertTrue(set.add(pointer));
+			assertFalse(set.add(pointer));
+		}
+		assertEquals(100000, set.size());
+		for (long pointer = 2048; pointer <= 100000 * 2048L; pointer += 2048) {
+			assertTrue(set.contains(pointer));
+		}
+		assertFalse(set.contains(100001 * 2048L));
+	}
+
+	@Test
+	public void testClearAndCopy() {
+		PointerSet set = new PointerSet(), copy = new PointerSet();
+		set.add(2048);
+		set.add(-4096);
+		copy.copy(set);
+		set.clear();
+		assertEquals(0, set.size());
+		assertFalse(set.contains(2048));
+		assertTrue(set.add(8192));
+		assertTrue(copy.contains(2048));
+		assertTrue(copy.contains(-4096));
+		assertFalse(copy.contains(8192));
+		set.copy(copy);
+		assertTrue(set.contains(-4096));
+		assertFalse(set.contains(8192));
+	}
+}